@@ -0,0 +1,145 @@
+package taskmanagement.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.service.storage.AttachmentArchiveWriter;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
+
+/**
+ * Time to stream a ZIP of several attachments from a storage that takes a fixed time to open
+ * each file, which is the latency the writer's prefetch is meant to hide.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttachmentArchiveWriterBenchmark {
+
+    private static final int ATTACHMENTS = 10;
+    private static final int ATTACHMENT_BYTES = 256 * 1024;
+
+    @Param({"0", "20"})
+    private long openLatencyMillis;
+
+    private ThreadPoolTaskExecutor prefetchExecutor;
+    private AttachmentArchiveWriter writer;
+    private List<AttachmentArchiveWriter.Entry> entries;
+
+    @Setup
+    public void setUp() {
+        byte[] content = new byte[ATTACHMENT_BYTES];
+        new Random(42).nextBytes(content);
+        prefetchExecutor = new ThreadPoolTaskExecutor();
+        prefetchExecutor.setCorePoolSize(2);
+        prefetchExecutor.initialize();
+        writer = new AttachmentArchiveWriter(new SlowStorage(content, openLatencyMillis),
+                prefetchExecutor);
+        ReflectionTestUtils.setField(writer, "prefetchBytes", 64 * 1024);
+        entries = new ArrayList<>();
+        for (long id = 1; id <= ATTACHMENTS; id++) {
+            entries.add(new AttachmentArchiveWriter.Entry(id, "file-" + id + ".bin",
+                    "/files/" + id, (long) ATTACHMENT_BYTES));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        prefetchExecutor.shutdown();
+    }
+
+    @Benchmark
+    public void writeArchive() throws IOException {
+        writer.write(entries, OutputStream.nullOutputStream());
+    }
+
+    private record SlowStorage(byte[] content, long openLatencyMillis)
+            implements AttachmentStorage {
+
+        @Override
+        public InputStream get(String path) {
+            if (openLatencyMillis > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(openLatencyMillis));
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public InputStream getRange(String path, long offset, long length) {
+            return get(path);
+        }
+
+        @Override
+        public long size(String path) {
+            return content.length;
+        }
+
+        @Override
+        public StoredFile put(String path, InputStream data, long size, String contentHash) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile move(String fromPath, String toPath) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> deleteBatch(List<String> paths) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String startUpload() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void appendChunk(String uploadId,
+                                long offset,
+                                InputStream data,
+                                long length,
+                                boolean last) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StoredFile finishUpload(String uploadId, long size, String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isRemote() {
+            return true;
+        }
+    }
+}
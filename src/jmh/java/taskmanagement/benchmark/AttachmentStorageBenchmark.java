@@ -0,0 +1,78 @@
+package taskmanagement.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.service.storage.ContentHasher;
+import taskmanagement.service.storage.LocalAttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
+
+/**
+ * Time to write a file to local attachment storage and stream it back; MB/s is twice the
+ * file size divided by the reported time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttachmentStorageBenchmark {
+
+    @Param({"1048576", "33554432"})
+    private int fileBytes;
+
+    private Path root;
+    private LocalAttachmentStorage storage;
+    private byte[] content;
+    private String contentHash;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = Files.createTempDirectory("storage-benchmark");
+        storage = new LocalAttachmentStorage();
+        ReflectionTestUtils.setField(storage, "directory", root.toString());
+        storage.init();
+        content = new byte[fileBytes];
+        new Random(42).nextBytes(content);
+        contentHash = ContentHasher.hash(new ByteArrayInputStream(content));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public long putThenGet() throws IOException {
+        StoredFile stored = storage.put("/benchmark/file.bin",
+                new ByteArrayInputStream(content), content.length, contentHash);
+        try (InputStream in = storage.get(stored.path())) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
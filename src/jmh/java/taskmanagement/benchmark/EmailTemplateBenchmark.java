@@ -0,0 +1,47 @@
+package taskmanagement.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import taskmanagement.service.mail.EmailTemplate;
+import taskmanagement.service.mail.EmailTemplates;
+
+/**
+ * Renders per second of the templates sent in bulk by the reminder and assignment jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private final EmailTemplates templates = new EmailTemplates();
+    private final EmailTemplate reminder = templates.get("task_reminder.html");
+    private final EmailTemplate assigned = templates.get("task_assigned.html");
+    private final Map<String, String> values = Map.of(
+            "username", "John",
+            "taskName", "Task X",
+            "projectName", "Project Y",
+            "dueDate", "2025-01-10"
+    );
+
+    @Benchmark
+    public String taskReminder() {
+        return reminder.render(values);
+    }
+
+    @Benchmark
+    public String taskAssigned() {
+        return assigned.render(values);
+    }
+}
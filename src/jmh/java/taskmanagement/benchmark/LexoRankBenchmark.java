@@ -0,0 +1,56 @@
+package taskmanagement.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import taskmanagement.service.rank.LexoRank;
+
+/**
+ * Board moves per second: each move computes one rank between two neighbours of a column.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexoRankBenchmark {
+
+    private final LexoRank lexoRank = new LexoRank();
+
+    @Param({"100", "10000"})
+    private int columnSize;
+
+    private String[] column;
+    private int position;
+
+    @Setup
+    public void setUp() {
+        column = lexoRank.spread(columnSize);
+    }
+
+    @Benchmark
+    public String moveBetweenNeighbours() {
+        position = (position + 1) % (columnSize - 1);
+        return lexoRank.between(column[position], column[position + 1]);
+    }
+
+    @Benchmark
+    public String moveToEnd() {
+        return lexoRank.after(column[columnSize - 1]);
+    }
+
+    @Benchmark
+    public String[] rebalanceColumn() {
+        return lexoRank.spread(columnSize);
+    }
+}
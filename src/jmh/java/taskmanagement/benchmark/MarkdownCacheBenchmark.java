@@ -0,0 +1,63 @@
+package taskmanagement.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.Task;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.markdown.MarkdownRenderer;
+
+/**
+ * Rendering a task description from scratch compared with serving it from the cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkdownCacheBenchmark {
+
+    private static final String DESCRIPTION = """
+            # Release checklist
+            Make sure **every** item is done before tagging:
+
+            - run the [migration guide](https://example.com/docs/migrate?v=2&lang=en)
+            - update `CHANGELOG.md` and *bump* the version
+            - notify the team on the release thread
+            ```
+            ./mvnw -B verify && git tag v2.0.0
+            ```
+            """.repeat(4);
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+    private final MarkdownCache cache = new MarkdownCache(renderer);
+    private final Task task = new Task();
+
+    @Setup
+    public void setUp() {
+        ReflectionTestUtils.setField(cache, "maxBytes", 16L * 1024 * 1024);
+        task.setId(1L);
+        task.setDescription(DESCRIPTION);
+        cache.render(task);
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(DESCRIPTION);
+    }
+
+    @Benchmark
+    public String cacheHit() {
+        return cache.render(task);
+    }
+}
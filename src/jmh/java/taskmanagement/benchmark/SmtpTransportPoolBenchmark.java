@@ -0,0 +1,75 @@
+package taskmanagement.benchmark;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.service.FakeSmtpServer;
+import taskmanagement.service.mail.SmtpTransportPool;
+
+/**
+ * Messages per second sent over a pooled connection to a local SMTP sink, including the
+ * reconnect after each connection's message limit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmtpTransportPoolBenchmark {
+
+    private FakeSmtpServer server;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+    private MimeMessage message;
+
+    @Setup
+    public void setUp() throws IOException, MessagingException {
+        server = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(server.port());
+        pool = new SmtpTransportPool(mailSender);
+        ReflectionTestUtils.setField(pool, "size", 1);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMillis", 30_000L);
+        pool.init();
+        message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@test.com");
+        helper.setTo("user@example.com");
+        helper.setSubject("Task Reminder");
+        helper.setText("<p>Reminder</p>", true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.close();
+        server.close();
+    }
+
+    @Benchmark
+    public void send() throws InterruptedException, MessagingException {
+        SmtpTransportPool.Connection connection = pool.acquire();
+        try {
+            connection.send(message);
+        } finally {
+            pool.release(connection);
+        }
+    }
+}
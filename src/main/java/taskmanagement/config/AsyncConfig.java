@@ -0,0 +1,89 @@
+package taskmanagement.config;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Log4j2
+@EnableAsync
+@Configuration
+public class AsyncConfig {
+
+    @Value("${notification.executor.threads:2}")
+    private int threads;
+
+    @Value("${notification.executor.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${attachment.upload.async.threads:2}")
+    private int uploadThreads;
+
+    @Value("${attachment.upload.async.queue-capacity:100}")
+    private int uploadQueueCapacity;
+
+    @Value("${attachment.thumbnail.threads:1}")
+    private int thumbnailThreads;
+
+    @Value("${attachment.thumbnail.queue-capacity:200}")
+    private int thumbnailQueueCapacity;
+
+    @Value("${mail.smtp.pool.size:3}")
+    private int mailThreads;
+
+    @Value("${task.reminder.threads:4}")
+    private int reminderThreads;
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notification-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Notification queue full, dropping task"));
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("upload-");
+        executor.setCorePoolSize(uploadThreads);
+        executor.setMaxPoolSize(uploadThreads);
+        executor.setQueueCapacity(uploadQueueCapacity);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setCorePoolSize(thumbnailThreads);
+        executor.setMaxPoolSize(thumbnailThreads);
+        executor.setQueueCapacity(thumbnailQueueCapacity);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mail-");
+        executor.setCorePoolSize(mailThreads);
+        executor.setMaxPoolSize(mailThreads);
+        executor.setQueueCapacity(mailThreads);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor reminderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("reminder-");
+        executor.setCorePoolSize(reminderThreads);
+        executor.setMaxPoolSize(reminderThreads);
+        return executor;
+    }
+}
@@ -0,0 +1,51 @@
+package taskmanagement.config;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Moves streaming downloads onto their own executor and gives them a longer timeout. Runs
+ * before the async request starts, so both settings apply to that request only and every
+ * other async handler keeps the MVC defaults.
+ */
+@RequiredArgsConstructor
+public class DownloadAsyncInterceptor implements CallableProcessingInterceptor {
+
+    private final AsyncTaskExecutor downloadExecutor;
+    private final long timeoutMillis;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (!isStreamingDownload(request)) {
+            return;
+        }
+        WebAsyncUtils.getAsyncManager(request).setTaskExecutor(downloadExecutor);
+        if (request instanceof AsyncWebRequest asyncRequest) {
+            asyncRequest.setTimeout(timeoutMillis);
+        }
+    }
+
+    private boolean isStreamingDownload(NativeWebRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (!(handler instanceof HandlerMethod method)) {
+            return false;
+        }
+        ResolvableType type = ResolvableType.forMethodReturnType(method.getMethod());
+        if (ResponseEntity.class.isAssignableFrom(type.toClass())) {
+            type = type.getGeneric();
+        }
+        return StreamingResponseBody.class.isAssignableFrom(type.toClass());
+    }
+}
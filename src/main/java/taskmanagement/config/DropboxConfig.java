@@ -1,24 +1,119 @@
 package taskmanagement.config;
 
 import com.dropbox.core.DbxRequestConfig;
+import com.dropbox.core.http.StandardHttpRequestor;
 import com.dropbox.core.v2.DbxClientV2;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.ResilientAttachmentStorage;
 
 @Configuration
 @Profile("!test")
+@ConditionalOnProperty(name = "attachment.storage.type", havingValue = "dropbox",
+        matchIfMissing = true)
 public class DropboxConfig {
 
+    private static final String CLIENT_IDENTIFIER = "task-management-app-Kar-Gaj";
+    private static final String INSTANCE_NAME = "dropbox";
+
     @Value("${dropbox.access.token}")
     private String accessToken;
 
+    @Value("${dropbox.timeout.connect:5000}")
+    private long connectTimeoutMillis;
+
+    @Value("${dropbox.timeout.api-read:15000}")
+    private long apiReadTimeoutMillis;
+
+    @Value("${dropbox.timeout.content-read:60000}")
+    private long contentReadTimeoutMillis;
+
+    @Value("${dropbox.bulkhead.max-concurrent-calls:16}")
+    private int maxConcurrentCalls;
+
+    @Value("${dropbox.bulkhead.max-wait:250}")
+    private long maxWaitMillis;
+
+    @Value("${dropbox.retry.max-attempts:3}")
+    private int retryMaxAttempts;
+
+    @Value("${dropbox.retry.initial-backoff:200}")
+    private long retryInitialBackoffMillis;
+
+    @Value("${dropbox.retry.jitter:0.5}")
+    private double retryJitter;
+
+    @Value("${dropbox.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${dropbox.circuit-breaker.slow-call-rate-threshold:100}")
+    private float slowCallRateThreshold;
+
+    @Value("${dropbox.circuit-breaker.slow-call-threshold:30000}")
+    private long slowCallThresholdMillis;
+
+    @Value("${dropbox.circuit-breaker.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${dropbox.circuit-breaker.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${dropbox.circuit-breaker.open-duration:30000}")
+    private long openDurationMillis;
+
+    @Value("${dropbox.circuit-breaker.half-open-calls:3}")
+    private int halfOpenCalls;
+
     @Bean
-    public DbxClientV2 dropboxClient() {
-        DbxRequestConfig config = DbxRequestConfig
-                .newBuilder("task-management-app-Kar-Gaj").build();
+    public AttachmentStorage attachmentStorage() {
+        DropboxService dropbox = new DropboxService(createClient(contentReadTimeoutMillis),
+                createClient(apiReadTimeoutMillis));
+        CircuitBreaker circuitBreaker = CircuitBreaker.of(INSTANCE_NAME,
+                CircuitBreakerConfig.custom()
+                        .failureRateThreshold(failureRateThreshold)
+                        .slowCallRateThreshold(slowCallRateThreshold)
+                        .slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMillis))
+                        .slidingWindowSize(slidingWindowSize)
+                        .minimumNumberOfCalls(minimumCalls)
+                        .waitDurationInOpenState(Duration.ofMillis(openDurationMillis))
+                        .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                        .recordException(DropboxService::isTransient)
+                        .build());
+        Bulkhead bulkhead = Bulkhead.of(INSTANCE_NAME, BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMillis))
+                .build());
+        Retry retry = Retry.of(INSTANCE_NAME, RetryConfig.custom()
+                .maxAttempts(retryMaxAttempts)
+                .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(
+                        retryInitialBackoffMillis, 2.0, retryJitter))
+                .retryOnException(DropboxService::isTransient)
+                .build());
+        return new ResilientAttachmentStorage(dropbox, circuitBreaker, bulkhead, retry);
+    }
+
+    private DbxClientV2 createClient(long readTimeoutMillis) {
+        DbxRequestConfig config = DbxRequestConfig.newBuilder(CLIENT_IDENTIFIER)
+                .withHttpRequestor(new StandardHttpRequestor(StandardHttpRequestor.Config
+                        .builder()
+                        .withConnectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .withReadTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .build()))
+                .build();
         return new DbxClientV2(config, accessToken);
     }
 }
-
@@ -0,0 +1,51 @@
+package taskmanagement.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Value("${download.executor.threads:16}")
+    private int threads;
+
+    @Value("${download.executor.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${download.timeout:3600000}")
+    private long timeoutMillis;
+
+    @Value("${attachment.archive.prefetch-threads:8}")
+    private int prefetchThreads;
+
+    @Bean
+    public ThreadPoolTaskExecutor downloadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("download-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor archivePrefetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("archive-prefetch-");
+        executor.setCorePoolSize(prefetchThreads);
+        executor.setMaxPoolSize(prefetchThreads);
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(
+                new DownloadAsyncInterceptor(downloadExecutor(), timeoutMillis));
+    }
+}
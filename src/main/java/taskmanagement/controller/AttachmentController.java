@@ -1,26 +1,41 @@
 package taskmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagement.dto.attachment.AttachmentCacheStatsDto;
 import taskmanagement.dto.attachment.AttachmentResponseDto;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+import taskmanagement.dto.attachment.UploadSessionDto;
+import taskmanagement.dto.attachment.UploadSessionRequestDto;
+import taskmanagement.model.AttachmentThumbnail;
 import taskmanagement.service.AttachmentService;
 
 @Log4j2
@@ -44,6 +59,71 @@ public class AttachmentController {
         return attachmentService.uploadAttachment(taskId, file, email);
     }
 
+    @PostMapping(path = "/{taskId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            params = "async=true")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Upload Attachment Asynchronously",
+            description = "Spool the file locally and return immediately with a PENDING"
+                    + " attachment; the file is pushed to storage in the background")
+    public AttachmentResponseDto uploadAttachmentAsync(@PathVariable Long taskId,
+                                                       @RequestPart("file") MultipartFile file,
+                                                       Authentication authentication) {
+        String email = authentication.getName();
+        log.info("User {} queueing Attachment upload to task {}", email, taskId);
+        return attachmentService.uploadAttachmentAsync(taskId, file, email);
+    }
+
+    @PostMapping("/{taskId}/uploads")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Start Chunked Upload",
+            description = "Open a resumable upload session backed by a Dropbox upload session."
+                    + " The response tells the chunk size and number of chunks to send")
+    public UploadSessionDto startUpload(@PathVariable Long taskId,
+                                        @RequestBody @Valid UploadSessionRequestDto request,
+                                        Authentication authentication) {
+        String email = authentication.getName();
+        log.info("User {} starting chunked upload to task {}", email, taskId);
+        return attachmentService.startUpload(taskId, request, email);
+    }
+
+    @PutMapping(path = "/uploads/{sessionId}/chunks/{chunkIndex}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload Chunk",
+            description = "Upload one chunk of an upload session. Chunks may be sent in"
+                    + " parallel and in any order; re-sending a received chunk is a no-op")
+    public UploadSessionDto uploadChunk(@PathVariable Long sessionId,
+                                        @PathVariable int chunkIndex,
+                                        HttpServletRequest request,
+                                        Authentication authentication) throws IOException {
+        String email = authentication.getName();
+        return attachmentService.uploadChunk(sessionId,
+                chunkIndex,
+                request.getInputStream(),
+                request.getContentLengthLong(),
+                email);
+    }
+
+    @GetMapping("/uploads/{sessionId}")
+    @Operation(summary = "Get Upload Session",
+            description = "Return received chunks so an interrupted upload can be resumed")
+    public UploadSessionDto getUpload(@PathVariable Long sessionId,
+                                      Authentication authentication) {
+        String email = authentication.getName();
+        return attachmentService.getUpload(sessionId, email);
+    }
+
+    @PostMapping("/uploads/{sessionId}/commit")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(summary = "Commit Chunked Upload",
+            description = "Finish the Dropbox upload session once all chunks are received"
+                    + " and store the attachment")
+    public AttachmentResponseDto commitUpload(@PathVariable Long sessionId,
+                                              Authentication authentication) {
+        String email = authentication.getName();
+        log.info("User {} committing upload session {}", email, sessionId);
+        return attachmentService.commitUpload(sessionId, email);
+    }
+
     @GetMapping("/{taskId}")
     @PageableAsQueryParam
     @Operation(summary = "Get Task Attachments",
@@ -59,11 +139,40 @@ public class AttachmentController {
 
     @GetMapping("/{attachmentId}/download")
     @Operation(summary = "Download Attachment",
-            description = "Download the actual file from Dropbox by Attachment ID")
-    public ResponseEntity<byte[]> downloadAttachment(@PathVariable Long attachmentId,
-                                                     Authentication authentication) {
+            description = "Stream the actual file from Dropbox by Attachment ID."
+                    + " A single byte Range is answered with 206 Partial Content")
+    public ResponseEntity<StreamingResponseBody> downloadAttachment(
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            Authentication authentication) {
+        String email = authentication.getName();
+        return attachmentService.downloadAttachment(attachmentId, range, email);
+    }
+
+    @GetMapping("/{attachmentId}/thumbnail")
+    @Operation(summary = "Get Attachment Thumbnail",
+            description = "JPEG preview of an image attachment in SMALL, MEDIUM or LARGE size."
+                    + " Responses are immutable and may be cached by the browser")
+    public ResponseEntity<byte[]> getThumbnail(
+            @PathVariable Long attachmentId,
+            @RequestParam(defaultValue = "MEDIUM") AttachmentThumbnail.Size size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            Authentication authentication) {
         String email = authentication.getName();
-        return attachmentService.downloadAttachment(attachmentId, email);
+        return attachmentService.getThumbnail(attachmentId, size, ifNoneMatch, email);
+    }
+
+    @GetMapping("/{taskId}/archive")
+    @Operation(summary = "Download Task Attachments as ZIP",
+            description = "Stream a ZIP archive of all attachments of a task,"
+                    + " or only of the attachments listed in ids")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(
+            @PathVariable Long taskId,
+            @RequestParam(value = "ids", required = false) List<Long> attachmentIds,
+            Authentication authentication) {
+        String email = authentication.getName();
+        log.info("User {} downloading attachments of task {} as archive", email, taskId);
+        return attachmentService.downloadArchive(taskId, attachmentIds, email);
     }
 
     @DeleteMapping("/{attachmentId}/delete")
@@ -75,4 +184,20 @@ public class AttachmentController {
         log.info("User {} deleting Attachment {}", email, attachmentId);
         attachmentService.deleteAttachment(attachmentId, email);
     }
+
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get Attachment Cache Stats",
+            description = "Hit ratio and bytes saved by the local attachment cache")
+    public AttachmentCacheStatsDto getCacheStats() {
+        return attachmentService.getCacheStats();
+    }
+
+    @GetMapping("/storage/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get Attachment Storage Stats",
+            description = "Circuit breaker, bulkhead and retry counters of the remote storage")
+    public AttachmentStorageStatsDto getStorageStats() {
+        return attachmentService.getStorageStats();
+    }
 }
@@ -2,12 +2,14 @@ package taskmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -22,6 +24,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import taskmanagement.dto.comment.CommentRequestDto;
 import taskmanagement.dto.comment.CommentResponseDto;
+import taskmanagement.dto.comment.CommentThreadDto;
 import taskmanagement.service.CommentService;
 
 @Log4j2
@@ -54,6 +57,30 @@ public class CommentController {
         return commentService.getCommentsByTask(taskId, email, pageable);
     }
 
+    @GetMapping("/by-task/{taskId}")
+    @Operation(summary = "Get Task Comment Thread",
+            description = "Retrieve comment excerpts of a task in chronological order, "
+                    + "continuing after the given cursor")
+    public CommentThreadDto getCommentThread(
+            @PathVariable Long taskId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime afterTimestamp,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        String email = authentication.getName();
+        return commentService.getCommentThread(taskId, afterTimestamp, afterId, limit, email);
+    }
+
+    @GetMapping("/detail/{commentId}")
+    @Operation(summary = "Get Comment",
+            description = "Retrieve a single comment with its full text")
+    public CommentResponseDto getComment(@PathVariable Long commentId,
+                                         Authentication authentication) {
+        String email = authentication.getName();
+        return commentService.getComment(commentId, email);
+    }
+
     @PutMapping("/{commentId}")
     @Operation(summary = "Update Comment",
             description = "Update your own comment by ID")
@@ -2,12 +2,14 @@ package taskmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springdoc.core.converters.models.PageableAsQueryParam;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -21,11 +23,16 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import taskmanagement.dto.project.ProjectDeletionJobDto;
 import taskmanagement.dto.project.ProjectMemberRequest;
+import taskmanagement.dto.project.ProjectMembersDeleteRequestDto;
+import taskmanagement.dto.project.ProjectMembersRequestDto;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.project.ProjectResponseDto;
+import taskmanagement.dto.project.ProjectSnapshotDto;
 import taskmanagement.dto.project.ProjectSummaryDto;
+import taskmanagement.dto.projectmember.ProjectMemberDto;
 import taskmanagement.dto.user.UserResponseDto;
 import taskmanagement.service.ProjectService;
 
@@ -71,6 +78,20 @@ public class ProjectController {
         return projectService.getProjectById(projectId);
     }
 
+    @GetMapping("/{projectId}/burndown")
+    @Operation(
+            summary = "Get Project Burndown",
+            description = "Retrieve daily task counts by status and priority for a date range"
+    )
+    public List<ProjectSnapshotDto> getBurndown(
+            @PathVariable Long projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        String email = authentication.getName();
+        return projectService.getBurndown(projectId, from, to, email);
+    }
+
     @PostMapping("/{projectId}/member")
     @Operation(
             summary = "Add new Member to Project by ID",
@@ -101,6 +122,55 @@ public class ProjectController {
         projectService.deleteMemberFromProject(projectId,memberEmail,email);
     }
 
+    @PostMapping("/{projectId}/members")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Add Members to Project by ID",
+            description = "Add many Members to existing Project in one request "
+                    + "(ADMIN or project MANAGER only)"
+    )
+    public List<ProjectMemberDto> addMembersToProject(
+            @PathVariable Long projectId,
+            @RequestBody @Valid ProjectMembersRequestDto request,
+            Authentication authentication) {
+        String email = authentication.getName();
+        log.info("Adding {} members to project {}, by User {}",
+                request.members().size(), projectId, email);
+        return projectService.addMembersToProject(projectId, request.members(), email);
+    }
+
+    @PatchMapping("/{projectId}/members")
+    @Operation(
+            summary = "Change Member Roles in Project by ID",
+            description = "Change roles of many Members of existing Project in one request "
+                    + "(ADMIN or project MANAGER only)"
+    )
+    public List<ProjectMemberDto> updateMemberRoles(
+            @PathVariable Long projectId,
+            @RequestBody @Valid ProjectMembersRequestDto request,
+            Authentication authentication) {
+        String email = authentication.getName();
+        log.info("Changing roles of {} members in project {}, by User {}",
+                request.members().size(), projectId, email);
+        return projectService.updateMemberRoles(projectId, request.members(), email);
+    }
+
+    @PostMapping("/{projectId}/members/remove")
+    @Operation(
+            summary = "Delete Members from Project by ID",
+            description = "Delete many Members from existing Project in one request "
+                    + "(ADMIN or project MANAGER only)"
+    )
+    public void deleteMembersFromProject(
+            @PathVariable Long projectId,
+            @RequestBody @Valid ProjectMembersDeleteRequestDto request,
+            Authentication authentication) {
+        String email = authentication.getName();
+        log.info("Deleting {} members from project {}, by User {}",
+                request.memberEmails().size(), projectId, email);
+        projectService.deleteMembersFromProject(projectId, request.memberEmails(), email);
+    }
+
     @PatchMapping("/{projectId}")
     @Operation(summary = "Update Project by ID",
             description = "Update details of an existing project (ADMIN or project MANAGER only)")
@@ -113,12 +183,23 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{projectId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @Operation(summary = "Delete Project",
-            description = "Delete a project by ID (ADMIN or project MANAGER only)")
-    public void deleteProject(@PathVariable Long projectId,
-                              Authentication authentication) {
+            description = "Mark a project as deleted and schedule removal of its tasks, "
+                    + "comments and files (ADMIN or project MANAGER only)")
+    public ProjectDeletionJobDto deleteProject(@PathVariable Long projectId,
+                                               Authentication authentication) {
         String email = authentication.getName();
         log.info("Deleting project {}, by User {}", projectId, email);
-        projectService.deleteProject(projectId,email);
+        return projectService.deleteProject(projectId,email);
+    }
+
+    @GetMapping("/{projectId}/deletion")
+    @Operation(summary = "Get Project Deletion Status",
+            description = "Retrieve progress of a scheduled project deletion")
+    public ProjectDeletionJobDto getDeletionStatus(@PathVariable Long projectId,
+                                                   Authentication authentication) {
+        String email = authentication.getName();
+        return projectService.getDeletionStatus(projectId, email);
     }
 }
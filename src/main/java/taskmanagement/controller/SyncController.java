@@ -0,0 +1,32 @@
+package taskmanagement.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import taskmanagement.dto.sync.SyncResponseDto;
+import taskmanagement.service.SyncService;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping
+    @Operation(summary = "Get Changes",
+            description = "Retrieve tasks, comments, attachments and members changed in "
+                    + "the current user's projects after the given cursor. Deletions are "
+                    + "returned as tombstones without payload. Pass nextCursor back to "
+                    + "continue while hasMore is true")
+    public SyncResponseDto getChanges(@RequestParam(defaultValue = "0") Long cursor,
+                                      @RequestParam(defaultValue = "500") int limit,
+                                      Authentication authentication) {
+        String email = authentication.getName();
+        return syncService.getChanges(email, cursor, limit);
+    }
+}
@@ -17,11 +17,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import taskmanagement.dto.task.TaskMoveRequestDto;
 import taskmanagement.dto.task.TaskPatchRequestDto;
 import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.dto.task.TaskResponseDto;
+import taskmanagement.model.Task;
 import taskmanagement.service.TaskService;
 
 @Log4j2
@@ -55,6 +58,19 @@ public class TaskController {
         return taskService.getTasksByProject(projectId,email,pageable);
     }
 
+    @GetMapping("/by-project/{projectId}/board")
+    @PageableAsQueryParam
+    @Operation(summary = "Get Board Column",
+            description = "Retrieve tasks of a project with given status "
+                    + "in their manual board order")
+    public List<TaskResponseDto> getBoardColumn(@PathVariable Long projectId,
+                                                @RequestParam Task.Status status,
+                                                Authentication authentication,
+                                                @ParameterObject Pageable pageable) {
+        String email = authentication.getName();
+        return taskService.getBoardColumn(projectId, status, email, pageable);
+    }
+
     @GetMapping("/{taskId}")
     @Operation(summary = "Get Task Details",
             description = "Retrieve details of a specific task by ID")
@@ -75,6 +91,18 @@ public class TaskController {
         return taskService.updateTask(taskId, request, email);
     }
 
+    @PatchMapping("/{taskId}/move")
+    @Operation(summary = "Move Task",
+            description = "Move a task to a board column, placing it between two "
+                    + "neighbouring tasks (USER assigned to task can move)")
+    public TaskResponseDto moveTask(@PathVariable Long taskId,
+                                    @RequestBody @Valid TaskMoveRequestDto request,
+                                    Authentication authentication) {
+        String email = authentication.getName();
+        log.info("Moving Task {} to {}, by User {}", taskId, request.status(), email);
+        return taskService.moveTask(taskId, request, email);
+    }
+
     @DeleteMapping("/{taskId}")
     @Operation(summary = "Delete Task",
             description = "Delete a task by ID (only MANAGER can delete tasks)")
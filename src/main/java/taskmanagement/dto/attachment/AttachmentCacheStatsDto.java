@@ -0,0 +1,10 @@
+package taskmanagement.dto.attachment;
+
+public record AttachmentCacheStatsDto(
+        long hits,
+        long misses,
+        double hitRatio,
+        long bytesSaved,
+        long cachedBytes,
+        int cachedFiles
+) {}
@@ -1,6 +1,7 @@
 package taskmanagement.dto.attachment;
 
 import java.time.LocalDateTime;
+import taskmanagement.model.Attachment;
 
 public record AttachmentResponseDto(
         Long id,
@@ -9,5 +10,6 @@ public record AttachmentResponseDto(
         String dropboxFileId,
         String path,
         LocalDateTime uploadDate,
-        String uploadedBy
+        String uploadedBy,
+        Attachment.Status status
 ) {}
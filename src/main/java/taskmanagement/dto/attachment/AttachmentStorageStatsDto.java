@@ -0,0 +1,13 @@
+package taskmanagement.dto.attachment;
+
+public record AttachmentStorageStatsDto(
+        String circuitState,
+        float failureRate,
+        float slowCallRate,
+        int bufferedCalls,
+        long notPermittedCalls,
+        int availableConcurrentCalls,
+        int maxConcurrentCalls,
+        long retriedCalls,
+        long failedCallsAfterRetry
+) {}
@@ -0,0 +1,17 @@
+package taskmanagement.dto.attachment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import taskmanagement.model.AttachmentUploadSession;
+
+public record UploadSessionDto(
+        Long id,
+        Long taskId,
+        String filename,
+        long size,
+        long chunkSize,
+        int totalChunks,
+        List<Integer> receivedChunks,
+        AttachmentUploadSession.Status status,
+        LocalDateTime expiresAt
+) {}
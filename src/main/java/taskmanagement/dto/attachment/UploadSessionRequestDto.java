@@ -0,0 +1,11 @@
+package taskmanagement.dto.attachment;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+public record UploadSessionRequestDto(
+        @NotBlank @Size(max = 255) @Pattern(regexp = "[^/\\\\]+") String filename,
+        @Positive long size
+) {}
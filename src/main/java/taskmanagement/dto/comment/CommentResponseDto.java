@@ -7,5 +7,6 @@ public record CommentResponseDto(
         String taskName,
         String authorUsername,
         String text,
-        LocalDateTime timestamp
+        LocalDateTime timestamp,
+        String textHtml
 ) {}
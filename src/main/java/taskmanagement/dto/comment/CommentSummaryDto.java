@@ -0,0 +1,11 @@
+package taskmanagement.dto.comment;
+
+import java.time.LocalDateTime;
+
+public record CommentSummaryDto(
+        Long id,
+        String authorUsername,
+        String excerpt,
+        boolean truncated,
+        LocalDateTime timestamp
+) {}
@@ -0,0 +1,11 @@
+package taskmanagement.dto.comment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record CommentThreadDto(
+        List<CommentSummaryDto> comments,
+        LocalDateTime nextTimestamp,
+        Long nextId,
+        boolean hasMore
+) {}
@@ -0,0 +1,13 @@
+package taskmanagement.dto.project;
+
+import java.time.LocalDateTime;
+import taskmanagement.model.ProjectDeletionJob;
+
+public record ProjectDeletionJobDto(
+        Long projectId,
+        ProjectDeletionJob.Status status,
+        long tasksDeleted,
+        long filesDeleted,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,11 @@
+package taskmanagement.dto.project;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ProjectMembersDeleteRequestDto(
+        @NotEmpty @Size(max = 500) List<@NotBlank String> memberEmails
+) {
+}
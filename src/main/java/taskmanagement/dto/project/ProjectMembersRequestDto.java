@@ -0,0 +1,11 @@
+package taskmanagement.dto.project;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record ProjectMembersRequestDto(
+        @NotEmpty @Size(max = 500) List<@Valid ProjectMemberRequest> members
+) {
+}
@@ -0,0 +1,14 @@
+package taskmanagement.dto.project;
+
+import java.time.LocalDate;
+
+public record ProjectSnapshotDto(
+        LocalDate date,
+        int notStarted,
+        int inProgress,
+        int completed,
+        int lowPriority,
+        int mediumPriority,
+        int highPriority
+) {
+}
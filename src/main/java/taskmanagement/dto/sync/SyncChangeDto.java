@@ -0,0 +1,15 @@
+package taskmanagement.dto.sync;
+
+import java.time.LocalDateTime;
+import taskmanagement.model.SyncChange;
+
+public record SyncChangeDto(
+        Long sequence,
+        Long projectId,
+        SyncChange.EntityType entityType,
+        Long entityId,
+        SyncChange.Operation operation,
+        LocalDateTime changedAt,
+        Object payload
+) {
+}
@@ -0,0 +1,10 @@
+package taskmanagement.dto.sync;
+
+import java.util.List;
+
+public record SyncResponseDto(
+        List<SyncChangeDto> changes,
+        Long nextCursor,
+        boolean hasMore
+) {
+}
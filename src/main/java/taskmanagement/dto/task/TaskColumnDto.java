@@ -0,0 +1,9 @@
+package taskmanagement.dto.task;
+
+import taskmanagement.model.Task;
+
+public record TaskColumnDto(
+        Long projectId,
+        Task.Status status
+) {
+}
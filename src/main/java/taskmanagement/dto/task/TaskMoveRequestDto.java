@@ -0,0 +1,11 @@
+package taskmanagement.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import taskmanagement.model.Task;
+
+public record TaskMoveRequestDto(
+        @NotNull Task.Status status,
+        Long afterTaskId,
+        Long beforeTaskId
+) {
+}
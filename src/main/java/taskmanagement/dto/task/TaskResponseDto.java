@@ -13,6 +13,9 @@ public record TaskResponseDto(
         LocalDate dueDate,
         String projectName,
         String assigneeEmail,
-        Set<String> labels
+        Set<String> labels,
+        int commentCount,
+        int attachmentCount,
+        String descriptionHtml
 ) {
 }
@@ -5,6 +5,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -52,6 +53,26 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(value = {InvalidRequestException.class})
+    protected ResponseEntity<Object> handleInvalidRequest(RuntimeException ex) {
+        Map<String,Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("statusCode", HttpStatus.BAD_REQUEST.value());
+        body.put("errors", List.of(ex.getMessage()));
+        body.put("message", ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(value = {MemberAlreadyExistsException.class})
+    protected ResponseEntity<Object> handleMemberAlreadyExists(RuntimeException ex) {
+        Map<String,Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("statusCode", HttpStatus.CONFLICT.value());
+        body.put("errors", List.of(ex.getMessage()));
+        body.put("message", ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(value = {EntityNotFoundException.class})
     protected ResponseEntity<Object> handleEntityNotFound(RuntimeException ex) {
         Map<String,Object> body = new LinkedHashMap<>();
@@ -62,9 +83,8 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
-    @ExceptionHandler(value = {EmailSendingException.class,
-            TemplatesLoadException.class})
-    protected ResponseEntity<Object> handleEmailSender(RuntimeException ex) {
+    @ExceptionHandler(value = {TemplatesLoadException.class})
+    protected ResponseEntity<Object> handleTemplatesLoad(RuntimeException ex) {
         Map<String,Object> body = new LinkedHashMap<>();
         body.put("timestamp", LocalDateTime.now());
         body.put("statusCode", HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -93,6 +113,27 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(body, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(value = {StorageUnavailableException.class, RankExhaustedException.class})
+    protected ResponseEntity<Object> handleStorageUnavailable(RuntimeException ex) {
+        Map<String,Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("statusCode", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("errors", List.of(ex.getMessage()));
+        body.put("message", ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(value = {TaskRejectedException.class})
+    protected ResponseEntity<Object> handleTaskRejected(RuntimeException ex) {
+        String message = "Server is busy, try again later";
+        Map<String,Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("statusCode", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("errors", List.of(message));
+        body.put("message", message);
+        return new ResponseEntity<>(body, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     private String getErrorMessage(ObjectError objectError) {
         if (objectError instanceof FieldError) {
             String fieldName = ((FieldError) objectError).getField();
@@ -0,0 +1,7 @@
+package taskmanagement.exceptions;
+
+public class MemberAlreadyExistsException extends RuntimeException {
+    public MemberAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package taskmanagement.exceptions;
+
+public class RankExhaustedException extends RuntimeException {
+    public RankExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package taskmanagement.exceptions;
+
+public class StorageUnavailableException extends FileStorageException {
+    public StorageUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -7,12 +7,14 @@ import taskmanagement.config.MapperConfig;
 import taskmanagement.dto.comment.CommentRequestDto;
 import taskmanagement.dto.comment.CommentResponseDto;
 import taskmanagement.model.Comment;
+import taskmanagement.service.markdown.MarkdownCache;
 
-@Mapper(config = MapperConfig.class)
+@Mapper(config = MapperConfig.class, uses = MarkdownCache.class)
 public interface CommentMapper {
 
     @Mapping(source = "task.name", target = "taskName")
     @Mapping(source = "user.username", target = "authorUsername")
+    @Mapping(source = "model", target = "textHtml", qualifiedByName = "commentHtml")
     CommentResponseDto toDto(Comment model);
     
     Comment toModel(CommentRequestDto dto);
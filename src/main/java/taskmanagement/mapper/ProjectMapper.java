@@ -5,16 +5,20 @@ import org.mapstruct.Mapper;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import taskmanagement.config.MapperConfig;
+import taskmanagement.dto.project.ProjectDeletionJobDto;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.project.ProjectResponseDto;
 import taskmanagement.model.Project;
+import taskmanagement.model.ProjectDeletionJob;
 
 @Mapper(config = MapperConfig.class,uses = {ProjectMemberMapper.class})
 public interface ProjectMapper {
 
     ProjectResponseDto toDto(Project model);
 
+    ProjectDeletionJobDto toDto(ProjectDeletionJob job);
+
     Project toModel(ProjectRequestDto dto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
@@ -13,13 +13,15 @@ import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.dto.task.TaskResponseDto;
 import taskmanagement.model.Label;
 import taskmanagement.model.Task;
+import taskmanagement.service.markdown.MarkdownCache;
 
-@Mapper(config = MapperConfig.class)
+@Mapper(config = MapperConfig.class, uses = MarkdownCache.class)
 public interface TaskMapper {
 
     @Mapping(target = "projectName", source = "project.name")
     @Mapping(target = "assigneeEmail", source = "assignee.username")
     @Mapping(target = "labels", expression = "java(mapLabels(model.getLabels()))")
+    @Mapping(target = "descriptionHtml", source = "model", qualifiedByName = "taskHtml")
     TaskResponseDto toDto(Task model);
 
     Task toModel(TaskRequestDto dto);
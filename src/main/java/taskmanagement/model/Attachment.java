@@ -2,6 +2,8 @@ package taskmanagement.model;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -12,6 +14,7 @@ import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Getter
@@ -26,15 +29,27 @@ public class Attachment {
     @ManyToOne(optional = false)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
-    @Column(nullable = false)
     private String dropboxFileId;
     @Column(nullable = false)
     private String filename;
-    @Column(nullable = false)
     private String path;
+    private Long size;
+    private String contentHash;
+    private String spoolNode;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
     @Column(nullable = false)
     private LocalDateTime uploadDate;
     @ManyToOne(optional = false)
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING,
+        STORED,
+        FAILED
+    }
 }
@@ -0,0 +1,38 @@
+package taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "attachment_blobs")
+public class AttachmentBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false, unique = true)
+    private String contentHash;
+    @Column(nullable = false)
+    private String dropboxFileId;
+    @Column(nullable = false)
+    private String path;
+    @Column(nullable = false)
+    private long size;
+    @Column(nullable = false)
+    private int refCount;
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
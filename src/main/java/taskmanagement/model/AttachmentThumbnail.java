@@ -0,0 +1,56 @@
+package taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "attachment_thumbnails")
+public class AttachmentThumbnail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String contentHash;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Size size;
+    @Column(nullable = false)
+    private String dropboxFileId;
+    @Column(nullable = false)
+    private String path;
+    @Column(nullable = false)
+    private long bytes;
+    @Column(nullable = false)
+    private int width;
+    @Column(nullable = false)
+    private int height;
+
+    public enum Size {
+        SMALL(128),
+        MEDIUM(320),
+        LARGE(800);
+
+        private final int pixels;
+
+        Size(int pixels) {
+            this.pixels = pixels;
+        }
+
+        public int getPixels() {
+            return pixels;
+        }
+    }
+}
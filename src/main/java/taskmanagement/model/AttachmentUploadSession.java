@@ -0,0 +1,59 @@
+package taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "attachment_upload_sessions")
+public class AttachmentUploadSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "uploaded_by", nullable = false)
+    private User uploadedBy;
+    @Column(nullable = false)
+    private String filename;
+    @Column(nullable = false)
+    private long size;
+    @Column(nullable = false)
+    private long chunkSize;
+    @Column(nullable = false)
+    private int totalChunks;
+    @Column(nullable = false)
+    private String dropboxSessionId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+    private Long attachmentId;
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Status {
+        OPEN,
+        COMMITTED
+    }
+}
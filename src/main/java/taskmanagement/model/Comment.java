@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Getter
@@ -39,4 +40,7 @@ public class Comment {
 
     @Column(nullable = false)
     private LocalDateTime timestamp;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
@@ -17,11 +17,13 @@ import java.util.Set;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
+@SQLRestriction(value = "is_deleted=false")
 @Table(name = "projects")
 public class Project {
 
@@ -40,6 +42,8 @@ public class Project {
     private Status status;
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProjectMember> members = new HashSet<>();
+    @Column(nullable = false)
+    private boolean isDeleted = false;
 
     public enum Status {
         INITIATED,
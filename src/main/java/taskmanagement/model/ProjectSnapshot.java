@@ -0,0 +1,42 @@
+package taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "project_snapshots")
+public class ProjectSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private Long projectId;
+    @Column(nullable = false)
+    private LocalDate snapshotDate;
+    @Column(nullable = false)
+    private int notStarted;
+    @Column(nullable = false)
+    private int inProgress;
+    @Column(nullable = false)
+    private int completed;
+    @Column(nullable = false)
+    private int lowPriority;
+    @Column(nullable = false)
+    private int mediumPriority;
+    @Column(nullable = false)
+    private int highPriority;
+    @Column(nullable = false)
+    private Long lastChangeId;
+}
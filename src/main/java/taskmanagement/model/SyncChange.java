@@ -0,0 +1,65 @@
+package taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "sync_changes")
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long seq;
+
+    @Column(nullable = false)
+    private Long projectId;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    public enum EntityType {
+        PROJECT,
+        TASK,
+        COMMENT,
+        ATTACHMENT,
+        PROJECT_MEMBER
+    }
+
+    public enum Operation {
+        UPSERT,
+        DELETE,
+        /**
+         * Addressed to a single user: their local copy of the project is incomplete and must be
+         * replaced by a full fetch instead of being built from individual changes.
+         */
+        RESYNC
+    }
+}
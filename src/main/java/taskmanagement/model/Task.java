@@ -17,11 +17,13 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
 @Getter
@@ -72,6 +74,18 @@ public class Task {
     @Column(nullable = false)
     private Status status;
 
+    @Column(name = "task_rank", nullable = false)
+    private String rank;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int commentCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int attachmentCount;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
     public enum Priority {
         LOW,
         MEDIUM,
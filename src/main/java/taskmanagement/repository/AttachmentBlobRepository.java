@@ -0,0 +1,31 @@
+package taskmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.model.AttachmentBlob;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM AttachmentBlob b WHERE b.contentHash = :contentHash")
+    Optional<AttachmentBlob> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+    boolean existsByContentHash(String contentHash);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attachment_blobs "
+            + "(content_hash, dropbox_file_id, path, size, ref_count, created_at) "
+            + "VALUES (:contentHash, :fileId, :path, :size, 0, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("fileId") String fileId,
+                       @Param("path") String path,
+                       @Param("size") long size,
+                       @Param("now") LocalDateTime now);
+}
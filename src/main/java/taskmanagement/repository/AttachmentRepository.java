@@ -1,13 +1,57 @@
 package taskmanagement.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import taskmanagement.model.Attachment;
 
 public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
     Page<Attachment> findByTask_Id(Long taskId, Pageable pageable);
 
-    List<Attachment> findByPath(String path);
+    List<Attachment> findByTask_IdAndStatusOrderById(Long taskId, Attachment.Status status);
+
+    List<Attachment> findByTask_IdAndIdInOrderById(Long taskId, Collection<Long> ids);
+
+    boolean existsByTask_IdAndFilename(Long taskId, String filename);
+
+    @Query("SELECT DISTINCT a.task.id FROM Attachment a "
+            + "WHERE a.task.id IN :taskIds AND a.contentHash IS NULL")
+    List<Long> findTaskIdsWithLegacyAttachments(@Param("taskIds") List<Long> taskIds);
+
+    @Query(value = "SELECT content_hash FROM attachments "
+            + "WHERE task_id IN (:taskIds) AND content_hash IS NOT NULL "
+            + "AND status = 'STORED' FOR UPDATE",
+            nativeQuery = true)
+    List<String> findContentHashesByTaskIdsForUpdate(@Param("taskIds") List<Long> taskIds);
+
+    @Query("SELECT a.id FROM Attachment a WHERE a.status = :status AND a.spoolNode = :node")
+    List<Long> findIdsByStatusAndSpoolNode(@Param("status") Attachment.Status status,
+                                           @Param("node") String node);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.status = :stored, a.dropboxFileId = :fileId, "
+            + "a.path = :path WHERE a.id = :id AND a.status = :pending")
+    int markStored(@Param("id") Long id,
+                   @Param("fileId") String fileId,
+                   @Param("path") String path,
+                   @Param("pending") Attachment.Status pending,
+                   @Param("stored") Attachment.Status stored);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Attachment a SET a.status = :status WHERE a.id = :id AND a.status = :from")
+    int updateStatus(@Param("id") Long id,
+                     @Param("from") Attachment.Status from,
+                     @Param("status") Attachment.Status status);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.task.id IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") List<Long> taskIds);
 }
@@ -0,0 +1,17 @@
+package taskmanagement.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import taskmanagement.model.AttachmentThumbnail;
+
+public interface AttachmentThumbnailRepository extends JpaRepository<AttachmentThumbnail, Long> {
+
+    Optional<AttachmentThumbnail> findByContentHashAndSize(String contentHash,
+                                                           AttachmentThumbnail.Size size);
+
+    boolean existsByContentHash(String contentHash);
+
+    List<AttachmentThumbnail> findByContentHashIn(Collection<String> contentHashes);
+}
@@ -0,0 +1,39 @@
+package taskmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.AttachmentUploadSession;
+
+public interface AttachmentUploadSessionRepository
+        extends JpaRepository<AttachmentUploadSession, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AttachmentUploadSession s WHERE s.id = :id")
+    Optional<AttachmentUploadSession> findByIdForUpdate(@Param("id") Long id);
+
+    @Query(value = "SELECT chunk_index FROM attachment_upload_chunks "
+            + "WHERE session_id = :sessionId ORDER BY chunk_index",
+            nativeQuery = true)
+    List<Integer> findReceivedChunks(@Param("sessionId") Long sessionId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attachment_upload_chunks (session_id, chunk_index) "
+            + "VALUES (:sessionId, :chunkIndex)",
+            nativeQuery = true)
+    int markChunkReceived(@Param("sessionId") Long sessionId,
+                          @Param("chunkIndex") int chunkIndex);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AttachmentUploadSession s WHERE s.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,11 +1,50 @@
 package taskmanagement.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.dto.comment.CommentSummaryDto;
 import taskmanagement.model.Comment;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = {"user", "task"})
     Page<Comment> findByTask_Id(Long taskId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user JOIN FETCH c.task t "
+            + "JOIN FETCH t.project WHERE c.id = :id")
+    Optional<Comment> findByIdWithRelations(@Param("id") Long id);
+
+    @Query("SELECT new taskmanagement.dto.comment.CommentSummaryDto(c.id, u.username, "
+            + "SUBSTRING(c.text, 1, :length), "
+            + "CASE WHEN LENGTH(c.text) > :length THEN true ELSE false END, c.timestamp) "
+            + "FROM Comment c JOIN c.user u WHERE c.task.id = :taskId "
+            + "ORDER BY c.timestamp, c.id")
+    List<CommentSummaryDto> findThreadStart(@Param("taskId") Long taskId,
+                                            @Param("length") int length,
+                                            Pageable pageable);
+
+    @Query("SELECT new taskmanagement.dto.comment.CommentSummaryDto(c.id, u.username, "
+            + "SUBSTRING(c.text, 1, :length), "
+            + "CASE WHEN LENGTH(c.text) > :length THEN true ELSE false END, c.timestamp) "
+            + "FROM Comment c JOIN c.user u WHERE c.task.id = :taskId "
+            + "AND (c.timestamp > :afterTimestamp "
+            + "OR (c.timestamp = :afterTimestamp AND c.id > :afterId)) "
+            + "ORDER BY c.timestamp, c.id")
+    List<CommentSummaryDto> findThreadAfter(@Param("taskId") Long taskId,
+                                            @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                            @Param("afterId") Long afterId,
+                                            @Param("length") int length,
+                                            Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int deleteByTaskIds(@Param("taskIds") List<Long> taskIds);
 }
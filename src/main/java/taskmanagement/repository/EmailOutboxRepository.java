@@ -0,0 +1,33 @@
+package taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.EmailOutboxMessage;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutboxMessage, Long> {
+
+    @Query(value = "SELECT * FROM email_outbox WHERE status = 'PENDING' "
+            + "AND next_attempt_at <= :now ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<EmailOutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now,
+                                              @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EmailOutboxMessage m SET m.status = :status, m.sentAt = :sentAt, "
+            + "m.lastError = NULL WHERE m.id = :id")
+    int markSent(@Param("id") Long id,
+                 @Param("status") EmailOutboxMessage.Status status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM EmailOutboxMessage m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(@Param("status") EmailOutboxMessage.Status status,
+                         @Param("before") LocalDateTime before);
+}
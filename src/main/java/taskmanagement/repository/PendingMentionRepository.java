@@ -0,0 +1,35 @@
+package taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.model.PendingMention;
+
+public interface PendingMentionRepository extends JpaRepository<PendingMention, Long> {
+
+    List<PendingMention> findByRecipientIdOrderById(Long recipientId);
+
+    @Query(value = "SELECT DISTINCT m.recipient_id FROM pending_mentions m "
+            + "LEFT JOIN mention_digests d ON d.user_id = m.recipient_id "
+            + "WHERE d.last_sent_at IS NULL OR d.last_sent_at <= :sentBefore "
+            + "ORDER BY m.recipient_id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findDueRecipients(@Param("sentBefore") LocalDateTime sentBefore,
+                                 @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO mention_digests (user_id) VALUES (:userId)",
+            nativeQuery = true)
+    int insertDigestIfAbsent(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE mention_digests SET last_sent_at = :now WHERE user_id = :userId "
+            + "AND (last_sent_at IS NULL OR last_sent_at <= :sentBefore)",
+            nativeQuery = true)
+    int claimDigest(@Param("userId") Long userId,
+                    @Param("now") LocalDateTime now,
+                    @Param("sentBefore") LocalDateTime sentBefore);
+}
@@ -0,0 +1,27 @@
+package taskmanagement.repository;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.model.ProjectDeletionJob;
+
+public interface ProjectDeletionJobRepository extends JpaRepository<ProjectDeletionJob, Long> {
+
+    Optional<ProjectDeletionJob> findByProjectId(Long projectId);
+
+    @Query(value = "SELECT * FROM project_deletion_jobs WHERE status <> 'COMPLETED' "
+            + "AND (leased_until IS NULL OR leased_until <= :now) "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ProjectDeletionJob> findClaimableForUpdate(@Param("now") LocalDateTime now,
+                                                    @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM ProjectDeletionJob j WHERE j.id = :id")
+    Optional<ProjectDeletionJob> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,7 +1,45 @@
 package taskmanagement.repository;
 
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.User;
 
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember, Long> {
+
+    @Query("SELECT m FROM ProjectMember m JOIN FETCH m.user u "
+            + "WHERE m.project.id = :projectId AND u.email IN :emails")
+    List<ProjectMember> findByProjectIdAndUserEmailIn(@Param("projectId") Long projectId,
+                                                      @Param("emails") Collection<String> emails);
+
+    @Query("SELECT u FROM ProjectMember m JOIN m.user u "
+            + "WHERE m.project.id = :projectId AND u.username IN :usernames")
+    List<User> findMemberUsersByUsernames(@Param("projectId") Long projectId,
+                                          @Param("usernames") Collection<String> usernames);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO project_members (project_id, user_id, role, updated_at) "
+            + "SELECT :projectId, u.id, :role, CURRENT_TIMESTAMP FROM users u "
+            + "WHERE u.id IN (:userIds)",
+            nativeQuery = true)
+    int insertMembers(@Param("projectId") Long projectId,
+                      @Param("userIds") Collection<Long> userIds,
+                      @Param("role") String role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProjectMember m SET m.role = :role, m.updatedAt = CURRENT_TIMESTAMP "
+            + "WHERE m.id IN :ids")
+    int updateRole(@Param("ids") Collection<Long> ids, @Param("role") ProjectMember.Role role);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ProjectMember m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM ProjectMember m WHERE m.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
 }
@@ -1,14 +1,34 @@
 package taskmanagement.repository;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import taskmanagement.dto.project.ProjectSummaryDto;
 import taskmanagement.model.Project;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    @Query("SELECT p FROM Project p JOIN p.members m WHERE m.user.email = :email")
-    Page<Project> findAllByMemberEmail(@Param("email") String email, Pageable pageable);
+    @EntityGraph(attributePaths = {"members", "members.user"})
+    Optional<Project> findWithMembersById(Long id);
+
+    @Query("SELECT new taskmanagement.dto.project.ProjectSummaryDto(p.id, p.name) "
+            + "FROM Project p JOIN p.members m WHERE m.user.id = :userId")
+    Slice<ProjectSummaryDto> findSummariesByMemberUserId(@Param("userId") Long userId,
+                                                         Pageable pageable);
+
+    @Query("SELECT p.id FROM Project p")
+    List<Long> findAllIds();
+
+    @Query(value = "SELECT id FROM projects WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "DELETE FROM projects WHERE id = :id", nativeQuery = true)
+    int purgeById(@Param("id") Long id);
 }
@@ -0,0 +1,53 @@
+package taskmanagement.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.ProjectSnapshot;
+
+public interface ProjectSnapshotRepository extends JpaRepository<ProjectSnapshot, Long> {
+
+    List<ProjectSnapshot> findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(
+            Long projectId, LocalDate from, LocalDate to);
+
+    Optional<ProjectSnapshot> findFirstByProjectIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(
+            Long projectId, LocalDate date);
+
+    @Query("SELECT MAX(s.lastChangeId) FROM ProjectSnapshot s")
+    Optional<Long> findLastChangeId();
+
+    @Modifying
+    @Query(value = "DELETE FROM project_snapshots WHERE project_id = :projectId LIMIT :limit",
+            nativeQuery = true)
+    int deleteBatchByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO project_snapshots (project_id, snapshot_date, not_started, "
+            + "in_progress, completed, low_priority, medium_priority, high_priority, "
+            + "last_change_id) "
+            + "SELECT p.id, :date, "
+            + "COALESCE(SUM(t.status = 'NOT_STARTED'), 0), "
+            + "COALESCE(SUM(t.status = 'IN_PROGRESS'), 0), "
+            + "COALESCE(SUM(t.status = 'COMPLETED'), 0), "
+            + "COALESCE(SUM(t.priority = 'LOW'), 0), "
+            + "COALESCE(SUM(t.priority = 'MEDIUM'), 0), "
+            + "COALESCE(SUM(t.priority = 'HIGH'), 0), "
+            + ":changeId "
+            + "FROM projects p LEFT JOIN tasks t ON t.project_id = p.id "
+            + "WHERE p.id IN (:projectIds) AND p.is_deleted = false GROUP BY p.id "
+            + "ON DUPLICATE KEY UPDATE not_started = VALUES(not_started), "
+            + "in_progress = VALUES(in_progress), completed = VALUES(completed), "
+            + "low_priority = VALUES(low_priority), medium_priority = VALUES(medium_priority), "
+            + "high_priority = VALUES(high_priority), last_change_id = VALUES(last_change_id)",
+            nativeQuery = true)
+    int upsertSnapshots(@Param("projectIds") Collection<Long> projectIds,
+                        @Param("date") LocalDate date,
+                        @Param("changeId") Long changeId);
+}
@@ -0,0 +1,22 @@
+package taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.model.StorageDeletion;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    @Query(value = "SELECT * FROM storage_deletions WHERE next_attempt_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<StorageDeletion> findDueForUpdate(@Param("now") LocalDateTime now,
+                                           @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM StorageDeletion d WHERE d.path = :path")
+    int deleteByPath(@Param("path") String path);
+}
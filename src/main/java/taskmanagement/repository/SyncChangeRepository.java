@@ -0,0 +1,149 @@
+package taskmanagement.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.SyncChange;
+
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    @Query("SELECT c FROM SyncChange c WHERE c.seq > :cursor "
+            + "AND (c.userId = (SELECT u.id FROM User u WHERE u.email = :email) "
+            + "OR (c.userId IS NULL AND c.projectId IN (SELECT m.project.id FROM ProjectMember m "
+            + "WHERE m.user.email = :email))) ORDER BY c.seq")
+    List<SyncChange> findChangesForMember(@Param("email") String email,
+                                          @Param("cursor") Long cursor,
+                                          Pageable pageable);
+
+    @Query("SELECT MAX(c.seq) FROM SyncChange c")
+    Optional<Long> findLastSeq();
+
+    @Query("SELECT DISTINCT c.projectId FROM SyncChange c "
+            + "WHERE c.seq > :fromSeq AND c.seq <= :toSeq")
+    List<Long> findChangedProjectIds(@Param("fromSeq") Long fromSeq, @Param("toSeq") Long toSeq);
+
+    @Query(value = "SELECT * FROM sync_changes WHERE seq IS NULL "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<SyncChange> findUnsequencedForUpdate(@Param("limit") int limit);
+
+    @Query(value = "SELECT last_value FROM sync_sequence WHERE id = 1 FOR UPDATE",
+            nativeQuery = true)
+    long lockLastSeq();
+
+    @Modifying
+    @Query(value = "UPDATE sync_sequence SET last_value = :lastSeq WHERE id = 1",
+            nativeQuery = true)
+    int updateLastSeq(@Param("lastSeq") long lastSeq);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT t.project_id, 'COMMENT', c.id, 'DELETE', :changedAt "
+            + "FROM comments c JOIN tasks t ON t.id = c.task_id WHERE c.task_id = :taskId",
+            nativeQuery = true)
+    int insertCommentTombstonesForTask(@Param("taskId") Long taskId,
+                                       @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT t.project_id, 'ATTACHMENT', a.id, 'DELETE', :changedAt "
+            + "FROM attachments a JOIN tasks t ON t.id = a.task_id WHERE a.task_id = :taskId",
+            nativeQuery = true)
+    int insertAttachmentTombstonesForTask(@Param("taskId") Long taskId,
+                                          @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT m.project_id, 'PROJECT_MEMBER', m.id, 'DELETE', :changedAt "
+            + "FROM project_members m WHERE m.project_id = :projectId",
+            nativeQuery = true)
+    int insertMemberTombstonesForProject(@Param("projectId") Long projectId,
+                                         @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT t.project_id, 'TASK', t.id, 'DELETE', :changedAt "
+            + "FROM tasks t WHERE t.project_id = :projectId",
+            nativeQuery = true)
+    int insertTaskTombstonesForProject(@Param("projectId") Long projectId,
+                                       @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT t.project_id, 'COMMENT', c.id, 'DELETE', :changedAt "
+            + "FROM comments c JOIN tasks t ON t.id = c.task_id WHERE t.project_id = :projectId",
+            nativeQuery = true)
+    int insertCommentTombstonesForProject(@Param("projectId") Long projectId,
+                                          @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT t.project_id, 'ATTACHMENT', a.id, 'DELETE', :changedAt "
+            + "FROM attachments a JOIN tasks t ON t.id = a.task_id "
+            + "WHERE t.project_id = :projectId",
+            nativeQuery = true)
+    int insertAttachmentTombstonesForProject(@Param("projectId") Long projectId,
+                                             @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT m.project_id, 'PROJECT_MEMBER', m.id, :operation, :changedAt "
+            + "FROM project_members m WHERE m.id IN (:memberIds)",
+            nativeQuery = true)
+    int insertMemberChanges(@Param("memberIds") Collection<Long> memberIds,
+                            @Param("operation") String operation,
+                            @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, user_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT m.project_id, m.user_id, 'PROJECT', m.project_id, 'DELETE', :changedAt "
+            + "FROM project_members m WHERE m.project_id = :projectId",
+            nativeQuery = true)
+    int insertProjectRevocationsForMembers(@Param("projectId") Long projectId,
+                                           @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, user_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT :projectId, u.id, 'PROJECT', :projectId, 'DELETE', :changedAt "
+            + "FROM users u WHERE u.id IN (:userIds)",
+            nativeQuery = true)
+    int insertProjectRevocations(@Param("projectId") Long projectId,
+                                 @Param("userIds") Collection<Long> userIds,
+                                 @Param("changedAt") LocalDateTime changedAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO sync_changes "
+            + "(project_id, user_id, entity_type, entity_id, operation, changed_at) "
+            + "SELECT :projectId, u.id, 'PROJECT', :projectId, 'RESYNC', :changedAt "
+            + "FROM users u WHERE u.id IN (:userIds)",
+            nativeQuery = true)
+    int insertProjectResyncs(@Param("projectId") Long projectId,
+                             @Param("userIds") Collection<Long> userIds,
+                             @Param("changedAt") LocalDateTime changedAt);
+}
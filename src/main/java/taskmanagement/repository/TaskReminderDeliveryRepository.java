@@ -0,0 +1,25 @@
+package taskmanagement.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import taskmanagement.model.TaskReminderDelivery;
+
+public interface TaskReminderDeliveryRepository
+        extends JpaRepository<TaskReminderDelivery, Long> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO task_reminder_deliveries (task_id, due_date, created_at) "
+            + "VALUES (:taskId, :dueDate, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("taskId") Long taskId,
+                       @Param("dueDate") LocalDate dueDate,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM TaskReminderDelivery d WHERE d.dueDate < :date")
+    int deleteByDueDateBefore(@Param("date") LocalDate date);
+}
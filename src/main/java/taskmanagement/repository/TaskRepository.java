@@ -6,8 +6,11 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.dto.task.TaskColumnDto;
 import taskmanagement.model.Task;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -16,5 +19,66 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     Page<Task> findByProject_Id(Long projectId, Pageable pageable);
 
-    List<Task> findByDueDate(LocalDate dueDate);
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignee "
+            + "WHERE t.dueDate = :dueDate AND t.id > :afterId ORDER BY t.id")
+    List<Task> findDueWithAssigneeAfter(@Param("dueDate") LocalDate dueDate,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    Page<Task> findByProject_IdAndStatusOrderByRankAscIdAsc(Long projectId,
+                                                           Task.Status status,
+                                                           Pageable pageable);
+
+    List<Task> findByProject_IdAndStatusOrderByRankAscIdAsc(Long projectId, Task.Status status);
+
+    @Query("SELECT MAX(t.rank) FROM Task t "
+            + "WHERE t.project.id = :projectId AND t.status = :status")
+    Optional<String> findMaxRankInColumn(@Param("projectId") Long projectId,
+                                         @Param("status") Task.Status status);
+
+    @Query("SELECT t.rank FROM Task t "
+            + "WHERE t.id = :id AND t.project.id = :projectId AND t.status = :status")
+    Optional<String> findRankInColumn(@Param("id") Long id,
+                                      @Param("projectId") Long projectId,
+                                      @Param("status") Task.Status status);
+
+    @Query("SELECT DISTINCT new taskmanagement.dto.task.TaskColumnDto(t.project.id, t.status) "
+            + "FROM Task t WHERE LENGTH(t.rank) > :maxLength")
+    List<TaskColumnDto> findColumnsWithRankLongerThan(@Param("maxLength") int maxLength);
+
+    @Query(value = "SELECT id FROM tasks WHERE project_id = :projectId ORDER BY id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_labels WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteLabelLinksByTaskIds(@Param("taskIds") List<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tasks SET comment_count = GREATEST(comment_count + :delta, 0) "
+            + "WHERE id = :id", nativeQuery = true)
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tasks SET attachment_count = GREATEST(attachment_count + :delta, 0) "
+            + "WHERE id = :id", nativeQuery = true)
+    int adjustAttachmentCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("SELECT MAX(t.id) FROM Task t")
+    Optional<Long> findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE tasks t SET "
+            + "comment_count = (SELECT COUNT(*) FROM comments c WHERE c.task_id = t.id), "
+            + "attachment_count = (SELECT COUNT(*) FROM attachments a WHERE a.task_id = t.id) "
+            + "WHERE t.id > :fromId AND t.id <= :toId",
+            nativeQuery = true)
+    int recomputeCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
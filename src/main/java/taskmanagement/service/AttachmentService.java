@@ -1,18 +1,54 @@
 package taskmanagement.service;
 
+import java.io.InputStream;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagement.dto.attachment.AttachmentCacheStatsDto;
 import taskmanagement.dto.attachment.AttachmentResponseDto;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+import taskmanagement.dto.attachment.UploadSessionDto;
+import taskmanagement.dto.attachment.UploadSessionRequestDto;
+import taskmanagement.model.AttachmentThumbnail;
 
 public interface AttachmentService {
 
     AttachmentResponseDto uploadAttachment(Long taskId, MultipartFile file, String email);
 
+    AttachmentResponseDto uploadAttachmentAsync(Long taskId, MultipartFile file, String email);
+
+    UploadSessionDto startUpload(Long taskId, UploadSessionRequestDto request, String email);
+
+    UploadSessionDto uploadChunk(Long sessionId,
+                                 int chunkIndex,
+                                 InputStream data,
+                                 long contentLength,
+                                 String email);
+
+    UploadSessionDto getUpload(Long sessionId, String email);
+
+    AttachmentResponseDto commitUpload(Long sessionId, String email);
+
     List<AttachmentResponseDto> getAttachmentsByTask(Long taskId, String email, Pageable pageable);
 
-    ResponseEntity<byte[]> downloadAttachment(Long attachmentId, String email);
+    ResponseEntity<StreamingResponseBody> downloadAttachment(Long attachmentId,
+                                                             String range,
+                                                             String email);
+
+    ResponseEntity<StreamingResponseBody> downloadArchive(Long taskId,
+                                                          List<Long> attachmentIds,
+                                                          String email);
+
+    ResponseEntity<byte[]> getThumbnail(Long attachmentId,
+                                        AttachmentThumbnail.Size size,
+                                        String ifNoneMatch,
+                                        String email);
 
     void deleteAttachment(Long attachmentId, String email);
+
+    AttachmentCacheStatsDto getCacheStats();
+
+    AttachmentStorageStatsDto getStorageStats();
 }
@@ -1,9 +1,11 @@
 package taskmanagement.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import taskmanagement.dto.comment.CommentRequestDto;
 import taskmanagement.dto.comment.CommentResponseDto;
+import taskmanagement.dto.comment.CommentThreadDto;
 
 public interface CommentService {
 
@@ -14,4 +16,12 @@ public interface CommentService {
     void deleteComment(Long id, String email);
 
     List<CommentResponseDto> getCommentsByTask(Long taskId, String email, Pageable pageable);
+
+    CommentThreadDto getCommentThread(Long taskId,
+                                      LocalDateTime afterTimestamp,
+                                      Long afterId,
+                                      int limit,
+                                      String email);
+
+    CommentResponseDto getComment(Long id, String email);
 }
@@ -1,7 +1,9 @@
 package taskmanagement.service;
 
+import java.util.List;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
+import taskmanagement.service.mention.Mention;
 
 public interface EmailService {
     void sendPasswordChangeVerification(User user, String token);
@@ -11,4 +13,6 @@ public interface EmailService {
     void sendTaskReminder(User user, Task task);
 
     void sendNewTaskAssigned(User user, Task task);
+
+    void sendMentionNotification(User user, List<Mention> mentions, int omitted);
 }
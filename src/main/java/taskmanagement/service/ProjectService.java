@@ -1,12 +1,16 @@
 package taskmanagement.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import taskmanagement.dto.project.ProjectDeletionJobDto;
 import taskmanagement.dto.project.ProjectMemberRequest;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.project.ProjectResponseDto;
+import taskmanagement.dto.project.ProjectSnapshotDto;
 import taskmanagement.dto.project.ProjectSummaryDto;
+import taskmanagement.dto.projectmember.ProjectMemberDto;
 import taskmanagement.dto.user.UserResponseDto;
 
 public interface ProjectService {
@@ -19,11 +23,25 @@ public interface ProjectService {
 
     void deleteMemberFromProject(Long id, String memberEmail, String email);
 
+    List<ProjectMemberDto> addMembersToProject(Long id,
+                                               List<ProjectMemberRequest> members,
+                                               String email);
+
+    List<ProjectMemberDto> updateMemberRoles(Long id,
+                                             List<ProjectMemberRequest> members,
+                                             String email);
+
+    void deleteMembersFromProject(Long id, List<String> memberEmails, String email);
+
     List<ProjectSummaryDto> getUserProjects(String email, Pageable pageable);
 
     ProjectResponseDto getProjectById(Long id);
 
     ProjectResponseDto updateProject(Long id, ProjectPatchRequestDto request, String email);
 
-    void deleteProject(Long id, String email);
+    List<ProjectSnapshotDto> getBurndown(Long id, LocalDate from, LocalDate to, String email);
+
+    ProjectDeletionJobDto deleteProject(Long id, String email);
+
+    ProjectDeletionJobDto getDeletionStatus(Long id, String email);
 }
@@ -0,0 +1,24 @@
+package taskmanagement.service;
+
+import java.util.Collection;
+import taskmanagement.dto.sync.SyncResponseDto;
+import taskmanagement.model.SyncChange;
+
+public interface SyncService {
+
+    SyncResponseDto getChanges(String email, Long cursor, int limit);
+
+    void recordUpsert(SyncChange.EntityType entityType, Long entityId, Long projectId);
+
+    void recordDelete(SyncChange.EntityType entityType, Long entityId, Long projectId);
+
+    void recordMemberChanges(Collection<Long> memberIds, SyncChange.Operation operation);
+
+    void recordMembershipGranted(Long projectId, Collection<Long> userIds);
+
+    void recordMembershipRevoked(Long projectId, Collection<Long> userIds);
+
+    void recordTaskDeleted(Long taskId, Long projectId);
+
+    void recordProjectDeleted(Long projectId);
+}
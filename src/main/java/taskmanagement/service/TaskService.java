@@ -2,9 +2,11 @@ package taskmanagement.service;
 
 import java.util.List;
 import org.springframework.data.domain.Pageable;
+import taskmanagement.dto.task.TaskMoveRequestDto;
 import taskmanagement.dto.task.TaskPatchRequestDto;
 import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.dto.task.TaskResponseDto;
+import taskmanagement.model.Task;
 
 public interface TaskService {
 
@@ -12,9 +14,16 @@ public interface TaskService {
 
     List<TaskResponseDto> getTasksByProject(Long projectId, String email, Pageable pageable);
 
+    List<TaskResponseDto> getBoardColumn(Long projectId,
+                                         Task.Status status,
+                                         String email,
+                                         Pageable pageable);
+
     TaskResponseDto getTaskById(Long id, String email);
 
     TaskResponseDto updateTask(Long id, TaskPatchRequestDto request, String email);
 
+    TaskResponseDto moveTask(Long id, TaskMoveRequestDto request, String email);
+
     void deleteTask(Long id, String email);
 }
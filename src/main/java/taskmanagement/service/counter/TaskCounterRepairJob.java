@@ -0,0 +1,29 @@
+package taskmanagement.service.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import taskmanagement.repository.TaskRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class TaskCounterRepairJob {
+
+    private final TaskRepository taskRepository;
+
+    @Value("${task.counters.repair.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${task.counters.repair.cron:0 30 3 * * *}")
+    public void repairCounters() {
+        long maxId = taskRepository.findMaxId().orElse(0L);
+        int repaired = 0;
+        for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+            repaired += taskRepository.recomputeCounters(fromId, fromId + chunkSize);
+        }
+        log.info("Task counters recomputed: tasks = {}", repaired);
+    }
+}
@@ -1,47 +1,243 @@
 package taskmanagement.service.dropbox;
 
+import com.dropbox.core.DbxDownloader;
 import com.dropbox.core.DbxException;
+import com.dropbox.core.NetworkIOException;
+import com.dropbox.core.RetryException;
+import com.dropbox.core.ServerException;
 import com.dropbox.core.v2.DbxClientV2;
+import com.dropbox.core.v2.files.CommitInfo;
+import com.dropbox.core.v2.files.DeleteArg;
+import com.dropbox.core.v2.files.DeleteBatchJobStatus;
+import com.dropbox.core.v2.files.DeleteBatchLaunch;
+import com.dropbox.core.v2.files.DeleteBatchResult;
+import com.dropbox.core.v2.files.DeleteBatchResultEntry;
+import com.dropbox.core.v2.files.DeleteError;
+import com.dropbox.core.v2.files.DownloadBuilder;
 import com.dropbox.core.v2.files.FileMetadata;
-import java.io.ByteArrayOutputStream;
+import com.dropbox.core.v2.files.Metadata;
+import com.dropbox.core.v2.files.UploadSessionCursor;
+import com.dropbox.core.v2.files.UploadSessionType;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
 
-@Service
 @RequiredArgsConstructor
-public class DropboxService {
+public class DropboxService implements AttachmentStorage {
 
-    private final DbxClientV2 dropboxClient;
+    private static final long DELETE_BATCH_POLL_MILLIS = 500;
+    private static final long DELETE_BATCH_TIMEOUT_MILLIS = 60_000;
 
-    public FileMetadata uploadFile(MultipartFile file, String folderPath)
-            throws IOException, DbxException {
-        String dropboxPath = folderPath + "/" + file.getOriginalFilename();
-        try (InputStream inputStream = file.getInputStream()) {
-            return dropboxClient.files()
-                    .uploadBuilder(dropboxPath)
-                    .uploadAndFinish(inputStream);
+    private final DbxClientV2 contentClient;
+    private final DbxClientV2 apiClient;
+
+    @Override
+    public StoredFile put(String path, InputStream data, long size, String contentHash)
+            throws IOException {
+        try {
+            return toStoredFile(contentClient.files()
+                    .uploadBuilder(path)
+                    .withContentHash(contentHash)
+                    .uploadAndFinish(data, size));
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to upload file to Dropbox: " + e.getMessage(), e);
         }
     }
 
-    public byte[] downloadFile(String filePath) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            dropboxClient.files().downloadBuilder(filePath).download(outputStream);
-            return outputStream.toByteArray();
-        } catch (Exception e) {
-            throw new FileStorageException("Failed to download file from Dropbox", e);
+    @Override
+    public InputStream get(String path) throws IOException {
+        return open(contentClient.files().downloadBuilder(path));
+    }
+
+    @Override
+    public InputStream getRange(String path, long offset, long length) throws IOException {
+        DownloadBuilder builder = contentClient.files().downloadBuilder(path);
+        builder.range(offset, length);
+        return open(builder);
+    }
+
+    @Override
+    public long size(String path) {
+        try {
+            Metadata metadata = apiClient.files().getMetadata(path);
+            if (metadata instanceof FileMetadata fileMetadata) {
+                return fileMetadata.getSize();
+            }
+            throw new FileStorageException("Dropbox path " + path + " is not a file");
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to read file metadata from Dropbox: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredFile move(String fromPath, String toPath) {
+        try {
+            Metadata metadata = apiClient.files().moveV2(fromPath, toPath).getMetadata();
+            if (metadata instanceof FileMetadata fileMetadata) {
+                return toStoredFile(fileMetadata);
+            }
+            throw new FileStorageException("Dropbox path " + toPath + " is not a file");
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to move file in Dropbox: " + e.getMessage(), e);
         }
     }
 
-    public void deleteFile(String dropboxFilePath) {
+    @Override
+    public void delete(String path) {
         try {
-            dropboxClient.files().deleteV2(dropboxFilePath);
+            apiClient.files().deleteV2(path);
         } catch (DbxException e) {
             throw new FileStorageException(
                     "Failed to delete file from Dropbox: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public Map<String, String> deleteBatch(List<String> paths) {
+        try {
+            DeleteBatchLaunch launch = apiClient.files().deleteBatch(paths.stream()
+                    .map(DeleteArg::new)
+                    .toList());
+            DeleteBatchResult result = launch.isComplete()
+                    ? launch.getCompleteValue()
+                    : awaitDeleteBatch(launch);
+            Map<String, String> failures = new LinkedHashMap<>();
+            List<DeleteBatchResultEntry> entries = result.getEntries();
+            for (int i = 0; i < entries.size(); i++) {
+                DeleteBatchResultEntry entry = entries.get(i);
+                if (entry.isFailure() && !isNotFound(entry.getFailureValue())) {
+                    failures.put(paths.get(i), entry.getFailureValue().toString());
+                }
+            }
+            return failures;
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to delete files from Dropbox: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String startUpload() throws IOException {
+        try {
+            return apiClient.files()
+                    .uploadSessionStartBuilder()
+                    .withSessionType(UploadSessionType.CONCURRENT)
+                    .uploadAndFinish(InputStream.nullInputStream())
+                    .getSessionId();
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to start Dropbox upload session: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void appendChunk(String uploadId,
+                            long offset,
+                            InputStream data,
+                            long length,
+                            boolean last) throws IOException {
+        try {
+            contentClient.files()
+                    .uploadSessionAppendV2Builder(new UploadSessionCursor(uploadId, offset))
+                    .withClose(last)
+                    .uploadAndFinish(data, length);
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to append chunk to Dropbox upload session: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredFile finishUpload(String uploadId, long size, String path) throws IOException {
+        try {
+            return toStoredFile(apiClient.files()
+                    .uploadSessionFinish(new UploadSessionCursor(uploadId, size),
+                            new CommitInfo(path))
+                    .uploadAndFinish(InputStream.nullInputStream()));
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to finish Dropbox upload session: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isRemote() {
+        return true;
+    }
+
+    public static boolean isTransient(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NetworkIOException
+                    || cause instanceof ServerException
+                    || cause instanceof RetryException
+                    || cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private DeleteBatchResult awaitDeleteBatch(DeleteBatchLaunch launch) throws DbxException {
+        if (!launch.isAsyncJobId()) {
+            throw new FileStorageException("Unexpected Dropbox batch delete response: " + launch);
+        }
+        String jobId = launch.getAsyncJobIdValue();
+        long deadline = System.currentTimeMillis() + DELETE_BATCH_TIMEOUT_MILLIS;
+        while (true) {
+            DeleteBatchJobStatus status = apiClient.files().deleteBatchCheck(jobId);
+            if (status.isComplete()) {
+                return status.getCompleteValue();
+            }
+            if (status.isFailed()) {
+                throw new FileStorageException(
+                        "Dropbox batch delete failed: " + status.getFailedValue());
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new FileStorageException(
+                        "Dropbox batch delete " + jobId + " did not finish in time");
+            }
+            try {
+                Thread.sleep(DELETE_BATCH_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FileStorageException("Interrupted waiting for Dropbox batch delete", e);
+            }
+        }
+    }
+
+    private static boolean isNotFound(DeleteError error) {
+        return error.isPathLookup() && error.getPathLookupValue().isNotFound();
+    }
+
+    private InputStream open(DownloadBuilder builder) {
+        try {
+            DbxDownloader<FileMetadata> downloader = builder.start();
+            return new FilterInputStream(downloader.getInputStream()) {
+                @Override
+                public void close() {
+                    downloader.close();
+                }
+            };
+        } catch (DbxException e) {
+            throw new FileStorageException(
+                    "Failed to download file from Dropbox: " + e.getMessage(), e);
+        }
+    }
+
+    private StoredFile toStoredFile(FileMetadata metadata) {
+        return new StoredFile(metadata.getId(),
+                metadata.getPathLower(),
+                metadata.getSize(),
+                metadata.getContentHash());
+    }
 }
@@ -1,46 +1,109 @@
 package taskmanagement.service.impl;
 
-import com.dropbox.core.DbxException;
-import com.dropbox.core.v2.files.FileMetadata;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import taskmanagement.dto.attachment.AttachmentCacheStatsDto;
 import taskmanagement.dto.attachment.AttachmentResponseDto;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+import taskmanagement.dto.attachment.UploadSessionDto;
+import taskmanagement.dto.attachment.UploadSessionRequestDto;
 import taskmanagement.exceptions.AccessDeniedException;
+import taskmanagement.exceptions.ConstraintViolations;
 import taskmanagement.exceptions.EntityNotFoundException;
 import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.exceptions.InvalidRequestException;
 import taskmanagement.mapper.AttachmentMapper;
 import taskmanagement.model.Attachment;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.model.AttachmentUploadSession;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.repository.AttachmentUploadSessionRepository;
 import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.AttachmentService;
-import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.service.SyncService;
+import taskmanagement.service.storage.AttachmentArchiveWriter;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentFileCache;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.ContentHasher;
+import taskmanagement.service.storage.StorageDeletionQueue;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.AttachmentThumbnailWorker;
+import taskmanagement.service.thumbnail.ThumbnailCache;
+import taskmanagement.service.upload.AttachmentSpool;
+import taskmanagement.service.upload.AttachmentUploadWorker;
 
 @Log4j2
 @RequiredArgsConstructor
 @Service
 public class AttachmentServiceImpl implements AttachmentService {
 
+    private static final long DROPBOX_BLOCK_SIZE = 4L * 1024 * 1024;
+    private static final String STAGING_FOLDER = "/uploads/";
+    private static final String TASK_FILENAME_CONSTRAINT = "uk_attachments_task_filename";
+
     private final AttachmentRepository attachmentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final PermissionValidator permissionValidator;
-    private final DropboxService dropboxService;
+    private final AttachmentStorage storage;
+    private final AttachmentFileCache attachmentFileCache;
+    private final AttachmentBlobStore blobStore;
+    private final AttachmentSpool attachmentSpool;
+    private final AttachmentUploadWorker uploadWorker;
+    private final AttachmentArchiveWriter archiveWriter;
+    private final AttachmentThumbnailWorker thumbnailWorker;
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final ThumbnailCache thumbnailCache;
+    private final StorageDeletionQueue deletionQueue;
+    private final AttachmentUploadSessionRepository uploadSessionRepository;
     private final AttachmentMapper attachmentMapper;
+    private final SyncService syncService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${attachment.upload.chunk-size:8388608}")
+    private long uploadChunkSize;
+
+    @Value("${attachment.upload.session-ttl-hours:24}")
+    private long uploadSessionTtlHours;
 
+    /**
+     * Stores new content before any transaction is opened, so the remote transfer holds
+     * neither a pooled connection nor the blob row lock. Only acquiring or registering the
+     * blob and saving the attachment share a transaction.
+     */
     @Override
     public AttachmentResponseDto uploadAttachment(Long taskId, MultipartFile file, String email) {
         log.info("starting uploading Attachment to task {}", taskId);
@@ -51,41 +114,189 @@ public class AttachmentServiceImpl implements AttachmentService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "User with email " + email + " not found"));
-        try {
-            permissionValidator.validateAccess(email,
-                    task.getProject().getId(),
-                    ProjectMember.Role.MANAGER);
-        } catch (AccessDeniedException ex) {
-            log.info("checking assigment permissions");
-            if (!task.getAssignee().equals(user)) {
-                throw new AccessDeniedException(
-                        "You don't have permission to upload attachment to this task");
-            }
-            log.info("access granted to upload attachment");
+        validateUploadAccess(task, user, email);
+        String filename = file.getOriginalFilename();
+        ensureNotAttached(taskId, filename);
+        String contentHash;
+        try (InputStream inputStream = file.getInputStream()) {
+            contentHash = ContentHasher.hash(inputStream);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to read uploaded file: " + e.getMessage(), e);
         }
-        FileMetadata metadata;
+        StoredFile uploaded = blobStore.exists(contentHash) ? null : uploadBlob(file, contentHash);
+        AttachmentResponseDto saved = saveUploaded(task, user, filename, contentHash, uploaded);
+        if (saved == null) {
+            // the blob was released between the existence check and the acquire
+            saved = saveUploaded(task, user, filename, contentHash,
+                    uploadBlob(file, contentHash));
+        }
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public AttachmentResponseDto uploadAttachmentAsync(Long taskId,
+                                                       MultipartFile file,
+                                                       String email) {
+        log.info("spooling Attachment for asynchronous upload to task {}", taskId);
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + taskId + " not found"));
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "User with email " + email + " not found"));
+        validateUploadAccess(task, user, email);
+        String filename = file.getOriginalFilename();
+        ensureNotAttached(taskId, filename);
+        AttachmentSpool.SpooledFile spooled;
         try {
-            metadata = dropboxService.uploadFile(file, "/tasks/" + taskId);
-        } catch (IOException | DbxException e) {
+            spooled = attachmentSpool.spool(file);
+        } catch (IOException e) {
             throw new FileStorageException(
-                    "Failed to upload file to Dropbox: " + e.getMessage(), e);
+                    "Failed to spool uploaded file: " + e.getMessage(), e);
         }
-        if (!attachmentRepository.findByPath(metadata.getPathLower()).isEmpty()) {
-            throw new FileStorageException(
-                    "File with path " + metadata.getPathLower() + " already exists");
+        Optional<AttachmentBlob> known = blobStore.acquire(spooled.contentHash());
+        if (known.isPresent()) {
+            attachmentSpool.discard(spooled);
+            return saveAttachment(task, user, filename, known.get());
         }
         Attachment attachment = new Attachment();
         attachment.setTask(task);
-        attachment.setDropboxFileId(metadata.getId());
-        attachment.setFilename(file.getOriginalFilename());
-        attachment.setPath(metadata.getPathLower());
+        attachment.setFilename(filename);
+        attachment.setSize(spooled.size());
+        attachment.setContentHash(spooled.contentHash());
+        attachment.setSpoolNode(attachmentSpool.nodeId());
+        attachment.setStatus(Attachment.Status.PENDING);
         attachment.setUploadDate(LocalDateTime.now());
         attachment.setUploadedBy(user);
-        Attachment saved = attachmentRepository.save(attachment);
-        log.info("Attachment uploaded successfully: id={}", saved.getId());
+        Attachment saved;
+        try {
+            saved = insert(attachment);
+            attachmentSpool.claim(spooled, saved.getId());
+        } catch (FileStorageException e) {
+            attachmentSpool.discard(spooled);
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            attachmentSpool.discard(spooled);
+            throw new FileStorageException(
+                    "Failed to queue uploaded file: " + e.getMessage(), e);
+        }
+        taskRepository.adjustAttachmentCount(task.getId(), 1);
+        syncService.recordUpsert(SyncChange.EntityType.ATTACHMENT,
+                saved.getId(),
+                task.getProject().getId());
+        uploadWorker.submit(saved.getId());
+        log.info("Attachment queued for upload: id={}", saved.getId());
         return attachmentMapper.toDto(saved);
     }
 
+    @Override
+    public UploadSessionDto startUpload(Long taskId,
+                                       UploadSessionRequestDto request,
+                                       String email) {
+        log.info("starting chunked upload of {} bytes to task {}", request.size(), taskId);
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + taskId + " not found"));
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "User with email " + email + " not found"));
+        validateUploadAccess(task, user, email);
+        ensureNotAttached(taskId, request.filename());
+        long chunkSize = Math.max(1, uploadChunkSize / DROPBOX_BLOCK_SIZE) * DROPBOX_BLOCK_SIZE;
+        AttachmentUploadSession session = new AttachmentUploadSession();
+        session.setTask(task);
+        session.setUploadedBy(user);
+        session.setFilename(request.filename());
+        session.setSize(request.size());
+        session.setChunkSize(chunkSize);
+        session.setTotalChunks(Math.toIntExact((request.size() + chunkSize - 1) / chunkSize));
+        try {
+            session.setDropboxSessionId(storage.startUpload());
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to start upload session: " + e.getMessage(), e);
+        }
+        session.setStatus(AttachmentUploadSession.Status.OPEN);
+        session.setExpiresAt(LocalDateTime.now().plusHours(uploadSessionTtlHours));
+        AttachmentUploadSession saved = uploadSessionRepository.save(session);
+        log.info("Upload session started: id = {}, chunks = {}",
+                saved.getId(), saved.getTotalChunks());
+        return toDto(saved, List.of());
+    }
+
+    @Override
+    public UploadSessionDto uploadChunk(Long sessionId,
+                                        int chunkIndex,
+                                        InputStream data,
+                                        long contentLength,
+                                        String email) {
+        AttachmentUploadSession session = checkOpen(findSession(sessionId, email));
+        if (chunkIndex < 0 || chunkIndex >= session.getTotalChunks()) {
+            throw new InvalidRequestException("Chunk index " + chunkIndex
+                    + " is out of range 0.." + (session.getTotalChunks() - 1));
+        }
+        long offset = chunkIndex * session.getChunkSize();
+        long length = Math.min(session.getChunkSize(), session.getSize() - offset);
+        if (contentLength != length) {
+            throw new InvalidRequestException(
+                    "Chunk " + chunkIndex + " must be exactly " + length + " bytes");
+        }
+        List<Integer> received = uploadSessionRepository.findReceivedChunks(sessionId);
+        if (received.contains(chunkIndex)) {
+            return toDto(session, received);
+        }
+        try {
+            storage.appendChunk(session.getDropboxSessionId(),
+                    offset,
+                    data,
+                    length,
+                    chunkIndex == session.getTotalChunks() - 1);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to upload chunk " + chunkIndex + ": " + e.getMessage(), e);
+        }
+        // a concurrent retry of the same chunk wrote the same bytes; the primary key keeps one row
+        uploadSessionRepository.markChunkReceived(sessionId, chunkIndex);
+        return toDto(session, uploadSessionRepository.findReceivedChunks(sessionId));
+    }
+
+    @Override
+    public UploadSessionDto getUpload(Long sessionId, String email) {
+        AttachmentUploadSession session = findSession(sessionId, email);
+        return toDto(session, uploadSessionRepository.findReceivedChunks(sessionId));
+    }
+
+    @Override
+    @Transactional
+    public AttachmentResponseDto commitUpload(Long sessionId, String email) {
+        AttachmentUploadSession session = checkOpen(lockSession(sessionId, email));
+        int received = uploadSessionRepository.findReceivedChunks(sessionId).size();
+        if (received != session.getTotalChunks()) {
+            throw new InvalidRequestException("Upload session " + sessionId + " is missing "
+                    + (session.getTotalChunks() - received) + " chunks");
+        }
+        Task task = session.getTask();
+        ensureNotAttached(task.getId(), session.getFilename());
+        StoredFile staged = finishUpload(session);
+        String contentHash = staged.contentHash();
+        Optional<AttachmentBlob> existing = blobStore.acquire(contentHash);
+        if (existing.isPresent()) {
+            discardStagedFile(staged.path());
+        }
+        AttachmentBlob blob = existing.orElseGet(() -> blobStore.register(contentHash,
+                storage.move(staged.path(), AttachmentBlobStore.BLOB_FOLDER + contentHash)));
+        AttachmentResponseDto attachment = saveAttachment(task,
+                session.getUploadedBy(),
+                session.getFilename(),
+                blob);
+        session.setStatus(AttachmentUploadSession.Status.COMMITTED);
+        session.setAttachmentId(attachment.id());
+        uploadSessionRepository.save(session);
+        return attachment;
+    }
+
     @Override
     public List<AttachmentResponseDto> getAttachmentsByTask(Long taskId,
                                                             String email,
@@ -102,7 +313,9 @@ public class AttachmentServiceImpl implements AttachmentService {
     }
 
     @Override
-    public ResponseEntity<byte[]> downloadAttachment(Long attachmentId, String email) {
+    public ResponseEntity<StreamingResponseBody> downloadAttachment(Long attachmentId,
+                                                                    String range,
+                                                                    String email) {
         Attachment attachment = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Attachment with id " + attachmentId + " not found"));
@@ -110,17 +323,332 @@ public class AttachmentServiceImpl implements AttachmentService {
         permissionValidator.validateAccess(email,
                 attachment.getTask().getProject().getId(),
                 ProjectMember.Role.VIEWER);
+        if (attachment.getStatus() != Attachment.Status.STORED) {
+            throw new InvalidRequestException("Attachment " + attachmentId
+                    + " is not available for download, status: " + attachment.getStatus());
+        }
 
-        byte[] fileData = dropboxService.downloadFile(attachment.getPath());
-
-        return ResponseEntity.ok()
+        long size = resolveSize(attachment);
+        HttpRange requested = parseSingleRange(range);
+        long offset = 0;
+        long length = size;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (requested != null) {
+            offset = requested.getRangeStart(size);
+            length = requested.getRangeEnd(size) - offset + 1;
+            if (offset >= size || length <= 0) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .header(HttpHeaders.CONTENT_RANGE,
+                            "bytes " + offset + "-" + (offset + length - 1) + "/" + size);
+        }
+        String fileId = attachment.getDropboxFileId();
+        String path = attachment.getPath();
+        long start = offset;
+        long count = length;
+        StreamingResponseBody body = count == 0
+                ? out -> { }
+                : out -> attachmentFileCache.stream(fileId, path, size, start, count, out);
+        return response
                 .header(HttpHeaders.CONTENT_DISPOSITION,
                         "attachment; filename=\"" + attachment.getFilename() + "\"")
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                 .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(fileData);
+                .contentLength(length)
+                .body(body);
     }
 
     @Override
+    public ResponseEntity<StreamingResponseBody> downloadArchive(Long taskId,
+                                                                 List<Long> attachmentIds,
+                                                                 String email) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + taskId + " not found"));
+        permissionValidator.validateAccess(email,
+                task.getProject().getId(),
+                ProjectMember.Role.VIEWER);
+        List<Attachment> attachments = attachmentIds == null || attachmentIds.isEmpty()
+                ? attachmentRepository.findByTask_IdAndStatusOrderById(taskId,
+                        Attachment.Status.STORED)
+                : selectAttachments(taskId, attachmentIds);
+        if (attachments.isEmpty()) {
+            throw new EntityNotFoundException(
+                    "Task with id " + taskId + " has no attachments to download");
+        }
+        List<AttachmentArchiveWriter.Entry> entries = attachments.stream()
+                .map(attachment -> new AttachmentArchiveWriter.Entry(attachment.getId(),
+                        attachment.getFilename(),
+                        attachment.getPath(),
+                        attachment.getSize()))
+                .toList();
+        log.info("Streaming archive of {} attachments of task {}", entries.size(), taskId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"task-" + taskId + "-attachments.zip\"")
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(out -> archiveWriter.write(entries, out));
+    }
+
+    @Override
+    public ResponseEntity<byte[]> getThumbnail(Long attachmentId,
+                                               AttachmentThumbnail.Size size,
+                                               String ifNoneMatch,
+                                               String email) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Attachment with id " + attachmentId + " not found"));
+        permissionValidator.validateAccess(email,
+                attachment.getTask().getProject().getId(),
+                ProjectMember.Role.VIEWER);
+        AttachmentThumbnail thumbnail = Optional.ofNullable(attachment.getContentHash())
+                .filter(hash -> attachment.getStatus() == Attachment.Status.STORED)
+                .flatMap(hash -> thumbnailRepository.findByContentHashAndSize(hash, size))
+                .orElseThrow(() -> new EntityNotFoundException("Thumbnail " + size
+                        + " of attachment " + attachmentId + " is not available"));
+        String etag = "\"" + thumbnail.getContentHash() + "-"
+                + size.name().toLowerCase(Locale.ROOT) + "\"";
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365))
+                .cachePrivate()
+                .immutable();
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        byte[] data;
+        try {
+            data = thumbnailCache.get(thumbnail);
+        } catch (IOException e) {
+            throw new FileStorageException("Failed to read thumbnail: " + e.getMessage(), e);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(data.length)
+                .body(data);
+    }
+
+    @Override
+    public AttachmentCacheStatsDto getCacheStats() {
+        return attachmentFileCache.getStats();
+    }
+
+    @Override
+    public AttachmentStorageStatsDto getStorageStats() {
+        return storage.getStats().orElseThrow(() -> new EntityNotFoundException(
+                "Attachment storage does not report resilience stats"));
+    }
+
+    private void validateUploadAccess(Task task, User user, String email) {
+        try {
+            permissionValidator.validateAccess(email,
+                    task.getProject().getId(),
+                    ProjectMember.Role.MANAGER);
+        } catch (AccessDeniedException ex) {
+            log.info("checking assigment permissions");
+            if (!user.equals(task.getAssignee())) {
+                throw new AccessDeniedException(
+                        "You don't have permission to upload attachment to this task");
+            }
+            log.info("access granted to upload attachment");
+        }
+    }
+
+    private List<Attachment> selectAttachments(Long taskId, List<Long> attachmentIds) {
+        Set<Long> requested = new HashSet<>(attachmentIds);
+        List<Attachment> attachments =
+                attachmentRepository.findByTask_IdAndIdInOrderById(taskId, requested);
+        if (attachments.size() != requested.size()) {
+            attachments.forEach(attachment -> requested.remove(attachment.getId()));
+            throw new EntityNotFoundException("Attachments " + requested
+                    + " not found in task " + taskId);
+        }
+        attachments.stream()
+                .filter(attachment -> attachment.getStatus() != Attachment.Status.STORED)
+                .findFirst()
+                .ifPresent(attachment -> {
+                    throw new InvalidRequestException("Attachment " + attachment.getId()
+                            + " is not available for download, status: "
+                            + attachment.getStatus());
+                });
+        return attachments;
+    }
+
+    private void ensureNotAttached(Long taskId, String filename) {
+        if (attachmentRepository.existsByTask_IdAndFilename(taskId, filename)) {
+            throw new FileStorageException(
+                    "File " + filename + " is already attached to task " + taskId);
+        }
+    }
+
+    private StoredFile uploadBlob(MultipartFile file, String contentHash) {
+        log.info("uploading new attachment blob {}", contentHash);
+        StoredFile stored;
+        try (InputStream inputStream = file.getInputStream()) {
+            stored = storage.put(AttachmentBlobStore.BLOB_FOLDER + contentHash,
+                    inputStream,
+                    file.getSize(),
+                    contentHash);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to store uploaded file: " + e.getMessage(), e);
+        }
+        return stored;
+    }
+
+    private AttachmentResponseDto saveUploaded(Task task,
+                                               User user,
+                                               String filename,
+                                               String contentHash,
+                                               StoredFile uploaded) {
+        return transactionTemplate.execute(status -> {
+            Optional<AttachmentBlob> blob = blobStore.acquire(contentHash);
+            if (blob.isEmpty() && uploaded == null) {
+                return null;
+            }
+            return saveAttachment(task, user, filename,
+                    blob.orElseGet(() -> blobStore.register(contentHash, uploaded)));
+        });
+    }
+
+    private StoredFile finishUpload(AttachmentUploadSession session) {
+        try {
+            return storage.finishUpload(session.getDropboxSessionId(),
+                    session.getSize(),
+                    STAGING_FOLDER + session.getId());
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to commit upload session: " + e.getMessage(), e);
+        }
+    }
+
+    private void discardStagedFile(String path) {
+        try {
+            storage.delete(path);
+        } catch (FileStorageException e) {
+            log.warn("Failed to discard staged upload {}: {}", path, e.getMessage());
+        }
+    }
+
+    private AttachmentResponseDto saveAttachment(Task task,
+                                                 User user,
+                                                 String filename,
+                                                 AttachmentBlob blob) {
+        Attachment attachment = new Attachment();
+        attachment.setTask(task);
+        attachment.setDropboxFileId(blob.getDropboxFileId());
+        attachment.setFilename(filename);
+        attachment.setPath(blob.getPath());
+        attachment.setSize(blob.getSize());
+        attachment.setContentHash(blob.getContentHash());
+        attachment.setStatus(Attachment.Status.STORED);
+        attachment.setUploadDate(LocalDateTime.now());
+        attachment.setUploadedBy(user);
+        Attachment saved = insert(attachment);
+        taskRepository.adjustAttachmentCount(task.getId(), 1);
+        syncService.recordUpsert(SyncChange.EntityType.ATTACHMENT,
+                saved.getId(),
+                task.getProject().getId());
+        log.info("Attachment uploaded successfully: id={}", saved.getId());
+        thumbnailWorker.submit(blob.getContentHash(), blob.getPath(), filename);
+        return attachmentMapper.toDto(saved);
+    }
+
+    /**
+     * Inserts a new attachment row. The unique (task_id, filename) constraint catches uploads
+     * that raced past {@link #ensureNotAttached}; the caller's transaction then rolls back
+     * together with the blob reference it acquired.
+     */
+    private Attachment insert(Attachment attachment) {
+        try {
+            return attachmentRepository.save(attachment);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, TASK_FILENAME_CONSTRAINT)) {
+                throw new FileStorageException("File " + attachment.getFilename()
+                        + " is already attached to task " + attachment.getTask().getId());
+            }
+            throw e;
+        }
+    }
+
+    private AttachmentUploadSession findSession(Long sessionId, String email) {
+        return checkOwner(uploadSessionRepository.findById(sessionId), sessionId, email);
+    }
+
+    /**
+     * Loads a session with its row locked for the rest of the transaction, so a session is
+     * committed at most once. Chunk uploads do not take this lock: they append to Dropbox in
+     * parallel and record completion with an idempotent insert.
+     */
+    private AttachmentUploadSession lockSession(Long sessionId, String email) {
+        return checkOwner(uploadSessionRepository.findByIdForUpdate(sessionId), sessionId, email);
+    }
+
+    private AttachmentUploadSession checkOpen(AttachmentUploadSession session) {
+        if (session.getStatus() != AttachmentUploadSession.Status.OPEN) {
+            throw new InvalidRequestException(
+                    "Upload session " + session.getId() + " is already committed");
+        }
+        if (session.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidRequestException(
+                    "Upload session " + session.getId() + " has expired");
+        }
+        return session;
+    }
+
+    private AttachmentUploadSession checkOwner(Optional<AttachmentUploadSession> found,
+                                               Long sessionId,
+                                               String email) {
+        AttachmentUploadSession session = found.orElseThrow(() -> new EntityNotFoundException(
+                "Upload session with id " + sessionId + " not found"));
+        if (!session.getUploadedBy().getEmail().equals(email)) {
+            throw new AccessDeniedException("You can only access your own upload sessions");
+        }
+        return session;
+    }
+
+    private UploadSessionDto toDto(AttachmentUploadSession session, List<Integer> received) {
+        return new UploadSessionDto(session.getId(),
+                session.getTask().getId(),
+                session.getFilename(),
+                session.getSize(),
+                session.getChunkSize(),
+                session.getTotalChunks(),
+                received,
+                session.getStatus(),
+                session.getExpiresAt());
+    }
+
+    private long resolveSize(Attachment attachment) {
+        if (attachment.getSize() != null) {
+            return attachment.getSize();
+        }
+        long size = storage.size(attachment.getPath());
+        attachment.setSize(size);
+        attachmentRepository.save(attachment);
+        return size;
+    }
+
+    private HttpRange parseSingleRange(String range) {
+        if (range == null || range.isBlank()) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    @Transactional
     public void deleteAttachment(Long attachmentId, String email) {
         log.info("starting deleting Attachment: id = {}", attachmentId);
         Attachment attachment = attachmentRepository.findById(attachmentId)
@@ -139,14 +667,23 @@ public class AttachmentServiceImpl implements AttachmentService {
             }
             log.info("access granted to delete attachment");
         }
-        try {
-            dropboxService.deleteFile(attachment.getPath());
-        } catch (FileStorageException e) {
-            throw new FileStorageException(
-                    "Failed to delete file from Dropbox: " + e.getMessage(), e);
+        Attachment.Status status = attachment.getStatus();
+        boolean stored = status == Attachment.Status.STORED;
+        if (stored && attachment.getContentHash() == null) {
+            deletionQueue.enqueue(List.of(attachment.getPath()));
+            attachmentFileCache.evict(attachment.getDropboxFileId());
         }
-
         attachmentRepository.delete(attachment);
+        if (stored && attachment.getContentHash() != null) {
+            blobStore.release(Map.of(attachment.getContentHash(), 1L));
+        }
+        if (status == Attachment.Status.PENDING) {
+            attachmentSpool.delete(attachment.getId());
+        }
+        taskRepository.adjustAttachmentCount(task.getId(), -1);
+        syncService.recordDelete(SyncChange.EntityType.ATTACHMENT,
+                attachment.getId(),
+                task.getProject().getId());
         log.info("Attachment deleted successfully");
     }
 }
@@ -4,15 +4,23 @@ import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import taskmanagement.dto.comment.CommentRequestDto;
 import taskmanagement.dto.comment.CommentResponseDto;
+import taskmanagement.dto.comment.CommentSummaryDto;
+import taskmanagement.dto.comment.CommentThreadDto;
 import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
 import taskmanagement.mapper.CommentMapper;
 import taskmanagement.model.Comment;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.repository.CommentRepository;
@@ -20,6 +28,9 @@ import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.CommentService;
+import taskmanagement.service.SyncService;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.mention.CommentMentionEvent;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -31,8 +42,18 @@ public class CommentServiceImpl implements CommentService {
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
     private final PermissionValidator permissionValidator;
+    private final SyncService syncService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MarkdownCache markdownCache;
+
+    @Value("${comment.excerpt-length:200}")
+    private int excerptLength;
+
+    @Value("${comment.thread.max-limit:100}")
+    private int maxThreadLimit;
 
     @Override
+    @Transactional
     public CommentResponseDto addComment(CommentRequestDto request, String email) {
         log.info("Starting adding comment to task with id = {}", request.taskId());
         User user = userRepository.findByEmail(email)
@@ -50,11 +71,24 @@ public class CommentServiceImpl implements CommentService {
         comment.setText(request.text());
         comment.setTimestamp(LocalDateTime.now());
         Comment savedComment = commentRepository.save(comment);
+        taskRepository.adjustCommentCount(task.getId(), 1);
+        syncService.recordUpsert(SyncChange.EntityType.COMMENT,
+                savedComment.getId(),
+                task.getProject().getId());
+        if (request.text().indexOf('@') >= 0) {
+            eventPublisher.publishEvent(new CommentMentionEvent(savedComment.getId(),
+                    task.getProject().getId(),
+                    user.getId(),
+                    user.getUsernameField(),
+                    task.getName(),
+                    request.text()));
+        }
         log.info("Comment added successfully: id = {}", savedComment.getId());
         return commentMapper.toDto(savedComment);
     }
 
     @Override
+    @Transactional
     public CommentResponseDto updateComment(Long commentId, String text, String email) {
         log.info("Starting editing comment: id = {}", commentId);
         User user = userRepository.findByEmail(email)
@@ -69,6 +103,10 @@ public class CommentServiceImpl implements CommentService {
         commentToEdit.setTimestamp(LocalDateTime.now());
         commentMapper.updateFromPatch(text, commentToEdit);
         Comment editedComment = commentRepository.save(commentToEdit);
+        markdownCache.evictComment(commentId);
+        syncService.recordUpsert(SyncChange.EntityType.COMMENT,
+                editedComment.getId(),
+                commentToEdit.getTask().getProject().getId());
         log.info("Comment edited successfully");
         return commentMapper.toDto(editedComment);
 
@@ -91,6 +129,49 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    public CommentThreadDto getCommentThread(Long taskId,
+                                             LocalDateTime afterTimestamp,
+                                             Long afterId,
+                                             int limit,
+                                             String email) {
+        if ((afterTimestamp == null) != (afterId == null)) {
+            throw new InvalidRequestException(
+                    "afterTimestamp and afterId must be given together");
+        }
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + taskId + " not found"));
+        permissionValidator.validateAccess(email,
+                task.getProject().getId(),
+                ProjectMember.Role.VIEWER);
+        int size = Math.max(1, Math.min(limit, maxThreadLimit));
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<CommentSummaryDto> comments = afterTimestamp == null
+                ? commentRepository.findThreadStart(taskId, excerptLength, page)
+                : commentRepository.findThreadAfter(taskId, afterTimestamp, afterId,
+                        excerptLength, page);
+        boolean hasMore = comments.size() > size;
+        List<CommentSummaryDto> result = hasMore ? comments.subList(0, size) : comments;
+        CommentSummaryDto last = result.isEmpty() ? null : result.get(result.size() - 1);
+        return new CommentThreadDto(result,
+                last != null ? last.timestamp() : afterTimestamp,
+                last != null ? last.id() : afterId,
+                hasMore);
+    }
+
+    @Override
+    public CommentResponseDto getComment(Long commentId, String email) {
+        Comment comment = commentRepository.findByIdWithRelations(commentId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Comment with id " + commentId + " not found"));
+        permissionValidator.validateAccess(email,
+                comment.getTask().getProject().getId(),
+                ProjectMember.Role.VIEWER);
+        return commentMapper.toDto(comment);
+    }
+
+    @Override
+    @Transactional
     public void deleteComment(Long commentId, String email) {
         log.info("Starting deleting comment: id = {}", commentId);
         User user = userRepository.findByEmail(email)
@@ -103,6 +184,11 @@ public class CommentServiceImpl implements CommentService {
             throw new AccessDeniedException("You can only delete your own comments");
         }
         commentRepository.delete(comment);
+        markdownCache.evictComment(commentId);
+        taskRepository.adjustCommentCount(comment.getTask().getId(), -1);
+        syncService.recordDelete(SyncChange.EntityType.COMMENT,
+                comment.getId(),
+                comment.getTask().getProject().getId());
         log.info("Comment deleted successfully");
     }
 }
@@ -1,105 +1,87 @@
 package taskmanagement.service.impl;
 
-import jakarta.mail.internet.MimeMessage;
-import java.io.IOException;
-import java.nio.file.Files;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import taskmanagement.exceptions.EmailSendingException;
-import taskmanagement.exceptions.TemplatesLoadException;
+import org.springframework.web.util.HtmlUtils;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.service.EmailService;
+import taskmanagement.service.mail.EmailOutbox;
+import taskmanagement.service.mail.EmailTemplates;
+import taskmanagement.service.mention.Mention;
 
-@Log4j2
 @Service
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
-
-    @Value("${mail.from.address}")
-    private String fromEmail;
+    private final EmailTemplates emailTemplates;
+    private final EmailOutbox outbox;
 
     @Override
     public void sendPasswordChangeVerification(User user, String code) {
-        String template = loadTemplate("password_change.html");
-        String content = fillTemplate(template, Map.of(
+        String content = emailTemplates.get("password_change.html").render(Map.of(
                 "username", user.getUsername(),
                 "verificationCode", code
         ));
-        sendHtmlEmail(user.getEmail(), "Password Change Verification Code", content);
+        queueHtmlEmail(user.getEmail(), "Password Change Verification Code", content);
     }
 
     @Override
     public void sendEmailChangeVerification(User user,String newEmail, String code) {
-        String template = loadTemplate("email_change.html");
-        String content = fillTemplate(template, Map.of(
+        String content = emailTemplates.get("email_change.html").render(Map.of(
                 "username", user.getUsername(),
                 "newEmail", newEmail,
                 "verificationCode", code
         ));
-        sendHtmlEmail(user.getEmail(), "Email Change Verification Code", content);
+        queueHtmlEmail(user.getEmail(), "Email Change Verification Code", content);
 
     }
 
     @Override
     public void sendTaskReminder(User user, Task task) {
-        String template = loadTemplate("task_reminder.html");
-        String content = fillTemplate(template, Map.of(
+        String content = emailTemplates.get("task_reminder.html").render(Map.of(
                 "username", user.getUsername(),
                 "taskName", task.getName(),
                 "dueDate", task.getDueDate().toString()
         ));
-        sendHtmlEmail(user.getEmail(), "Task Reminder: " + task.getName(), content);
+        queueHtmlEmail(user.getEmail(), "Task Reminder: " + task.getName(), content);
     }
 
     @Override
     public void sendNewTaskAssigned(User user, Task task) {
-        String template = loadTemplate("task_assigned.html");
-        String content = fillTemplate(template, Map.of(
+        String content = emailTemplates.get("task_assigned.html").render(Map.of(
                 "username", user.getUsername(),
                 "taskName", task.getName(),
                 "projectName", task.getProject().getName(),
                 "dueDate", task.getDueDate().toString()
         ));
-        sendHtmlEmail(user.getEmail(), "New Task Assigned: " + task.getName(), content);
+        queueHtmlEmail(user.getEmail(), "New Task Assigned: " + task.getName(), content);
     }
 
-    private void sendHtmlEmail(String toEmail, String subject, String html) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject(subject);
-            helper.setText(html, true);
-            mailSender.send(message);
-            log.info("Email sent to {}", toEmail);
-        } catch (Exception e) {
-            throw new EmailSendingException("Failed to send email to: " + toEmail);
+    @Override
+    public void sendMentionNotification(User user, List<Mention> mentions, int omitted) {
+        StringBuilder items = new StringBuilder();
+        for (Mention mention : mentions) {
+            items.append("<li><strong>").append(HtmlUtils.htmlEscape(mention.authorName()))
+                    .append("</strong> in <strong>\"")
+                    .append(HtmlUtils.htmlEscape(mention.taskName()))
+                    .append("\"</strong>: ")
+                    .append(HtmlUtils.htmlEscape(mention.excerpt()))
+                    .append("</li>");
         }
-    }
-
-    private String loadTemplate(String path) {
-        try {
-            ClassPathResource resource = new ClassPathResource("templates/email/" + path);
-            return Files.readString(resource.getFile().toPath());
-        } catch (IOException e) {
-            throw new TemplatesLoadException("Template" + path + " not found");
+        if (omitted > 0) {
+            items.append("<li>and ").append(omitted).append(" more</li>");
         }
+        String content = emailTemplates.get("mention_digest.html").render(Map.of(
+                "username", user.getUsername(),
+                "mentions", items.toString()
+        ));
+        queueHtmlEmail(user.getEmail(), "You were mentioned in comments", content);
     }
 
-    private String fillTemplate(String template, Map<String, String> values) {
-        for (Map.Entry<String, String> entry : values.entrySet()) {
-            template = template.replace("${" + entry.getKey() + "}", entry.getValue());
-        }
-        return template;
+    private void queueHtmlEmail(String toEmail, String subject, String html) {
+        outbox.enqueue(toEmail, subject, html);
     }
 }
@@ -2,28 +2,52 @@ package taskmanagement.service.impl;
 
 import jakarta.transaction.Transactional;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import taskmanagement.dto.project.ProjectDeletionJobDto;
 import taskmanagement.dto.project.ProjectMemberRequest;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.project.ProjectResponseDto;
+import taskmanagement.dto.project.ProjectSnapshotDto;
 import taskmanagement.dto.project.ProjectSummaryDto;
+import taskmanagement.dto.projectmember.ProjectMemberDto;
 import taskmanagement.dto.user.UserResponseDto;
+import taskmanagement.exceptions.AccessDeniedException;
+import taskmanagement.exceptions.ConstraintViolations;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
+import taskmanagement.exceptions.MemberAlreadyExistsException;
 import taskmanagement.mapper.ProjectMapper;
+import taskmanagement.mapper.ProjectMemberMapper;
 import taskmanagement.mapper.UserMapper;
 import taskmanagement.model.Project;
+import taskmanagement.model.ProjectDeletionJob;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.ProjectSnapshot;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.User;
+import taskmanagement.repository.ProjectDeletionJobRepository;
 import taskmanagement.repository.ProjectMemberRepository;
 import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.ProjectService;
+import taskmanagement.service.SyncService;
 
 @Log4j2
 @Transactional
@@ -31,12 +55,21 @@ import taskmanagement.service.ProjectService;
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final String PROJECT_MEMBER_CONSTRAINT = "uk_project_members_project_user";
+
     private final ProjectRepository projectRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectDeletionJobRepository projectDeletionJobRepository;
+    private final ProjectSnapshotRepository projectSnapshotRepository;
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final ProjectMapper projectMapper;
+    private final ProjectMemberMapper projectMemberMapper;
     private final PermissionValidator permissionValidator;
+    private final SyncService syncService;
+
+    @Value("${project.burndown.max-days:366}")
+    private int maxBurndownDays;
 
     @Override
     public ProjectResponseDto createProject(ProjectRequestDto request,
@@ -72,8 +105,16 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         "User with username:" + member.memberEmail() + " not found"));
         newMember.setUser(findededUser);
-        projectMemberRepository.save(newMember);
+        try {
+            projectMemberRepository.save(newMember);
+        } catch (DataIntegrityViolationException e) {
+            throw memberConflict(e, projectId, List.of(member.memberEmail()));
+        }
         project.getMembers().add(newMember);
+        syncService.recordUpsert(SyncChange.EntityType.PROJECT_MEMBER,
+                newMember.getId(),
+                projectId);
+        syncService.recordMembershipGranted(projectId, List.of(findededUser.getId()));
         log.info("members added successfully");
         return userMapper.toDto(findededUser);
     }
@@ -91,19 +132,98 @@ public class ProjectServiceImpl implements ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException(
                         "User with email: " + memberEmail + " is not part of this project"));
         project.getMembers().remove(memberToRemove);
+        syncService.recordDelete(SyncChange.EntityType.PROJECT_MEMBER,
+                memberToRemove.getId(),
+                projectId);
+        syncService.recordMembershipRevoked(projectId,
+                List.of(memberToRemove.getUser().getId()));
         log.info("members deleted successfully");
     }
 
+    @Override
+    public List<ProjectMemberDto> addMembersToProject(Long projectId,
+                                                      List<ProjectMemberRequest> members,
+                                                      String email) {
+        log.info("Starting bulk adding {} members to project: id = {}",
+                members.size(), projectId);
+        validateManagerAccess(projectId, email);
+        Set<String> emails = toDistinctEmails(members.stream()
+                .map(ProjectMemberRequest::memberEmail)
+                .toList());
+        Map<String, Long> userIds = userRepository.findByEmailIn(emails).stream()
+                .collect(Collectors.toMap(User::getEmail, User::getId));
+        if (userIds.size() < emails.size()) {
+            throw new EntityNotFoundException("Users with emails: "
+                    + missing(emails, userIds.keySet()) + " not found");
+        }
+        try {
+            members.stream()
+                    .collect(Collectors.groupingBy(ProjectMemberRequest::role,
+                            Collectors.mapping(m -> userIds.get(m.memberEmail()),
+                                    Collectors.toList())))
+                    .forEach((role, ids) ->
+                            projectMemberRepository.insertMembers(projectId, ids, role.name()));
+        } catch (DataIntegrityViolationException e) {
+            throw memberConflict(e, projectId, emails);
+        }
+        List<ProjectMember> added =
+                projectMemberRepository.findByProjectIdAndUserEmailIn(projectId, emails);
+        syncService.recordMemberChanges(memberIds(added), SyncChange.Operation.UPSERT);
+        syncService.recordMembershipGranted(projectId, userIds.values());
+        log.info("members added successfully: count = {}", added.size());
+        return added.stream().map(projectMemberMapper::toDto).toList();
+    }
+
+    @Override
+    public List<ProjectMemberDto> updateMemberRoles(Long projectId,
+                                                    List<ProjectMemberRequest> members,
+                                                    String email) {
+        log.info("Starting bulk role change of {} members in project: id = {}",
+                members.size(), projectId);
+        validateManagerAccess(projectId, email);
+        Set<String> emails = toDistinctEmails(members.stream()
+                .map(ProjectMemberRequest::memberEmail)
+                .toList());
+        Map<String, Long> memberIds = findMembers(projectId, emails).stream()
+                .collect(Collectors.toMap(m -> m.getUser().getEmail(), ProjectMember::getId));
+        members.stream()
+                .collect(Collectors.groupingBy(ProjectMemberRequest::role,
+                        Collectors.mapping(m -> memberIds.get(m.memberEmail()),
+                                Collectors.toList())))
+                .forEach((role, ids) -> projectMemberRepository.updateRole(ids, role));
+        syncService.recordMemberChanges(memberIds.values(), SyncChange.Operation.UPSERT);
+        log.info("member roles changed successfully");
+        return projectMemberRepository.findByProjectIdAndUserEmailIn(projectId, emails).stream()
+                .map(projectMemberMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public void deleteMembersFromProject(Long projectId, List<String> memberEmails, String email) {
+        log.info("Starting bulk deleting {} members from project: id = {}",
+                memberEmails.size(), projectId);
+        validateManagerAccess(projectId, email);
+        List<ProjectMember> members = findMembers(projectId, toDistinctEmails(memberEmails));
+        List<Long> memberIds = memberIds(members);
+        syncService.recordMemberChanges(memberIds, SyncChange.Operation.DELETE);
+        syncService.recordMembershipRevoked(projectId, members.stream()
+                .map(member -> member.getUser().getId())
+                .toList());
+        projectMemberRepository.deleteByIds(memberIds);
+        log.info("members deleted successfully: count = {}", memberIds.size());
+    }
+
     @Override
     public List<ProjectSummaryDto> getUserProjects(String email, Pageable pageable) {
-        return projectRepository.findAllByMemberEmail(email,pageable)
-                .map(project -> new ProjectSummaryDto(project.getId(),
-                        project.getName())).stream().toList();
+        return userRepository.findIdByEmail(email)
+                .map(userId -> projectRepository.findSummariesByMemberUserId(userId, pageable)
+                        .getContent())
+                .orElseGet(List::of);
     }
 
     @Override
     public ProjectResponseDto getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        Project project = projectRepository.findWithMembersById(id)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Project with id: " + id + " not found"));
         return projectMapper.toDto(project);
@@ -114,7 +234,7 @@ public class ProjectServiceImpl implements ProjectService {
                                             ProjectPatchRequestDto request,
                                             String email) {
         log.info("Starting editing project: id = {}", projectId);
-        Project project = projectRepository.findById(projectId)
+        Project project = projectRepository.findWithMembersById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Project with id: " + projectId + " not found"));
         permissionValidator.validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
@@ -125,13 +245,130 @@ public class ProjectServiceImpl implements ProjectService {
     }
 
     @Override
-    public void deleteProject(Long projectId, String email) {
+    public List<ProjectSnapshotDto> getBurndown(Long projectId, LocalDate from, LocalDate to,
+                                                String email) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= maxBurndownDays) {
+            throw new InvalidRequestException("Date range must be ordered and span at most "
+                    + maxBurndownDays + " days");
+        }
+        permissionValidator.validateAccess(email, projectId, ProjectMember.Role.VIEWER);
+        ProjectSnapshot current = projectSnapshotRepository
+                .findFirstByProjectIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(projectId, from)
+                .orElse(null);
+        Iterator<ProjectSnapshot> snapshots = projectSnapshotRepository
+                .findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(projectId, from, to)
+                .iterator();
+        ProjectSnapshot next = snapshots.hasNext() ? snapshots.next() : null;
+        LocalDate last = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
+        List<ProjectSnapshotDto> series = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(last); date = date.plusDays(1)) {
+            if (next != null && next.getSnapshotDate().equals(date)) {
+                current = next;
+                next = snapshots.hasNext() ? snapshots.next() : null;
+            }
+            if (current != null) {
+                series.add(toSnapshotDto(current, date));
+            }
+        }
+        return series;
+    }
+
+    @Override
+    public ProjectDeletionJobDto deleteProject(Long projectId, String email) {
         log.info("Starting deleting project: id = {}", projectId);
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         "Project with id: " + projectId + " not found"));
         permissionValidator.validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        projectRepository.deleteById(projectId);
-        log.info("project deleted successfully");
+        syncService.recordProjectDeleted(projectId);
+        project.setDeleted(true);
+        projectRepository.save(project);
+        ProjectDeletionJob job = new ProjectDeletionJob();
+        job.setProjectId(projectId);
+        job.setRequestedBy(email);
+        job.setStatus(ProjectDeletionJob.Status.PENDING);
+        ProjectDeletionJob savedJob = projectDeletionJobRepository.save(job);
+        log.info("project marked as deleted, purge scheduled: job id = {}", savedJob.getId());
+        return projectMapper.toDto(savedJob);
+    }
+
+    @Override
+    public ProjectDeletionJobDto getDeletionStatus(Long projectId, String email) {
+        ProjectDeletionJob job = projectDeletionJobRepository.findByProjectId(projectId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Deletion of project with id: " + projectId + " not found"));
+        if (!job.getRequestedBy().equals(email)) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            "User with email: " + email + " not found"));
+            if (user.getRole() != User.Role.ADMIN) {
+                throw new AccessDeniedException(
+                        "You don't have permission to view this project deletion");
+            }
+        }
+        return projectMapper.toDto(job);
+    }
+
+    private ProjectSnapshotDto toSnapshotDto(ProjectSnapshot snapshot, LocalDate date) {
+        return new ProjectSnapshotDto(date,
+                snapshot.getNotStarted(),
+                snapshot.getInProgress(),
+                snapshot.getCompleted(),
+                snapshot.getLowPriority(),
+                snapshot.getMediumPriority(),
+                snapshot.getHighPriority());
+    }
+
+    /**
+     * Translates a duplicate membership into a conflict; any other integrity violation is
+     * not a client error and is returned unchanged.
+     */
+    private RuntimeException memberConflict(DataIntegrityViolationException e,
+                                            Long projectId,
+                                            Collection<String> emails) {
+        if (!ConstraintViolations.isViolationOf(e, PROJECT_MEMBER_CONSTRAINT)) {
+            return e;
+        }
+        return new MemberAlreadyExistsException("Users with emails: " + emails
+                + " include existing members of project with id: " + projectId);
+    }
+
+    private void validateManagerAccess(Long projectId, String email) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project with id: " + projectId + " not found");
+        }
+        permissionValidator.validateAccess(email, projectId, ProjectMember.Role.MANAGER);
+    }
+
+    private List<ProjectMember> findMembers(Long projectId, Set<String> emails) {
+        List<ProjectMember> found =
+                projectMemberRepository.findByProjectIdAndUserEmailIn(projectId, emails);
+        if (found.size() < emails.size()) {
+            Set<String> foundEmails = found.stream()
+                    .map(m -> m.getUser().getEmail())
+                    .collect(Collectors.toSet());
+            throw new EntityNotFoundException("Users with emails: "
+                    + missing(emails, foundEmails) + " are not part of this project");
+        }
+        return found;
+    }
+
+    private Set<String> toDistinctEmails(List<String> emails) {
+        Set<String> distinct = new HashSet<>(emails);
+        if (distinct.size() < emails.size()) {
+            throw new InvalidRequestException("Member emails must not repeat in one request");
+        }
+        return distinct;
+    }
+
+    private List<Long> memberIds(List<ProjectMember> members) {
+        return members.stream().map(ProjectMember::getId).toList();
+    }
+
+    private String missing(Collection<String> requested, Collection<String> found) {
+        return requested.stream()
+                .filter(e -> !found.contains(e))
+                .sorted()
+                .collect(Collectors.joining(", "));
     }
 }
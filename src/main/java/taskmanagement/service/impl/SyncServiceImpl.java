@@ -0,0 +1,199 @@
+package taskmanagement.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.dto.sync.SyncChangeDto;
+import taskmanagement.dto.sync.SyncResponseDto;
+import taskmanagement.mapper.AttachmentMapper;
+import taskmanagement.mapper.CommentMapper;
+import taskmanagement.mapper.ProjectMemberMapper;
+import taskmanagement.mapper.TaskMapper;
+import taskmanagement.model.SyncChange;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.CommentRepository;
+import taskmanagement.repository.ProjectMemberRepository;
+import taskmanagement.repository.SyncChangeRepository;
+import taskmanagement.repository.TaskRepository;
+import taskmanagement.service.SyncService;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class SyncServiceImpl implements SyncService {
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskMapper taskMapper;
+    private final CommentMapper commentMapper;
+    private final AttachmentMapper attachmentMapper;
+    private final ProjectMemberMapper projectMemberMapper;
+
+    @Value("${sync.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Override
+    @Transactional(readOnly = true)
+    public SyncResponseDto getChanges(String email, Long cursor, int limit) {
+        int batchSize = Math.max(1, Math.min(limit, maxBatchSize));
+        List<SyncChange> changes = syncChangeRepository.findChangesForMember(email,
+                cursor,
+                PageRequest.of(0, batchSize + 1));
+        boolean hasMore = changes.size() > batchSize;
+        if (hasMore) {
+            changes = changes.subList(0, batchSize);
+        }
+        if (changes.isEmpty()) {
+            return new SyncResponseDto(List.of(), cursor, false);
+        }
+        Long nextCursor = changes.get(changes.size() - 1).getSeq();
+        Map<String, SyncChange> latestChanges = new LinkedHashMap<>();
+        for (SyncChange change : changes) {
+            String key = change.getEntityType() + ":" + change.getEntityId();
+            latestChanges.remove(key);
+            latestChanges.put(key, change);
+        }
+        Map<SyncChange.EntityType, Map<Long, Object>> payloads =
+                loadPayloads(latestChanges.values());
+        List<SyncChangeDto> result = new ArrayList<>(latestChanges.size());
+        for (SyncChange change : latestChanges.values()) {
+            Object payload = null;
+            if (change.getOperation() == SyncChange.Operation.UPSERT) {
+                payload = payloads.get(change.getEntityType()).get(change.getEntityId());
+                if (payload == null) {
+                    continue;
+                }
+            }
+            result.add(new SyncChangeDto(change.getSeq(),
+                    change.getProjectId(),
+                    change.getEntityType(),
+                    change.getEntityId(),
+                    change.getOperation(),
+                    change.getChangedAt(),
+                    payload));
+        }
+        return new SyncResponseDto(result, nextCursor, hasMore);
+    }
+
+    @Override
+    public void recordUpsert(SyncChange.EntityType entityType, Long entityId, Long projectId) {
+        record(entityType, entityId, projectId, SyncChange.Operation.UPSERT);
+    }
+
+    @Override
+    public void recordDelete(SyncChange.EntityType entityType, Long entityId, Long projectId) {
+        record(entityType, entityId, projectId, SyncChange.Operation.DELETE);
+    }
+
+    @Override
+    public void recordMemberChanges(Collection<Long> memberIds, SyncChange.Operation operation) {
+        if (!memberIds.isEmpty()) {
+            syncChangeRepository.insertMemberChanges(memberIds, operation.name(),
+                    LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordMembershipGranted(Long projectId, Collection<Long> userIds) {
+        if (!userIds.isEmpty()) {
+            syncChangeRepository.insertProjectResyncs(projectId, userIds, LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordMembershipRevoked(Long projectId, Collection<Long> userIds) {
+        if (!userIds.isEmpty()) {
+            syncChangeRepository.insertProjectRevocations(projectId, userIds,
+                    LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordTaskDeleted(Long taskId, Long projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        syncChangeRepository.insertCommentTombstonesForTask(taskId, now);
+        syncChangeRepository.insertAttachmentTombstonesForTask(taskId, now);
+        record(SyncChange.EntityType.TASK, taskId, projectId, SyncChange.Operation.DELETE);
+    }
+
+    @Override
+    @Transactional
+    public void recordProjectDeleted(Long projectId) {
+        LocalDateTime now = LocalDateTime.now();
+        syncChangeRepository.insertCommentTombstonesForProject(projectId, now);
+        syncChangeRepository.insertAttachmentTombstonesForProject(projectId, now);
+        syncChangeRepository.insertTaskTombstonesForProject(projectId, now);
+        syncChangeRepository.insertMemberTombstonesForProject(projectId, now);
+        syncChangeRepository.insertProjectRevocationsForMembers(projectId, now);
+        log.info("Tombstones recorded for project: id = {}", projectId);
+    }
+
+    private void record(SyncChange.EntityType entityType,
+                        Long entityId,
+                        Long projectId,
+                        SyncChange.Operation operation) {
+        SyncChange change = new SyncChange();
+        change.setEntityType(entityType);
+        change.setEntityId(entityId);
+        change.setProjectId(projectId);
+        change.setOperation(operation);
+        change.setChangedAt(LocalDateTime.now());
+        syncChangeRepository.save(change);
+    }
+
+    private Map<SyncChange.EntityType, Map<Long, Object>> loadPayloads(
+            Iterable<SyncChange> changes) {
+        Map<SyncChange.EntityType, Set<Long>> ids = new EnumMap<>(SyncChange.EntityType.class);
+        Map<SyncChange.EntityType, Map<Long, Object>> payloads =
+                new EnumMap<>(SyncChange.EntityType.class);
+        for (SyncChange.EntityType type : SyncChange.EntityType.values()) {
+            ids.put(type, new HashSet<>());
+            payloads.put(type, new HashMap<>());
+        }
+        for (SyncChange change : changes) {
+            if (change.getOperation() == SyncChange.Operation.UPSERT) {
+                ids.get(change.getEntityType()).add(change.getEntityId());
+            }
+        }
+        if (!ids.get(SyncChange.EntityType.TASK).isEmpty()) {
+            taskRepository.findAllById(ids.get(SyncChange.EntityType.TASK))
+                    .forEach(task -> payloads.get(SyncChange.EntityType.TASK)
+                            .put(task.getId(), taskMapper.toDto(task)));
+        }
+        if (!ids.get(SyncChange.EntityType.COMMENT).isEmpty()) {
+            commentRepository.findAllById(ids.get(SyncChange.EntityType.COMMENT))
+                    .forEach(comment -> payloads.get(SyncChange.EntityType.COMMENT)
+                            .put(comment.getId(), commentMapper.toDto(comment)));
+        }
+        if (!ids.get(SyncChange.EntityType.ATTACHMENT).isEmpty()) {
+            attachmentRepository.findAllById(ids.get(SyncChange.EntityType.ATTACHMENT))
+                    .forEach(attachment -> payloads.get(SyncChange.EntityType.ATTACHMENT)
+                            .put(attachment.getId(), attachmentMapper.toDto(attachment)));
+        }
+        if (!ids.get(SyncChange.EntityType.PROJECT_MEMBER).isEmpty()) {
+            projectMemberRepository.findAllById(ids.get(SyncChange.EntityType.PROJECT_MEMBER))
+                    .forEach(member -> payloads.get(SyncChange.EntityType.PROJECT_MEMBER)
+                            .put(member.getId(), projectMemberMapper.toDto(member)));
+        }
+        return payloads;
+    }
+}
@@ -2,15 +2,19 @@ package taskmanagement.service.impl;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import taskmanagement.model.Task;
-import taskmanagement.model.User;
 import taskmanagement.repository.TaskRepository;
-import taskmanagement.service.EmailService;
 import taskmanagement.service.TaskReminderService;
+import taskmanagement.service.reminder.TaskReminderSender;
 
 @Service
 @Log4j2
@@ -18,24 +22,61 @@ import taskmanagement.service.TaskReminderService;
 public class TaskReminderServiceImpl implements TaskReminderService {
 
     private final TaskRepository taskRepository;
-    private final EmailService emailService;
+    private final TaskReminderSender reminderSender;
+    private final TaskExecutor reminderExecutor;
+
+    @Value("${task.reminder.page-size:500}")
+    private int pageSize;
+
+    @Value("${task.reminder.retention-days:30}")
+    private int retentionDays;
 
     @Override
-    @Scheduled(cron = "0 0 8 * * *")
+    @Scheduled(cron = "${task.reminder.cron:0 0 8 * * *}")
     public void sendTaskReminders() {
         LocalDate tomorrow = LocalDate.now().plusDays(1);
         log.info("Checking for tasks due on {}", tomorrow);
-        List<Task> tasksDueTomorrow = taskRepository.findByDueDate(tomorrow);
-        if (tasksDueTomorrow.isEmpty()) {
-            log.info("No tasks due for tomorrow.");
-            return;
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<Task> page = fetchPage(tomorrow, 0L);
+        while (!page.isEmpty()) {
+            CompletableFuture<?>[] deliveries = page.stream()
+                    .map(task -> CompletableFuture.runAsync(
+                            () -> send(task, sent, skipped, failed), reminderExecutor))
+                    .toArray(CompletableFuture[]::new);
+            List<Task> next = page.size() < pageSize
+                    ? List.of()
+                    : fetchPage(tomorrow, page.get(page.size() - 1).getId());
+            CompletableFuture.allOf(deliveries).join();
+            page = next;
         }
-        tasksDueTomorrow.forEach(task -> {
-            User assignee = task.getAssignee();
-            if (assignee != null) {
-                log.info("Sending reminder for task '{}'", task.getName());
-                emailService.sendTaskReminder(assignee, task);
+        log.info("Reminders for {}: {} sent, {} already sent, {} failed",
+                tomorrow, sent.get(), skipped.get(), failed.get());
+        int purged = reminderSender.purgeDeliveriesBefore(
+                LocalDate.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} old reminder delivery records", purged);
+        }
+    }
+
+    private List<Task> fetchPage(LocalDate dueDate, Long afterId) {
+        return taskRepository.findDueWithAssigneeAfter(dueDate, afterId,
+                PageRequest.of(0, pageSize));
+    }
+
+    private void send(Task task, AtomicInteger sent, AtomicInteger skipped,
+                      AtomicInteger failed) {
+        try {
+            if (reminderSender.send(task)) {
+                sent.incrementAndGet();
+            } else {
+                skipped.incrementAndGet();
             }
-        });
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            log.warn("Failed to queue reminder for task {}: {}",
+                    task.getId(), e.getMessage());
+        }
     }
 }
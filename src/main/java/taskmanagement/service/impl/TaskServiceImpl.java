@@ -1,29 +1,44 @@
 package taskmanagement.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.dto.task.TaskMoveRequestDto;
 import taskmanagement.dto.task.TaskPatchRequestDto;
 import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.dto.task.TaskResponseDto;
 import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
+import taskmanagement.exceptions.RankExhaustedException;
 import taskmanagement.mapper.TaskMapper;
 import taskmanagement.model.Label;
 import taskmanagement.model.Project;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
+import taskmanagement.repository.AttachmentRepository;
 import taskmanagement.repository.LabelRepository;
 import taskmanagement.repository.ProjectRepository;
 import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.EmailService;
+import taskmanagement.service.SyncService;
 import taskmanagement.service.TaskService;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.rank.LexoRank;
+import taskmanagement.service.rank.TaskRankRebalancer;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.StorageDeletionQueue;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -37,8 +52,16 @@ public class TaskServiceImpl implements TaskService {
     private final PermissionValidator permissionValidator;
     private final LabelRepository labelRepository;
     private final EmailService emailService;
+    private final LexoRank lexoRank;
+    private final TaskRankRebalancer rankRebalancer;
+    private final SyncService syncService;
+    private final MarkdownCache markdownCache;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentBlobStore blobStore;
+    private final StorageDeletionQueue deletionQueue;
 
     @Override
+    @Transactional
     public TaskResponseDto createTask(TaskRequestDto request, String email) {
         log.info("Starting creating task: name = {}", request.name());
         Project project = projectRepository.findById(request.projectId())
@@ -63,8 +86,10 @@ public class TaskServiceImpl implements TaskService {
             throw new EntityNotFoundException("One or more labels not found");
         }
         task.getLabels().addAll(labels);
+        task.setRank(appendRank(project.getId(), request.status()));
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully: id = {}", savedTask.getId());
+        syncService.recordUpsert(SyncChange.EntityType.TASK, savedTask.getId(), project.getId());
         emailService.sendNewTaskAssigned(assignee, savedTask);
         return taskMapper.toDto(savedTask);
     }
@@ -85,6 +110,20 @@ public class TaskServiceImpl implements TaskService {
                 .toList();
     }
 
+    @Override
+    public List<TaskResponseDto> getBoardColumn(Long projectId,
+                                                Task.Status status,
+                                                String email,
+                                                Pageable pageable) {
+        permissionValidator.validateAccess(email, projectId, ProjectMember.Role.VIEWER);
+        return taskRepository.findByProject_IdAndStatusOrderByRankAscIdAsc(projectId,
+                        status,
+                        pageable)
+                .stream()
+                .map(taskMapper::toDto)
+                .toList();
+    }
+
     @Override
     public TaskResponseDto getTaskById(Long taskId, String email) {
         Task task = taskRepository.findByIdWithRelations(taskId)
@@ -96,6 +135,7 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
+    @Transactional
     public TaskResponseDto updateTask(Long taskId, TaskPatchRequestDto request, String email) {
         log.info("Starting editing task: id = {}", taskId);
         Task task = taskRepository.findByIdWithRelations(taskId)
@@ -127,13 +167,55 @@ public class TaskServiceImpl implements TaskService {
                         "Assignee can update only the task status and Labels");
             }
         }
+        if (request.status() != null && request.status() != task.getStatus()) {
+            task.setRank(appendRank(projectId, request.status()));
+        }
         taskMapper.updateFromPatch(request, task);
         Task updatedTask = taskRepository.save(task);
+        markdownCache.evictTask(taskId);
+        syncService.recordUpsert(SyncChange.EntityType.TASK, updatedTask.getId(), projectId);
         log.info("Task edited successfully");
         return taskMapper.toDto(updatedTask);
     }
 
     @Override
+    @Transactional
+    public TaskResponseDto moveTask(Long taskId, TaskMoveRequestDto request, String email) {
+        log.info("Starting moving task: id = {}", taskId);
+        Task task = taskRepository.findByIdWithRelations(taskId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + taskId + " not found"));
+        Long projectId = task.getProject().getId();
+        try {
+            permissionValidator.validateAccess(email, projectId, ProjectMember.Role.MANAGER);
+        } catch (AccessDeniedException e) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            "User with email: " + email + " not found"));
+            if (!task.getAssignee().equals(user)) {
+                throw new AccessDeniedException("You don't have permission to move this task");
+            }
+        }
+        projectRepository.lockById(projectId);
+        String rank;
+        try {
+            rank = rankBetweenNeighbours(request, projectId);
+        } catch (RankExhaustedException e) {
+            log.warn("Rank collision, rebalancing column: project = {}, status = {}",
+                    projectId, request.status());
+            rankRebalancer.rebalanceColumn(projectId, request.status());
+            rank = rankBetweenNeighbours(request, projectId);
+        }
+        task.setRank(rank);
+        task.setStatus(request.status());
+        Task movedTask = taskRepository.save(task);
+        syncService.recordUpsert(SyncChange.EntityType.TASK, movedTask.getId(), projectId);
+        log.info("Task moved successfully: rank = {}", movedTask.getRank());
+        return taskMapper.toDto(movedTask);
+    }
+
+    @Override
+    @Transactional
     public void deleteTask(Long taskId, String email) {
         log.info("Starting deleting task: id = {}", taskId);
         Task task = taskRepository.findById(taskId)
@@ -143,7 +225,52 @@ public class TaskServiceImpl implements TaskService {
         permissionValidator.validateAccess(email,
                 projectId,
                 ProjectMember.Role.MANAGER);
+        syncService.recordTaskDeleted(taskId, projectId);
+        List<Long> taskIds = List.of(taskId);
+        if (!attachmentRepository.findTaskIdsWithLegacyAttachments(taskIds).isEmpty()) {
+            deletionQueue.enqueue(List.of("/tasks/" + taskId));
+        }
+        Map<String, Long> blobReferences = attachmentRepository
+                .findContentHashesByTaskIdsForUpdate(taskIds).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
         taskRepository.delete(task);
+        if (!blobReferences.isEmpty()) {
+            blobStore.release(blobReferences);
+        }
+        markdownCache.evictTask(taskId);
         log.info("Task deleted successfully");
     }
+
+    private String appendRank(Long projectId, Task.Status status) {
+        projectRepository.lockById(projectId);
+        return lexoRank.after(taskRepository.findMaxRankInColumn(projectId, status)
+                .orElse(null));
+    }
+
+    private String rankBetweenNeighbours(TaskMoveRequestDto request, Long projectId) {
+        if (request.afterTaskId() != null && request.afterTaskId().equals(request.beforeTaskId())) {
+            throw new InvalidRequestException(
+                    "Task " + request.afterTaskId() + " cannot be both neighbours");
+        }
+        String previousRank = findNeighbourRank(request.afterTaskId(), projectId, request.status());
+        String nextRank = findNeighbourRank(request.beforeTaskId(), projectId, request.status());
+        if (previousRank == null && nextRank == null) {
+            previousRank = taskRepository.findMaxRankInColumn(projectId, request.status())
+                    .orElse(null);
+        } else if (previousRank != null && nextRank != null
+                && previousRank.compareTo(nextRank) > 0) {
+            throw new InvalidRequestException("Task " + request.afterTaskId()
+                    + " is not placed before task " + request.beforeTaskId());
+        }
+        return lexoRank.between(previousRank, nextRank);
+    }
+
+    private String findNeighbourRank(Long neighbourId, Long projectId, Task.Status status) {
+        if (neighbourId == null) {
+            return null;
+        }
+        return taskRepository.findRankInColumn(neighbourId, projectId, status)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Task with id " + neighbourId + " not found in column " + status));
+    }
 }
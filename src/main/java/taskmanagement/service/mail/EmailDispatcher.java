@@ -0,0 +1,107 @@
+package taskmanagement.service.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import taskmanagement.model.EmailOutboxMessage;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EmailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final EmailOutbox outbox;
+    private final SmtpTransportPool transportPool;
+    private final TaskExecutor mailExecutor;
+
+    @Value("${mail.from.address}")
+    private String fromEmail;
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.fixed-delay:2000}")
+    public void dispatch() {
+        try {
+            List<EmailOutboxMessage> batch;
+            do {
+                batch = outbox.claim(batchSize);
+                deliverAll(batch);
+            } while (batch.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Email dispatch interrupted, will resume on next run", e);
+        }
+    }
+
+    @Scheduled(cron = "${mail.outbox.purge.cron:0 45 3 * * *}")
+    public void purgeSent() {
+        int purged = outbox.purgeSent(Duration.ofDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} delivered emails from the outbox", purged);
+        }
+    }
+
+    private void deliverAll(List<EmailOutboxMessage> batch) {
+        int connections = Math.min(transportPool.size(), batch.size());
+        List<List<EmailOutboxMessage>> chunks = new ArrayList<>();
+        for (int i = 0; i < connections; i++) {
+            chunks.add(new ArrayList<>());
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            chunks.get(i % connections).add(batch.get(i));
+        }
+        CompletableFuture.allOf(chunks.stream()
+                .map(chunk -> CompletableFuture.runAsync(() -> deliver(chunk), mailExecutor))
+                .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void deliver(List<EmailOutboxMessage> chunk) {
+        SmtpTransportPool.Connection connection;
+        try {
+            connection = transportPool.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            for (EmailOutboxMessage message : chunk) {
+                try {
+                    connection.send(toMimeMessage(message));
+                } catch (MessagingException | RuntimeException e) {
+                    outbox.markFailed(message.getId(), e.getMessage());
+                    continue;
+                }
+                outbox.markSent(message.getId());
+                log.info("Email {} sent to {}", message.getId(), message.getRecipient());
+            }
+        } finally {
+            transportPool.release(connection);
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxMessage message) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(message.getRecipient());
+        helper.setSubject(message.getSubject());
+        helper.setText(message.getBody(), true);
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,88 @@
+package taskmanagement.service.mail;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.EmailOutboxMessage;
+import taskmanagement.repository.EmailOutboxRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutboxRepository outboxRepository;
+
+    @Value("${mail.outbox.lease:300000}")
+    private long leaseMillis;
+
+    @Value("${mail.outbox.retry-delay:60000}")
+    private long retryDelayMillis;
+
+    @Value("${mail.outbox.max-retry-delay:3600000}")
+    private long maxRetryDelayMillis;
+
+    @Value("${mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Transactional
+    public void enqueue(String recipient, String subject, String body) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setRecipient(recipient);
+        message.setSubject(subject);
+        message.setBody(body);
+        message.setStatus(EmailOutboxMessage.Status.PENDING);
+        message.setNextAttemptAt(LocalDateTime.now());
+        outboxRepository.save(message);
+        log.info("Email to {} queued: {}", recipient, subject);
+    }
+
+    @Transactional
+    public List<EmailOutboxMessage> claim(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxMessage> claimed = outboxRepository.findDueForUpdate(now, batchSize);
+        LocalDateTime leaseEnd = now.plus(Duration.ofMillis(leaseMillis));
+        claimed.forEach(message -> {
+            message.setAttempts(message.getAttempts() + 1);
+            message.setNextAttemptAt(leaseEnd);
+        });
+        return claimed;
+    }
+
+    public void markSent(Long id) {
+        outboxRepository.markSent(id, EmailOutboxMessage.Status.SENT, LocalDateTime.now());
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            String truncated = error == null || error.length() <= MAX_ERROR_LENGTH
+                    ? error
+                    : error.substring(0, MAX_ERROR_LENGTH);
+            message.setLastError(truncated);
+            if (message.getAttempts() >= maxAttempts) {
+                message.setStatus(EmailOutboxMessage.Status.FAILED);
+                log.error("Email {} to {} failed permanently after {} attempts: {}",
+                        id, message.getRecipient(), message.getAttempts(), error);
+                return;
+            }
+            long delay = retryDelayMillis << Math.min(message.getAttempts() - 1, 20);
+            message.setNextAttemptAt(LocalDateTime.now()
+                    .plus(Duration.ofMillis(Math.min(delay, maxRetryDelayMillis))));
+            log.warn("Email {} to {} failed (attempt {}/{}): {}",
+                    id, message.getRecipient(), message.getAttempts(), maxAttempts, error);
+        });
+    }
+
+    public int purgeSent(Duration retention) {
+        return outboxRepository.deleteSentBefore(EmailOutboxMessage.Status.SENT,
+                LocalDateTime.now().minus(retention));
+    }
+}
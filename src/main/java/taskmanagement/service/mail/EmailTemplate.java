@@ -0,0 +1,62 @@
+package taskmanagement.service.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import taskmanagement.exceptions.TemplatesLoadException;
+
+public final class EmailTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([A-Za-z0-9_]+)}");
+
+    private final String name;
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private EmailTemplate(String name, List<String> literals, List<String> placeholders) {
+        this.name = name;
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(String[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static EmailTemplate compile(String name, String source, Set<String> parameters) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        Matcher matcher = PLACEHOLDER.matcher(source);
+        int end = 0;
+        while (matcher.find()) {
+            String placeholder = matcher.group(1);
+            if (!parameters.contains(placeholder)) {
+                throw new TemplatesLoadException("Template " + name
+                        + " uses unknown placeholder ${" + placeholder + "}");
+            }
+            literals.add(source.substring(end, matcher.start()));
+            placeholders.add(placeholder);
+            end = matcher.end();
+        }
+        literals.add(source.substring(end));
+        return new EmailTemplate(name, literals, placeholders);
+    }
+
+    public String render(Map<String, String> values) {
+        int length = literalLength;
+        for (String placeholder : placeholders) {
+            String value = values.get(placeholder);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for ${" + placeholder
+                        + "} in template " + name);
+            }
+            length += value.length();
+        }
+        StringBuilder content = new StringBuilder(length);
+        for (int i = 0; i < placeholders.length; i++) {
+            content.append(literals[i]).append(values.get(placeholders[i]));
+        }
+        return content.append(literals[placeholders.length]).toString();
+    }
+}
@@ -0,0 +1,46 @@
+package taskmanagement.service.mail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import taskmanagement.exceptions.TemplatesLoadException;
+
+@Component
+public class EmailTemplates {
+
+    private static final String LOCATION = "templates/email/";
+
+    private final Map<String, EmailTemplate> templates = new HashMap<>();
+
+    public EmailTemplates() {
+        register("password_change.html", Set.of("username", "verificationCode"));
+        register("email_change.html", Set.of("username", "newEmail", "verificationCode"));
+        register("task_reminder.html", Set.of("username", "taskName", "dueDate"));
+        register("task_assigned.html",
+                Set.of("username", "taskName", "projectName", "dueDate"));
+        register("mention_digest.html", Set.of("username", "mentions"));
+    }
+
+    public EmailTemplate get(String name) {
+        EmailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new TemplatesLoadException("Template " + name + " not found");
+        }
+        return template;
+    }
+
+    private void register(String name, Set<String> parameters) {
+        ClassPathResource resource = new ClassPathResource(LOCATION + name);
+        try (InputStream in = resource.getInputStream()) {
+            String source = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            templates.put(name, EmailTemplate.compile(name, source, parameters));
+        } catch (IOException e) {
+            throw new TemplatesLoadException("Template " + name + " not found");
+        }
+    }
+}
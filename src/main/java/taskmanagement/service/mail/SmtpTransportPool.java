@@ -0,0 +1,131 @@
+package taskmanagement.service.mail;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private BlockingQueue<Connection> idle;
+
+    @Value("${mail.smtp.pool.size:3}")
+    private int size;
+
+    @Value("${mail.smtp.pool.max-messages-per-connection:100}")
+    private int maxMessagesPerConnection;
+
+    @Value("${mail.smtp.pool.idle-timeout:30000}")
+    private long idleTimeoutMillis;
+
+    @PostConstruct
+    public void init() {
+        idle = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            idle.add(new Connection());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Connection acquire() throws InterruptedException {
+        return idle.take();
+    }
+
+    public void release(Connection connection) {
+        idle.add(connection);
+    }
+
+    @PreDestroy
+    public void close() {
+        idle.forEach(Connection::close);
+    }
+
+    public final class Connection {
+
+        private Transport transport;
+        private int sent;
+        private long lastUsedAt;
+
+        private Connection() {
+        }
+
+        public void send(MimeMessage message) throws MessagingException {
+            message.saveChanges();
+            if (transport != null && (sent >= maxMessagesPerConnection
+                    || System.currentTimeMillis() - lastUsedAt > idleTimeoutMillis)) {
+                close();
+            }
+            boolean reused = transport != null;
+            if (!reused) {
+                connect();
+            }
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (MessagingException e) {
+                close();
+                if (!reused || e instanceof SendFailedException) {
+                    throw e;
+                }
+                log.info("SMTP connection dropped after {} messages, reconnecting: {}",
+                        sent, e.getMessage());
+                connect();
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException retryError) {
+                    close();
+                    throw retryError;
+                }
+            }
+            sent++;
+            lastUsedAt = System.currentTimeMillis();
+        }
+
+        private void connect() throws MessagingException {
+            Session session = mailSender.getSession();
+            String protocol = mailSender.getProtocol() != null
+                    ? mailSender.getProtocol()
+                    : session.getProperty("mail.transport.protocol");
+            Transport opened = session.getTransport(
+                    protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+            opened.connect(mailSender.getHost(),
+                    mailSender.getPort(),
+                    emptyToNull(mailSender.getUsername()),
+                    emptyToNull(mailSender.getPassword()));
+            transport = opened;
+            sent = 0;
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP connection: {}", e.getMessage());
+            }
+            transport = null;
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package taskmanagement.service.markdown;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.Named;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagement.model.Comment;
+import taskmanagement.model.Task;
+
+@Component
+@RequiredArgsConstructor
+public class MarkdownCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final MarkdownRenderer renderer;
+    private final Map<Key, Rendered> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    @Value("${markdown.cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    private record Key(Type type, Long id) {
+    }
+
+    private record Rendered(String version, String html) {
+        private long bytes() {
+            return ENTRY_OVERHEAD_BYTES + 2L * html.length();
+        }
+    }
+
+    private enum Type {
+        COMMENT,
+        TASK
+    }
+
+    @Named("commentHtml")
+    public String render(Comment comment) {
+        return cached(Type.COMMENT, comment.getId(), comment.getText());
+    }
+
+    @Named("taskHtml")
+    public String render(Task task) {
+        return cached(Type.TASK, task.getId(), task.getDescription());
+    }
+
+    public void evictComment(Long commentId) {
+        evict(Type.COMMENT, commentId);
+    }
+
+    public void evictTask(Long taskId) {
+        evict(Type.TASK, taskId);
+    }
+
+    /**
+     * Entries are versioned by a hash of the markdown source rather than by updatedAt, whose
+     * one-second precision let an edit within the same second reuse the old html.
+     */
+    private String cached(Type type, Long id, String markdown) {
+        if (id == null) {
+            return renderer.render(markdown);
+        }
+        Key key = new Key(type, id);
+        String version = hash(markdown);
+        synchronized (entries) {
+            Rendered cached = entries.get(key);
+            if (cached != null && cached.version().equals(version)) {
+                return cached.html();
+            }
+        }
+        String html = renderer.render(markdown);
+        Rendered rendered = new Rendered(version, html);
+        synchronized (entries) {
+            remove(key);
+            if (rendered.bytes() <= maxBytes) {
+                entries.put(key, rendered);
+                totalBytes += rendered.bytes();
+                trim();
+            }
+        }
+        return html;
+    }
+
+    private void evict(Type type, Long id) {
+        synchronized (entries) {
+            remove(new Key(type, id));
+        }
+    }
+
+    private void remove(Key key) {
+        Rendered removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.bytes();
+        }
+    }
+
+    private void trim() {
+        Iterator<Rendered> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes();
+            eldest.remove();
+        }
+    }
+
+    private static String hash(String markdown) {
+        if (markdown == null) {
+            return "";
+        }
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(markdown.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
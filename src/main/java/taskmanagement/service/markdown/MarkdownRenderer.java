@@ -0,0 +1,115 @@
+package taskmanagement.service.markdown;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+@Component
+public class MarkdownRenderer {
+
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*)$");
+    private static final Pattern LIST_ITEM = Pattern.compile("^\\s*[-*+]\\s+(.*)$");
+    private static final Pattern CODE_SPAN = Pattern.compile("`([^`]+)`");
+    private static final Pattern BOLD = Pattern.compile("\\*\\*(\\S(?:.*?\\S)?)\\*\\*");
+    private static final Pattern ITALIC =
+            Pattern.compile("(?<![\\w*])[*_](\\S(?:.*?\\S)?)[*_](?![\\w*])");
+    private static final Pattern LINK =
+            Pattern.compile("\\[([^\\]]+)\\]\\((https?://[^\\s)]+)\\)");
+
+    private enum Block {
+        NONE,
+        PARAGRAPH,
+        LIST,
+        CODE
+    }
+
+    public String render(String markdown) {
+        if (markdown == null || markdown.isBlank()) {
+            return "";
+        }
+        StringBuilder html = new StringBuilder(markdown.length() + 32);
+        Block block = Block.NONE;
+        for (String line : markdown.replace("\r\n", "\n").split("\n", -1)) {
+            boolean fence = line.strip().startsWith("```");
+            if (block == Block.CODE) {
+                if (fence) {
+                    block = close(html, block);
+                } else {
+                    html.append(HtmlUtils.htmlEscape(line)).append('\n');
+                }
+                continue;
+            }
+            if (fence) {
+                close(html, block);
+                html.append("<pre><code>");
+                block = Block.CODE;
+                continue;
+            }
+            if (line.isBlank()) {
+                block = close(html, block);
+                continue;
+            }
+            Matcher heading = HEADING.matcher(line);
+            if (heading.matches()) {
+                block = close(html, block);
+                int level = heading.group(1).length();
+                html.append("<h").append(level).append('>')
+                        .append(inline(heading.group(2)))
+                        .append("</h").append(level).append('>');
+                continue;
+            }
+            Matcher item = LIST_ITEM.matcher(line);
+            if (item.matches()) {
+                if (block != Block.LIST) {
+                    close(html, block);
+                    html.append("<ul>");
+                    block = Block.LIST;
+                }
+                html.append("<li>").append(inline(item.group(1))).append("</li>");
+                continue;
+            }
+            if (block == Block.PARAGRAPH) {
+                html.append("<br>");
+            } else {
+                close(html, block);
+                html.append("<p>");
+                block = Block.PARAGRAPH;
+            }
+            html.append(inline(line.strip()));
+        }
+        close(html, block);
+        return html.toString();
+    }
+
+    private Block close(StringBuilder html, Block block) {
+        switch (block) {
+            case PARAGRAPH -> html.append("</p>");
+            case LIST -> html.append("</ul>");
+            case CODE -> html.append("</code></pre>");
+            default -> {
+            }
+        }
+        return Block.NONE;
+    }
+
+    private String inline(String text) {
+        String escaped = HtmlUtils.htmlEscape(text);
+        StringBuilder html = new StringBuilder(escaped.length() + 16);
+        Matcher code = CODE_SPAN.matcher(escaped);
+        int last = 0;
+        while (code.find()) {
+            html.append(emphasis(escaped.substring(last, code.start())))
+                    .append("<code>").append(code.group(1)).append("</code>");
+            last = code.end();
+        }
+        return html.append(emphasis(escaped.substring(last))).toString();
+    }
+
+    private String emphasis(String text) {
+        String html = LINK.matcher(text)
+                .replaceAll("<a href=\"$2\" rel=\"nofollow noopener\">$1</a>");
+        html = BOLD.matcher(html).replaceAll("<strong>$1</strong>");
+        return ITALIC.matcher(html).replaceAll("<em>$1</em>");
+    }
+}
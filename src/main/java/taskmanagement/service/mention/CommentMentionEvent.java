@@ -0,0 +1,11 @@
+package taskmanagement.service.mention;
+
+public record CommentMentionEvent(
+        Long commentId,
+        Long projectId,
+        Long authorId,
+        String authorName,
+        String taskName,
+        String text
+) {
+}
@@ -0,0 +1,8 @@
+package taskmanagement.service.mention;
+
+public record Mention(
+        String authorName,
+        String taskName,
+        String excerpt
+) {
+}
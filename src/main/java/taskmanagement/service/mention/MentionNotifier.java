@@ -0,0 +1,74 @@
+package taskmanagement.service.mention;
+
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import taskmanagement.model.User;
+import taskmanagement.repository.ProjectMemberRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class MentionNotifier {
+
+    private final ProjectMemberRepository projectMemberRepository;
+    private final MentionQueue mentionQueue;
+
+    @Value("${mention.max-per-comment:20}")
+    private int maxMentions;
+
+    @Value("${mention.notify.max-per-flush:50}")
+    private int maxPerFlush;
+
+    @Value("${comment.excerpt-length:200}")
+    private int excerptLength;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentMention(CommentMentionEvent event) {
+        Set<String> usernames = MentionParser.parse(event.text(), maxMentions);
+        if (usernames.isEmpty()) {
+            return;
+        }
+        List<User> recipients = projectMemberRepository
+                .findMemberUsersByUsernames(event.projectId(), usernames).stream()
+                .filter(recipient -> !recipient.getId().equals(event.authorId()))
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+        mentionQueue.enqueue(recipients, new Mention(event.authorName(),
+                event.taskName(),
+                excerpt(event.text())));
+        log.info("Mentions queued for comment id = {}: recipients = {}",
+                event.commentId(), recipients.size());
+    }
+
+    @Scheduled(fixedDelayString = "${mention.notify.flush-delay:30000}")
+    public void flush() {
+        int sent = 0;
+        for (Long userId : mentionQueue.findDueRecipients(maxPerFlush)) {
+            try {
+                if (mentionQueue.sendDigest(userId)) {
+                    sent++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Mention notification to user id = {} failed: {}",
+                        userId, e.getMessage());
+            }
+        }
+        if (sent > 0) {
+            log.info("Mention notifications queued: {}", sent);
+        }
+    }
+
+    private String excerpt(String text) {
+        return text.length() > excerptLength ? text.substring(0, excerptLength) + "…" : text;
+    }
+}
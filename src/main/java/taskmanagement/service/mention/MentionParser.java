@@ -0,0 +1,32 @@
+package taskmanagement.service.mention;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class MentionParser {
+
+    private static final Pattern MENTION =
+            Pattern.compile("(?<![\\w.@])@([A-Za-z0-9_][A-Za-z0-9_.-]{0,49})");
+
+    private MentionParser() {
+    }
+
+    public static Set<String> parse(String text, int maxMentions) {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (text == null || text.indexOf('@') < 0) {
+            return usernames;
+        }
+        Matcher matcher = MENTION.matcher(text);
+        while (matcher.find() && usernames.size() < maxMentions) {
+            String username = matcher.group(1);
+            while (username.endsWith(".") || username.endsWith("-")) {
+                username = username.substring(0, username.length() - 1);
+            }
+            usernames.add(username.toLowerCase(Locale.ROOT));
+        }
+        return usernames;
+    }
+}
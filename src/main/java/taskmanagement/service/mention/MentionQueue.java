@@ -0,0 +1,90 @@
+package taskmanagement.service.mention;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.model.PendingMention;
+import taskmanagement.model.User;
+import taskmanagement.repository.PendingMentionRepository;
+import taskmanagement.repository.UserRepository;
+import taskmanagement.service.EmailService;
+
+/**
+ * Keeps mentions in the database until they are coalesced into one digest per recipient, so
+ * queued mentions survive restarts and the per-recipient rate limit holds across nodes.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class MentionQueue {
+
+    private final PendingMentionRepository mentionRepository;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+
+    @Value("${mention.notify.max-per-digest:20}")
+    private int maxPerDigest;
+
+    @Value("${mention.notify.min-interval:300000}")
+    private long minIntervalMillis;
+
+    @Transactional
+    public void enqueue(Collection<User> recipients, Mention mention) {
+        mentionRepository.saveAll(recipients.stream()
+                .map(recipient -> {
+                    PendingMention pending = new PendingMention();
+                    pending.setRecipientId(recipient.getId());
+                    pending.setAuthorName(mention.authorName());
+                    pending.setTaskName(mention.taskName());
+                    pending.setExcerpt(mention.excerpt());
+                    return pending;
+                })
+                .toList());
+    }
+
+    public List<Long> findDueRecipients(int limit) {
+        return mentionRepository.findDueRecipients(sentBefore(LocalDateTime.now()), limit);
+    }
+
+    /**
+     * Queues one digest of the recipient's pending mentions in the email outbox and removes
+     * them, in one transaction. The recipient's digest row is claimed before anything is sent:
+     * a node that loses the race, or a recipient emailed within the minimum interval, sends
+     * nothing.
+     */
+    @Transactional
+    public boolean sendDigest(Long userId) {
+        List<PendingMention> pending = mentionRepository.findByRecipientIdOrderById(userId);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        mentionRepository.insertDigestIfAbsent(userId);
+        if (mentionRepository.claimDigest(userId, now, sentBefore(now)) == 0) {
+            return false;
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "User with id " + userId + " not found"));
+        List<Mention> mentions = pending.stream()
+                .limit(maxPerDigest)
+                .map(mention -> new Mention(mention.getAuthorName(),
+                        mention.getTaskName(),
+                        mention.getExcerpt()))
+                .toList();
+        emailService.sendMentionNotification(user, mentions, pending.size() - mentions.size());
+        mentionRepository.deleteAllInBatch(pending);
+        return true;
+    }
+
+    private LocalDateTime sentBefore(LocalDateTime now) {
+        return now.minus(Duration.ofMillis(minIntervalMillis));
+    }
+}
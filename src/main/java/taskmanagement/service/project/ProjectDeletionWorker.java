@@ -0,0 +1,46 @@
+package taskmanagement.service.project;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import taskmanagement.model.ProjectDeletionJob;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectDeletionWorker {
+
+    private final ProjectPurger projectPurger;
+
+    @Value("${project.deletion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${project.deletion.jobs-per-run:10}")
+    private int jobsPerRun;
+
+    @Scheduled(fixedDelayString = "${project.deletion.fixed-delay:5000}")
+    public void processPendingJobs() {
+        List<ProjectDeletionJob> jobs = projectPurger.claimJobs(jobsPerRun);
+        jobs.forEach(this::process);
+    }
+
+    private void process(ProjectDeletionJob job) {
+        log.info("Processing deletion of project {}", job.getProjectId());
+        try {
+            int purged;
+            do {
+                purged = projectPurger.purgeTaskBatch(job.getId(), batchSize);
+            } while (purged > 0);
+            do {
+                purged = projectPurger.purgeSnapshotBatch(job.getId(), batchSize);
+            } while (purged > 0);
+            projectPurger.finish(job.getId());
+        } catch (RuntimeException e) {
+            log.error("Deletion of project {} interrupted, will resume on next run",
+                    job.getProjectId(), e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package taskmanagement.service.project;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.model.ProjectDeletionJob;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.CommentRepository;
+import taskmanagement.repository.ProjectDeletionJobRepository;
+import taskmanagement.repository.ProjectMemberRepository;
+import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
+import taskmanagement.repository.TaskRepository;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.StorageDeletionQueue;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectPurger {
+
+    private final ProjectDeletionJobRepository jobRepository;
+    private final ProjectRepository projectRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ProjectSnapshotRepository projectSnapshotRepository;
+    private final StorageDeletionQueue deletionQueue;
+    private final AttachmentBlobStore blobStore;
+
+    @Value("${project.deletion.lease:300000}")
+    private long leaseMillis;
+
+    @Transactional
+    public List<ProjectDeletionJob> claimJobs(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProjectDeletionJob> jobs = jobRepository.findClaimableForUpdate(now, limit);
+        jobs.forEach(job -> job.setLeasedUntil(now.plus(Duration.ofMillis(leaseMillis))));
+        return jobs;
+    }
+
+    @Transactional
+    public int purgeTaskBatch(Long jobId, int batchSize) {
+        ProjectDeletionJob job = getJobForUpdate(jobId);
+        if (job.getStatus() == ProjectDeletionJob.Status.COMPLETED) {
+            return 0;
+        }
+        job.setLeasedUntil(LocalDateTime.now().plus(Duration.ofMillis(leaseMillis)));
+        List<Long> taskIds = taskRepository.findIdsByProjectId(job.getProjectId(), batchSize);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        List<String> folders = attachmentRepository.findTaskIdsWithLegacyAttachments(taskIds)
+                .stream()
+                .map(taskId -> "/tasks/" + taskId)
+                .toList();
+        if (!folders.isEmpty()) {
+            deletionQueue.enqueue(folders);
+        }
+        Map<String, Long> blobReferences = attachmentRepository
+                .findContentHashesByTaskIdsForUpdate(taskIds).stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        taskRepository.deleteLabelLinksByTaskIds(taskIds);
+        commentRepository.deleteByTaskIds(taskIds);
+        final int files = attachmentRepository.deleteByTaskIds(taskIds);
+        if (!blobReferences.isEmpty()) {
+            blobStore.release(blobReferences);
+        }
+        int tasks = taskRepository.deleteByIds(taskIds);
+        job.setStatus(ProjectDeletionJob.Status.IN_PROGRESS);
+        job.setTasksDeleted(job.getTasksDeleted() + tasks);
+        job.setFilesDeleted(job.getFilesDeleted() + files);
+        log.info("Purged batch of project {}: tasks = {}, files = {}",
+                job.getProjectId(), tasks, files);
+        return tasks;
+    }
+
+    @Transactional
+    public int purgeSnapshotBatch(Long jobId, int batchSize) {
+        ProjectDeletionJob job = getJobForUpdate(jobId);
+        if (job.getStatus() == ProjectDeletionJob.Status.COMPLETED) {
+            return 0;
+        }
+        job.setLeasedUntil(LocalDateTime.now().plus(Duration.ofMillis(leaseMillis)));
+        int snapshots = projectSnapshotRepository.deleteBatchByProjectId(job.getProjectId(),
+                batchSize);
+        if (snapshots > 0) {
+            log.info("Purged batch of project {}: snapshots = {}",
+                    job.getProjectId(), snapshots);
+        }
+        return snapshots;
+    }
+
+    @Transactional
+    public void finish(Long jobId) {
+        ProjectDeletionJob job = getJobForUpdate(jobId);
+        if (job.getStatus() == ProjectDeletionJob.Status.COMPLETED) {
+            return;
+        }
+        projectMemberRepository.deleteByProjectId(job.getProjectId());
+        projectRepository.purgeById(job.getProjectId());
+        job.setStatus(ProjectDeletionJob.Status.COMPLETED);
+        job.setLeasedUntil(null);
+        log.info("Project {} purged: tasks = {}, files = {}",
+                job.getProjectId(), job.getTasksDeleted(), job.getFilesDeleted());
+    }
+
+    private ProjectDeletionJob getJobForUpdate(Long jobId) {
+        return jobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "Project deletion job with id: " + jobId + " not found"));
+    }
+}
@@ -0,0 +1,51 @@
+package taskmanagement.service.project;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
+import taskmanagement.repository.SyncChangeRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class ProjectSnapshotJob {
+
+    private final ProjectSnapshotRepository snapshotRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final ProjectRepository projectRepository;
+
+    @Value("${project.snapshot.batch-size:500}")
+    private int batchSize;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${project.snapshot.fixed-delay:600000}")
+    public void takeSnapshots() {
+        Optional<Long> lastChangeId = syncChangeRepository.findLastSeq();
+        if (lastChangeId.isEmpty()) {
+            return;
+        }
+        Optional<Long> cursor = snapshotRepository.findLastChangeId();
+        if (cursor.isPresent() && cursor.get() >= lastChangeId.get()) {
+            return;
+        }
+        List<Long> projectIds = cursor.isPresent()
+                ? syncChangeRepository.findChangedProjectIds(cursor.get(), lastChangeId.get())
+                : projectRepository.findAllIds();
+        LocalDate today = LocalDate.now();
+        for (int from = 0; from < projectIds.size(); from += batchSize) {
+            List<Long> batch = projectIds.subList(from,
+                    Math.min(from + batchSize, projectIds.size()));
+            snapshotRepository.upsertSnapshots(batch, today, lastChangeId.get());
+        }
+        log.info("Project snapshots taken: projects = {}, change cursor = {}",
+                projectIds.size(), lastChangeId.get());
+    }
+}
@@ -0,0 +1,88 @@
+package taskmanagement.service.rank;
+
+import org.springframework.stereotype.Component;
+import taskmanagement.exceptions.RankExhaustedException;
+
+@Component
+public class LexoRank {
+
+    private static final String ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = ALPHABET.length();
+    private static final int MAX_SPREAD_WIDTH = 12;
+
+    public String between(String previous, String next) {
+        if (previous != null && next != null && previous.compareTo(next) >= 0) {
+            throw new RankExhaustedException(
+                    "Rank " + previous + " must be lower than rank " + next);
+        }
+        StringBuilder rank = new StringBuilder();
+        boolean upperBounded = next != null;
+        int position = 0;
+        while (true) {
+            int low = digitAt(previous, position, 0);
+            int high = upperBounded ? digitAt(next, position, -1) : BASE;
+            if (high < 0) {
+                throw new RankExhaustedException("Rank " + next + " ends with a zero digit");
+            }
+            if (low == high) {
+                rank.append(ALPHABET.charAt(low));
+                position++;
+                continue;
+            }
+            int middle = (low + high) / 2;
+            if (middle > low) {
+                return rank.append(ALPHABET.charAt(middle)).toString();
+            }
+            rank.append(ALPHABET.charAt(low));
+            upperBounded = false;
+            position++;
+        }
+    }
+
+    public String after(String previous) {
+        return between(previous, null);
+    }
+
+    public String[] spread(int count) {
+        int width = 1;
+        long capacity = BASE;
+        while (capacity <= count + 1L && width < MAX_SPREAD_WIDTH) {
+            capacity *= BASE;
+            width++;
+        }
+        long step = capacity / (count + 1L);
+        String[] ranks = new String[count];
+        for (int i = 0; i < count; i++) {
+            ranks[i] = stripTrailingZeros(encode(step * (i + 1), width));
+        }
+        return ranks;
+    }
+
+    private int digitAt(String rank, int position, int fallback) {
+        if (rank == null || position >= rank.length()) {
+            return fallback;
+        }
+        int digit = ALPHABET.indexOf(rank.charAt(position));
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character in " + rank);
+        }
+        return digit;
+    }
+
+    private String encode(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = ALPHABET.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(digits);
+    }
+
+    private String stripTrailingZeros(String rank) {
+        int end = rank.length();
+        while (end > 1 && rank.charAt(end - 1) == '0') {
+            end--;
+        }
+        return rank.substring(0, end);
+    }
+}
@@ -0,0 +1,56 @@
+package taskmanagement.service.rank;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.dto.task.TaskColumnDto;
+import taskmanagement.model.Task;
+import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.TaskRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class TaskRankRebalancer {
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final LexoRank lexoRank;
+
+    @Value("${task.rank.rebalance.max-length:24}")
+    private int maxRankLength;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${task.rank.rebalance.fixed-delay:300000}")
+    public void rebalance() {
+        List<TaskColumnDto> columns = taskRepository.findColumnsWithRankLongerThan(maxRankLength);
+        if (columns.isEmpty()) {
+            return;
+        }
+        log.info("Rebalancing ranks in {} board columns", columns.size());
+        columns.forEach(column -> rebalanceColumn(column.projectId(), column.status()));
+    }
+
+    /**
+     * Respaces one column. Rank writes in a project are serialized by a lock on its project
+     * row, which this method takes before reading the column so no concurrent move or create
+     * can land between the read and the rewrite.
+     */
+    @Transactional
+    public void rebalanceColumn(Long projectId, Task.Status status) {
+        projectRepository.lockById(projectId);
+        List<Task> tasks = taskRepository.findByProject_IdAndStatusOrderByRankAscIdAsc(
+                projectId, status);
+        String[] ranks = lexoRank.spread(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setRank(ranks[i]);
+        }
+        taskRepository.saveAll(tasks);
+        log.info("Column rebalanced: project = {}, status = {}, tasks = {}",
+                projectId, status, tasks.size());
+    }
+}
@@ -0,0 +1,34 @@
+package taskmanagement.service.reminder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.Task;
+import taskmanagement.repository.TaskReminderDeliveryRepository;
+import taskmanagement.service.EmailService;
+
+@Component
+@RequiredArgsConstructor
+public class TaskReminderSender {
+
+    private final TaskReminderDeliveryRepository deliveryRepository;
+    private final EmailService emailService;
+
+    @Transactional
+    public boolean send(Task task) {
+        if (deliveryRepository.insertIfAbsent(task.getId(),
+                task.getDueDate(),
+                LocalDateTime.now()) == 0) {
+            return false;
+        }
+        emailService.sendTaskReminder(task.getAssignee(), task);
+        return true;
+    }
+
+    @Transactional
+    public int purgeDeliveriesBefore(LocalDate date) {
+        return deliveryRepository.deleteByDueDateBefore(date);
+    }
+}
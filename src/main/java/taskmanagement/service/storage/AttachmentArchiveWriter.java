@@ -0,0 +1,120 @@
+package taskmanagement.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttachmentArchiveWriter {
+
+    private final AttachmentStorage storage;
+    private final TaskExecutor archivePrefetchExecutor;
+
+    @Value("${attachment.archive.prefetch-bytes:1048576}")
+    private int prefetchBytes;
+
+    public record Entry(Long id, String filename, String path, Long size) {}
+
+    private record Prefetched(InputStream stream, byte[] head, int length) {}
+
+    public void write(List<Entry> entries, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.BEST_SPEED);
+        Set<String> names = new HashSet<>();
+        CompletableFuture<Prefetched> next = entries.isEmpty() ? null : prefetch(entries.get(0));
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                Prefetched current = await(next);
+                next = i + 1 < entries.size() ? prefetch(entries.get(i + 1)) : null;
+                try (InputStream in = current.stream()) {
+                    zip.putNextEntry(new ZipEntry(entryName(entries.get(i), names)));
+                    zip.write(current.head(), 0, current.length());
+                    in.transferTo(zip);
+                    zip.closeEntry();
+                }
+            }
+            zip.finish();
+            zip.flush();
+        } finally {
+            if (next != null) {
+                next.thenAccept(abandoned -> closeQuietly(abandoned.stream()));
+            }
+        }
+        log.info("Streamed archive of {} attachments", entries.size());
+    }
+
+    private CompletableFuture<Prefetched> prefetch(Entry entry) {
+        return CompletableFuture.supplyAsync(() -> {
+            InputStream in = null;
+            try {
+                in = storage.get(entry.path());
+                byte[] head = new byte[entry.size() == null
+                        ? prefetchBytes
+                        : (int) Math.min(prefetchBytes, entry.size())];
+                int length = in.readNBytes(head, 0, head.length);
+                return new Prefetched(in, head, length);
+            } catch (IOException e) {
+                closeQuietly(in);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                closeQuietly(in);
+                throw e;
+            }
+        }, archivePrefetchExecutor);
+    }
+
+    private Prefetched await(CompletableFuture<Prefetched> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private String entryName(Entry entry, Set<String> names) {
+        String name = entry.filename().replaceAll("[/\\\\:]", "_");
+        if (name.isBlank() || name.equals(".") || name.equals("..")) {
+            name = "attachment";
+        }
+        String unique = name;
+        for (int attempt = 1; !names.add(unique); attempt++) {
+            unique = attempt == 1
+                    ? entry.id() + "-" + name
+                    : entry.id() + "-" + attempt + "-" + name;
+        }
+        return unique;
+    }
+
+    private void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException e) {
+            log.warn("Failed to close prefetched attachment stream: {}", e.getMessage());
+        }
+    }
+}
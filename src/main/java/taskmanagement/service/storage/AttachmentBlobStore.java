@@ -0,0 +1,93 @@
+package taskmanagement.service.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.repository.AttachmentBlobRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.service.thumbnail.ThumbnailCache;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttachmentBlobStore {
+
+    public static final String BLOB_FOLDER = "/blobs/";
+
+    private final AttachmentBlobRepository blobRepository;
+    private final StorageDeletionQueue deletionQueue;
+    private final AttachmentFileCache attachmentFileCache;
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final ThumbnailCache thumbnailCache;
+
+    public boolean exists(String contentHash) {
+        return blobRepository.existsByContentHash(contentHash);
+    }
+
+    @Transactional
+    public Optional<AttachmentBlob> acquire(String contentHash) {
+        Optional<AttachmentBlob> existing = blobRepository.findByContentHashForUpdate(contentHash);
+        if (existing.isEmpty()) {
+            deletionQueue.cancel(BLOB_FOLDER + contentHash);
+        }
+        return existing.map(blob -> {
+            blob.setRefCount(blob.getRefCount() + 1);
+            return blob;
+        });
+    }
+
+    /**
+     * Registers a freshly stored blob with one reference. A concurrent upload of the same
+     * content may have registered it first; the insert is then skipped and the existing row
+     * gains the reference instead, without a constraint violation that would doom the
+     * caller's transaction.
+     */
+    @Transactional
+    public AttachmentBlob register(String contentHash, StoredFile file) {
+        blobRepository.insertIfAbsent(contentHash, file.id(), file.path(), file.size(),
+                LocalDateTime.now());
+        return acquire(contentHash).orElseThrow(() -> new FileStorageException(
+                "Attachment blob " + contentHash + " disappeared while registering"));
+    }
+
+    @Transactional
+    public int release(Map<String, Long> references) {
+        List<AttachmentBlob> unreferenced = new ArrayList<>();
+        new TreeMap<>(references).forEach((contentHash, count) ->
+                blobRepository.findByContentHashForUpdate(contentHash).ifPresentOrElse(blob -> {
+                    if (blob.getRefCount() > count) {
+                        blob.setRefCount(Math.toIntExact(blob.getRefCount() - count));
+                    } else {
+                        unreferenced.add(blob);
+                    }
+                }, () -> log.warn("Attachment blob {} is already released", contentHash)));
+        if (unreferenced.isEmpty()) {
+            return 0;
+        }
+        List<AttachmentThumbnail> thumbnails = thumbnailRepository.findByContentHashIn(
+                unreferenced.stream().map(AttachmentBlob::getContentHash).toList());
+        List<String> paths = new ArrayList<>();
+        unreferenced.forEach(blob -> paths.add(blob.getPath()));
+        thumbnails.forEach(thumbnail -> paths.add(thumbnail.getPath()));
+        deletionQueue.enqueue(paths);
+        unreferenced.forEach(blob -> attachmentFileCache.evict(blob.getDropboxFileId()));
+        thumbnails.forEach(thumbnail -> {
+            attachmentFileCache.evict(thumbnail.getDropboxFileId());
+            thumbnailCache.evict(thumbnail.getPath());
+        });
+        thumbnailRepository.deleteAll(thumbnails);
+        blobRepository.deleteAll(unreferenced);
+        log.info("Released {} unreferenced attachment blobs", unreferenced.size());
+        return unreferenced.size();
+    }
+}
@@ -0,0 +1,247 @@
+package taskmanagement.service.storage;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagement.dto.attachment.AttachmentCacheStatsDto;
+import taskmanagement.exceptions.FileStorageException;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttachmentFileCache {
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final AttachmentStorage storage;
+    private final Map<String, CachedFile> index = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<CachedFile>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    @Value("${attachment.cache.dir:${java.io.tmpdir}/task-management-attachments}")
+    private String directory;
+
+    @Value("${attachment.cache.max-bytes:1073741824}")
+    private long maxBytes;
+
+    @Value("${attachment.cache.max-file-bytes:67108864}")
+    private long maxFileBytes;
+
+    private Path root;
+
+    private static final class CachedFile {
+        private final Path path;
+        private final long size;
+        private volatile long lastAccess;
+
+        private CachedFile(Path path, long size, long lastAccess) {
+            this.path = path;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Files.createDirectories(Path.of(directory));
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(PART_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                long size = Files.size(file);
+                index.put(file.getFileName().toString(), new CachedFile(file, size,
+                        Files.getLastModifiedTime(file).toMillis()));
+                cachedBytes.addAndGet(size);
+            }
+        }
+        evictIfNeeded();
+        log.info("Attachment cache ready in {}: files = {}, bytes = {}",
+                root, index.size(), cachedBytes.get());
+    }
+
+    public void stream(String fileId,
+                       String path,
+                       long size,
+                       long offset,
+                       long length,
+                       OutputStream out) throws IOException {
+        if (!storage.isRemote()) {
+            copy(path, offset, length, out);
+            return;
+        }
+        if (fileId == null || size > maxFileBytes || size > maxBytes) {
+            misses.incrementAndGet();
+            copy(path, offset, length, out);
+            return;
+        }
+        String key = key(fileId);
+        CachedFile cached = index.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(length);
+            cached.lastAccess = System.currentTimeMillis();
+        } else {
+            misses.incrementAndGet();
+            cached = fetch(key, path, size);
+        }
+        try (FileChannel channel = FileChannel.open(cached.path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    throw new FileStorageException("Cached file " + key + " is truncated");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        } catch (NoSuchFileException e) {
+            index.remove(key, cached);
+            copy(path, offset, length, out);
+        }
+    }
+
+    public void evict(String fileId) {
+        if (fileId == null) {
+            return;
+        }
+        CachedFile cached = index.remove(key(fileId));
+        if (cached != null) {
+            cachedBytes.addAndGet(-cached.size);
+            delete(cached.path);
+        }
+    }
+
+    public AttachmentCacheStatsDto getStats() {
+        long hitCount = hits.get();
+        long total = hitCount + misses.get();
+        return new AttachmentCacheStatsDto(hitCount,
+                total - hitCount,
+                total == 0 ? 0 : (double) hitCount / total,
+                bytesSaved.get(),
+                cachedBytes.get(),
+                index.size());
+    }
+
+    private void copy(String path, long offset, long length, OutputStream out)
+            throws IOException {
+        try (InputStream in = storage.getRange(path, offset, length)) {
+            in.transferTo(out);
+        }
+    }
+
+    private CachedFile fetch(String key, String path, long size) throws IOException {
+        CompletableFuture<CachedFile> mine = new CompletableFuture<>();
+        CompletableFuture<CachedFile> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            CachedFile cached = index.get(key);
+            if (cached == null) {
+                cached = download(key, path, size);
+            }
+            mine.complete(cached);
+            return cached;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private CachedFile download(String key, String path, long size) throws IOException {
+        Path part = Files.createTempFile(root, key, PART_SUFFIX);
+        try {
+            try (InputStream in = storage.getRange(path, 0, size)) {
+                Files.copy(in, part, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Path target = root.resolve(key);
+            Files.move(part, target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            CachedFile cached = new CachedFile(target, size, System.currentTimeMillis());
+            CachedFile previous = index.put(key, cached);
+            cachedBytes.addAndGet(previous == null ? size : size - previous.size);
+            evictIfNeeded();
+            return cached;
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    private CachedFile await(CompletableFuture<CachedFile> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new FileStorageException("Failed to fetch attachment", e.getCause());
+        }
+    }
+
+    private synchronized void evictIfNeeded() {
+        if (cachedBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<String, CachedFile>> entries = new ArrayList<>(index.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccess));
+        for (Map.Entry<String, CachedFile> entry : entries) {
+            if (cachedBytes.get() <= maxBytes) {
+                break;
+            }
+            if (index.remove(entry.getKey(), entry.getValue())) {
+                cachedBytes.addAndGet(-entry.getValue().size);
+                delete(entry.getValue().path);
+            }
+        }
+    }
+
+    private void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached attachment {}: {}", path, e.getMessage());
+        }
+    }
+
+    private String key(String fileId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(fileId.getBytes(StandardCharsets.UTF_8));
+    }
+}
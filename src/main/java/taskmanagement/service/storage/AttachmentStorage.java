@@ -0,0 +1,39 @@
+package taskmanagement.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+
+public interface AttachmentStorage {
+
+    StoredFile put(String path, InputStream data, long size, String contentHash)
+            throws IOException;
+
+    InputStream get(String path) throws IOException;
+
+    InputStream getRange(String path, long offset, long length) throws IOException;
+
+    long size(String path);
+
+    StoredFile move(String fromPath, String toPath);
+
+    void delete(String path);
+
+    Map<String, String> deleteBatch(List<String> paths);
+
+    String startUpload() throws IOException;
+
+    void appendChunk(String uploadId, long offset, InputStream data, long length, boolean last)
+            throws IOException;
+
+    StoredFile finishUpload(String uploadId, long size, String path) throws IOException;
+
+    boolean isRemote();
+
+    default Optional<AttachmentStorageStatsDto> getStats() {
+        return Optional.empty();
+    }
+}
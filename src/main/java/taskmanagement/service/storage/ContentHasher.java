@@ -0,0 +1,58 @@
+package taskmanagement.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class ContentHasher {
+
+    private static final int BLOCK_SIZE = 4 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MessageDigest overall = sha256();
+    private final MessageDigest block = sha256();
+    private int inBlock;
+
+    public static String hash(InputStream in) throws IOException {
+        ContentHasher hasher = new ContentHasher();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            hasher.update(buffer, 0, read);
+        }
+        return hasher.finish();
+    }
+
+    public void update(byte[] data, int offset, int length) {
+        int position = offset;
+        int end = offset + length;
+        while (position < end) {
+            int count = Math.min(end - position, BLOCK_SIZE - inBlock);
+            block.update(data, position, count);
+            position += count;
+            inBlock += count;
+            if (inBlock == BLOCK_SIZE) {
+                overall.update(block.digest());
+                inBlock = 0;
+            }
+        }
+    }
+
+    public String finish() {
+        if (inBlock > 0) {
+            overall.update(block.digest());
+            inBlock = 0;
+        }
+        return HexFormat.of().formatHex(overall.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package taskmanagement.service.storage;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import taskmanagement.exceptions.FileStorageException;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "attachment.storage.type", havingValue = "local")
+public class LocalAttachmentStorage implements AttachmentStorage {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final String UPLOADS_DIRECTORY = ".uploads";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${attachment.storage.local.root:${java.io.tmpdir}/task-management-storage}")
+    private String directory;
+
+    private Path root;
+    private Path uploads;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Files.createDirectories(Path.of(directory)).toAbsolutePath().normalize();
+        uploads = Files.createDirectories(root.resolve(UPLOADS_DIRECTORY));
+        log.info("Local attachment storage ready in {}", root);
+    }
+
+    @Override
+    public StoredFile put(String path, InputStream data, long size, String contentHash)
+            throws IOException {
+        String normalized = normalize(path);
+        Path target = resolve(normalized);
+        Files.createDirectories(target.getParent());
+        Path part = Files.createTempFile(target.getParent(),
+                target.getFileName().toString(),
+                PART_SUFFIX);
+        try {
+            ContentHasher hasher = new ContentHasher();
+            long written = 0;
+            try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = data.read(buffer)) != -1) {
+                    hasher.update(buffer, 0, read);
+                    write(channel, ByteBuffer.wrap(buffer, 0, read), written);
+                    written += read;
+                }
+                channel.force(true);
+            }
+            if (written != size) {
+                throw new FileStorageException("Expected " + size + " bytes for " + path
+                        + " but received " + written);
+            }
+            String actualHash = hasher.finish();
+            if (contentHash != null && !contentHash.equals(actualHash)) {
+                throw new FileStorageException("Content hash mismatch for " + path);
+            }
+            return commit(part, target, normalized, written, actualHash);
+        } finally {
+            Files.deleteIfExists(part);
+        }
+    }
+
+    @Override
+    public InputStream get(String path) throws IOException {
+        return getRange(path, 0, size(path));
+    }
+
+    @Override
+    public InputStream getRange(String path, long offset, long length) throws IOException {
+        try {
+            return new RangeInputStream(
+                    FileChannel.open(resolve(normalize(path)), StandardOpenOption.READ),
+                    offset,
+                    length);
+        } catch (NoSuchFileException e) {
+            throw new FileStorageException("File " + path + " not found", e);
+        }
+    }
+
+    @Override
+    public long size(String path) {
+        try {
+            return Files.size(resolve(normalize(path)));
+        } catch (NoSuchFileException e) {
+            throw new FileStorageException("File " + path + " not found", e);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to read size of " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public StoredFile move(String fromPath, String toPath) {
+        String normalized = normalize(toPath);
+        Path target = resolve(normalized);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.move(resolve(normalize(fromPath)), target, StandardCopyOption.ATOMIC_MOVE);
+            return describe(target, normalized);
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to move " + fromPath + " to " + toPath + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(String path) {
+        String normalized = normalize(path);
+        try {
+            if (!Files.deleteIfExists(resolve(normalized))) {
+                deleteDirectory(normalized);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException(
+                    "Failed to delete " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, String> deleteBatch(List<String> paths) {
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String path : paths) {
+            try {
+                delete(path);
+            } catch (FileStorageException | IllegalArgumentException e) {
+                failures.put(path, e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public String startUpload() throws IOException {
+        String uploadId = UUID.randomUUID().toString();
+        Files.createFile(uploads.resolve(uploadId));
+        return uploadId;
+    }
+
+    @Override
+    public void appendChunk(String uploadId,
+                            long offset,
+                            InputStream data,
+                            long length,
+                            boolean last) throws IOException {
+        try (FileChannel channel = FileChannel.open(upload(uploadId),
+                StandardOpenOption.WRITE)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long position = offset;
+            long remaining = length;
+            int read;
+            while (remaining > 0
+                    && (read = data.read(buffer, 0, (int) Math.min(buffer.length, remaining)))
+                    != -1) {
+                write(channel, ByteBuffer.wrap(buffer, 0, read), position);
+                position += read;
+                remaining -= read;
+            }
+            if (remaining > 0) {
+                throw new FileStorageException("Chunk at offset " + offset + " of upload "
+                        + uploadId + " is missing " + remaining + " bytes");
+            }
+        }
+    }
+
+    @Override
+    public StoredFile finishUpload(String uploadId, long size, String path) throws IOException {
+        Path file = upload(uploadId);
+        if (Files.size(file) != size) {
+            throw new FileStorageException("Upload " + uploadId + " has " + Files.size(file)
+                    + " bytes, expected " + size);
+        }
+        String contentHash;
+        try (InputStream in = Files.newInputStream(file)) {
+            contentHash = ContentHasher.hash(in);
+        }
+        String normalized = normalize(path);
+        Path target = resolve(normalized);
+        Files.createDirectories(target.getParent());
+        return commit(file, target, normalized, size, contentHash);
+    }
+
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    private StoredFile commit(Path source, Path target, String path, long size, String hash)
+            throws IOException {
+        if (Files.exists(target)) {
+            StoredFile existing = describe(target, path);
+            if (!existing.contentHash().equals(hash)) {
+                throw new FileStorageException("File " + path + " already exists");
+            }
+            Files.deleteIfExists(source);
+            return existing;
+        }
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        return new StoredFile(path, path, size, hash);
+    }
+
+    private StoredFile describe(Path file, String path) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return new StoredFile(path, path, Files.size(file), ContentHasher.hash(in));
+        }
+    }
+
+    private void deleteDirectory(String path) throws IOException {
+        Path directory = root.resolve(path.substring(1)).normalize();
+        if (!directory.startsWith(root) || directory.equals(root)
+                || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private Path upload(String uploadId) throws IOException {
+        Path file = uploads.resolve(uploadId).normalize();
+        if (!file.getParent().equals(uploads) || !Files.exists(file)) {
+            throw new NoSuchFileException("Upload " + uploadId + " not found");
+        }
+        return file;
+    }
+
+    private String normalize(String path) {
+        String normalized = path.toLowerCase(Locale.ROOT);
+        return normalized.startsWith("/") ? normalized : "/" + normalized;
+    }
+
+    private Path resolve(String path) {
+        int slash = path.lastIndexOf('/');
+        String name = path.substring(slash + 1);
+        Path file = root.resolve(path.substring(1, slash))
+                .resolve(String.format("%02x", name.hashCode() & 0xff))
+                .resolve(name)
+                .normalize();
+        if (name.isEmpty() || !file.startsWith(root) || file.startsWith(uploads)) {
+            throw new IllegalArgumentException("Invalid storage path " + path);
+        }
+        return file;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position)
+            throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    private static final class RangeInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private long remaining;
+
+        private RangeInputStream(FileChannel channel, long position, long remaining) {
+            this.channel = channel;
+            this.position = position;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            int read = channel.read(ByteBuffer.wrap(buffer, offset, count), position);
+            if (read == -1) {
+                remaining = 0;
+                return -1;
+            }
+            position += read;
+            remaining -= read;
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
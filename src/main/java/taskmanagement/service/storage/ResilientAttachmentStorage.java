@@ -0,0 +1,232 @@
+package taskmanagement.service.storage;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.core.functions.CheckedSupplier;
+import io.github.resilience4j.retry.Retry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.exceptions.StorageUnavailableException;
+
+@Log4j2
+@RequiredArgsConstructor
+public class ResilientAttachmentStorage implements AttachmentStorage {
+
+    private final AttachmentStorage delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Retry retry;
+
+    @Override
+    public StoredFile put(String path, InputStream data, long size, String contentHash)
+            throws IOException {
+        return call(() -> delegate.put(path, data, size, contentHash), false);
+    }
+
+    @Override
+    public InputStream get(String path) throws IOException {
+        return openStream(() -> delegate.get(path));
+    }
+
+    @Override
+    public InputStream getRange(String path, long offset, long length) throws IOException {
+        return openStream(() -> delegate.getRange(path, offset, length));
+    }
+
+    @Override
+    public long size(String path) {
+        return callUnchecked(() -> delegate.size(path), true);
+    }
+
+    @Override
+    public StoredFile move(String fromPath, String toPath) {
+        return callUnchecked(() -> delegate.move(fromPath, toPath), false);
+    }
+
+    @Override
+    public void delete(String path) {
+        callUnchecked(() -> {
+            delegate.delete(path);
+            return null;
+        }, false);
+    }
+
+    @Override
+    public Map<String, String> deleteBatch(List<String> paths) {
+        return callUnchecked(() -> delegate.deleteBatch(paths), false);
+    }
+
+    @Override
+    public String startUpload() throws IOException {
+        return call(delegate::startUpload, false);
+    }
+
+    @Override
+    public void appendChunk(String uploadId,
+                            long offset,
+                            InputStream data,
+                            long length,
+                            boolean last) throws IOException {
+        call(() -> {
+            delegate.appendChunk(uploadId, offset, data, length, last);
+            return null;
+        }, false);
+    }
+
+    @Override
+    public StoredFile finishUpload(String uploadId, long size, String path) throws IOException {
+        return call(() -> delegate.finishUpload(uploadId, size, path), false);
+    }
+
+    @Override
+    public boolean isRemote() {
+        return delegate.isRemote();
+    }
+
+    @Override
+    public Optional<AttachmentStorageStatsDto> getStats() {
+        CircuitBreaker.Metrics breaker = circuitBreaker.getMetrics();
+        Retry.Metrics retries = retry.getMetrics();
+        return Optional.of(new AttachmentStorageStatsDto(circuitBreaker.getState().name(),
+                breaker.getFailureRate(),
+                breaker.getSlowCallRate(),
+                breaker.getNumberOfBufferedCalls(),
+                breaker.getNumberOfNotPermittedCalls(),
+                bulkhead.getMetrics().getAvailableConcurrentCalls(),
+                bulkhead.getMetrics().getMaxAllowedConcurrentCalls(),
+                retries.getNumberOfSuccessfulCallsWithRetryAttempt()
+                        + retries.getNumberOfFailedCallsWithRetryAttempt(),
+                retries.getNumberOfFailedCallsWithRetryAttempt()));
+    }
+
+    private <T> T callUnchecked(CheckedSupplier<T> operation, boolean idempotent) {
+        try {
+            return call(operation, idempotent);
+        } catch (IOException e) {
+            throw new FileStorageException("Storage call failed: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T call(CheckedSupplier<T> operation, boolean idempotent) throws IOException {
+        CheckedSupplier<T> guarded = CircuitBreaker.decorateCheckedSupplier(circuitBreaker,
+                Bulkhead.decorateCheckedSupplier(bulkhead, operation));
+        if (idempotent) {
+            guarded = Retry.decorateCheckedSupplier(retry, guarded);
+        }
+        return invoke(guarded);
+    }
+
+    /**
+     * Opens a download whose bulkhead permit and circuit breaker call last until the returned
+     * stream is closed, so a slow transfer occupies a slot and is measured end to end. Only
+     * opening the stream is retried; a failure halfway through the body is reported on close.
+     * There is no overall deadline: the storage clients only time out individual socket reads,
+     * so a transfer that keeps trickling in is bounded by the reader, not by this wrapper.
+     */
+    private InputStream openStream(CheckedSupplier<InputStream> open) throws IOException {
+        return invoke(Retry.decorateCheckedSupplier(retry, () -> {
+            circuitBreaker.acquirePermission();
+            try {
+                bulkhead.acquirePermission();
+            } catch (BulkheadFullException e) {
+                circuitBreaker.releasePermission();
+                throw e;
+            }
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                return new GuardedInputStream(open.get(), start);
+            } catch (Throwable e) {
+                bulkhead.onComplete();
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start,
+                        circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        }));
+    }
+
+    private <T> T invoke(CheckedSupplier<T> guarded) throws IOException {
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            throw new StorageUnavailableException(
+                    "Attachment storage is unavailable, try again later", e);
+        } catch (BulkheadFullException e) {
+            throw new StorageUnavailableException(
+                    "Attachment storage is busy, try again later", e);
+        } catch (IOException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new FileStorageException("Storage call failed: " + e.getMessage(), e);
+        }
+    }
+
+    private final class GuardedInputStream extends FilterInputStream {
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile IOException failure;
+
+        private GuardedInputStream(InputStream in, long start) {
+            super(in);
+            this.start = start;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return super.read();
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            try {
+                return super.read(buffer, offset, length);
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            try {
+                return super.skip(count);
+            } catch (IOException e) {
+                failure = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.onComplete();
+                    long duration = circuitBreaker.getCurrentTimestamp() - start;
+                    if (failure == null) {
+                        circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                    } else {
+                        circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                                failure);
+                    }
+                }
+            }
+        }
+    }
+}
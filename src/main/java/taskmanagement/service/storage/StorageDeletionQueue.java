@@ -0,0 +1,99 @@
+package taskmanagement.service.storage;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.model.StorageDeletion;
+import taskmanagement.repository.StorageDeletionRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionQueue {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final StorageDeletionRepository deletionRepository;
+    private final AttachmentStorage storage;
+
+    @Value("${attachment.deletion.retry-delay:30000}")
+    private long retryDelayMillis;
+
+    @Value("${attachment.deletion.max-retry-delay:3600000}")
+    private long maxRetryDelayMillis;
+
+    @Transactional
+    public void enqueue(Collection<String> paths) {
+        LocalDateTime now = LocalDateTime.now();
+        deletionRepository.saveAll(paths.stream()
+                .distinct()
+                .map(path -> {
+                    StorageDeletion deletion = new StorageDeletion();
+                    deletion.setPath(path);
+                    deletion.setNextAttemptAt(now);
+                    return deletion;
+                })
+                .toList());
+        log.info("Queued {} storage paths for deletion", paths.size());
+    }
+
+    @Transactional
+    public void cancel(String path) {
+        if (deletionRepository.deleteByPath(path) > 0) {
+            log.info("Cancelled pending deletion of {} before reusing the path", path);
+        }
+    }
+
+    @Transactional
+    public int processBatch(int batchSize) {
+        List<StorageDeletion> due =
+                deletionRepository.findDueForUpdate(LocalDateTime.now(), batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        List<String> paths = due.stream().map(StorageDeletion::getPath).distinct().toList();
+        Map<String, String> failures;
+        try {
+            failures = storage.deleteBatch(paths);
+        } catch (FileStorageException e) {
+            failures = paths.stream().collect(Collectors.toMap(Function.identity(),
+                    path -> String.valueOf(e.getMessage())));
+        }
+        List<StorageDeletion> deleted = new ArrayList<>();
+        for (StorageDeletion deletion : due) {
+            String error = failures.get(deletion.getPath());
+            if (error == null) {
+                deleted.add(deletion);
+            } else {
+                reschedule(deletion, error);
+            }
+        }
+        deletionRepository.deleteAllInBatch(deleted);
+        log.info("Processed {} storage deletions: deleted = {}, failed = {}",
+                due.size(), deleted.size(), due.size() - deleted.size());
+        return due.size();
+    }
+
+    private void reschedule(StorageDeletion deletion, String error) {
+        int attempts = deletion.getAttempts() + 1;
+        long delay = retryDelayMillis << Math.min(attempts - 1, 20);
+        deletion.setAttempts(attempts);
+        deletion.setNextAttemptAt(LocalDateTime.now()
+                .plus(Duration.ofMillis(Math.min(delay, maxRetryDelayMillis))));
+        deletion.setLastError(error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error);
+        log.warn("Deletion of {} failed (attempt {}): {}", deletion.getPath(), attempts, error);
+    }
+}
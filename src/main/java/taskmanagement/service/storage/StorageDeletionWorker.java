@@ -0,0 +1,30 @@
+package taskmanagement.service.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class StorageDeletionWorker {
+
+    private final StorageDeletionQueue deletionQueue;
+
+    @Value("${attachment.deletion.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${attachment.deletion.fixed-delay:5000}")
+    public void processPendingDeletions() {
+        try {
+            int processed;
+            do {
+                processed = deletionQueue.processBatch(batchSize);
+            } while (processed == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Storage deletions interrupted, will resume on next run", e);
+        }
+    }
+}
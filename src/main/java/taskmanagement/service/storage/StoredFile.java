@@ -0,0 +1,8 @@
+package taskmanagement.service.storage;
+
+public record StoredFile(
+        String id,
+        String path,
+        long size,
+        String contentHash
+) {}
@@ -0,0 +1,30 @@
+package taskmanagement.service.sync;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class SyncSequenceWorker {
+
+    private final SyncSequencer syncSequencer;
+
+    @Value("${sync.sequence.batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${sync.sequence.fixed-delay:200}")
+    public void sequencePendingChanges() {
+        try {
+            int sequenced;
+            do {
+                sequenced = syncSequencer.sequencePending(batchSize);
+            } while (sequenced == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Sequencing of sync changes interrupted, will resume on next run", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package taskmanagement.service.sync;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import taskmanagement.model.SyncChange;
+import taskmanagement.repository.SyncChangeRepository;
+
+@Component
+@RequiredArgsConstructor
+public class SyncSequencer {
+
+    private final SyncChangeRepository syncChangeRepository;
+
+    @Transactional
+    public int sequencePending(int batchSize) {
+        long lastSeq = syncChangeRepository.lockLastSeq();
+        List<SyncChange> pending = syncChangeRepository.findUnsequencedForUpdate(batchSize);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        for (SyncChange change : pending) {
+            change.setSeq(++lastSeq);
+        }
+        syncChangeRepository.updateLastSeq(lastSeq);
+        return pending.size();
+    }
+}
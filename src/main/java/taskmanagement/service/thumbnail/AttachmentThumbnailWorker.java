@@ -0,0 +1,118 @@
+package taskmanagement.service.thumbnail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.repository.AttachmentBlobRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.ContentHasher;
+import taskmanagement.service.storage.StorageDeletionQueue;
+import taskmanagement.service.storage.StoredFile;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttachmentThumbnailWorker {
+
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final AttachmentStorage storage;
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final AttachmentBlobRepository blobRepository;
+    private final StorageDeletionQueue deletionQueue;
+    private final TaskExecutor thumbnailExecutor;
+
+    public void submit(String contentHash, String path, String filename) {
+        if (contentHash == null || !thumbnailGenerator.supports(filename)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            execute(contentHash, path);
+                        }
+                    });
+            return;
+        }
+        execute(contentHash, path);
+    }
+
+    private void execute(String contentHash, String path) {
+        try {
+            thumbnailExecutor.execute(() -> generate(contentHash, path));
+        } catch (TaskRejectedException e) {
+            log.warn("Thumbnail queue full, skipping thumbnails of blob {}", contentHash);
+        }
+    }
+
+    void generate(String contentHash, String path) {
+        if (thumbnailRepository.existsByContentHash(contentHash)) {
+            return;
+        }
+        List<ThumbnailGenerator.Thumbnail> thumbnails;
+        try (InputStream in = storage.get(path)) {
+            thumbnails = thumbnailGenerator.generate(in);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate thumbnails of blob {}: {}", contentHash, e.getMessage());
+            return;
+        }
+        try {
+            for (ThumbnailGenerator.Thumbnail thumbnail : thumbnails) {
+                store(contentHash, thumbnail);
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.info("Thumbnails of blob {} were generated concurrently", contentHash);
+            return;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to store thumbnails of blob {}: {}", contentHash, e.getMessage());
+            return;
+        }
+        if (!blobRepository.existsByContentHash(contentHash)) {
+            List<AttachmentThumbnail> orphaned =
+                    thumbnailRepository.findByContentHashIn(List.of(contentHash));
+            deletionQueue.enqueue(orphaned.stream().map(AttachmentThumbnail::getPath).toList());
+            thumbnailRepository.deleteAll(orphaned);
+            return;
+        }
+        log.info("Generated {} thumbnails of blob {}", thumbnails.size(), contentHash);
+    }
+
+    private void store(String contentHash, ThumbnailGenerator.Thumbnail thumbnail)
+            throws IOException {
+        byte[] data = thumbnail.data();
+        String path = thumbnailPath(contentHash, thumbnail.size());
+        deletionQueue.cancel(path);
+        StoredFile stored = storage.put(path,
+                new ByteArrayInputStream(data),
+                data.length,
+                ContentHasher.hash(new ByteArrayInputStream(data)));
+        AttachmentThumbnail entity = new AttachmentThumbnail();
+        entity.setContentHash(contentHash);
+        entity.setSize(thumbnail.size());
+        entity.setDropboxFileId(stored.id());
+        entity.setPath(stored.path());
+        entity.setBytes(stored.size());
+        entity.setWidth(thumbnail.width());
+        entity.setHeight(thumbnail.height());
+        thumbnailRepository.save(entity);
+    }
+
+    private static String thumbnailPath(String contentHash, AttachmentThumbnail.Size size) {
+        return AttachmentBlobStore.BLOB_FOLDER + contentHash + "-"
+                + size.name().toLowerCase(Locale.ROOT) + ".jpg";
+    }
+}
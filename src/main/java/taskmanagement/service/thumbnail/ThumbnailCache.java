@@ -0,0 +1,64 @@
+package taskmanagement.service.thumbnail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.service.storage.AttachmentFileCache;
+
+@Component
+@RequiredArgsConstructor
+public class ThumbnailCache {
+
+    private final AttachmentFileCache attachmentFileCache;
+    private final Map<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+
+    @Value("${attachment.thumbnail.cache.max-bytes:33554432}")
+    private long maxBytes;
+
+    public byte[] get(AttachmentThumbnail thumbnail) throws IOException {
+        String key = thumbnail.getPath();
+        synchronized (this) {
+            byte[] cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) thumbnail.getBytes());
+        attachmentFileCache.stream(thumbnail.getDropboxFileId(),
+                thumbnail.getPath(),
+                thumbnail.getBytes(),
+                0,
+                thumbnail.getBytes(),
+                out);
+        byte[] data = out.toByteArray();
+        put(key, data);
+        return data;
+    }
+
+    public synchronized void evict(String path) {
+        byte[] removed = entries.remove(path);
+        if (removed != null) {
+            cachedBytes -= removed.length;
+        }
+    }
+
+    private synchronized void put(String key, byte[] data) {
+        if (data.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(key, data);
+        cachedBytes += data.length - (previous == null ? 0 : previous.length);
+        Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            cachedBytes -= eldest.next().getValue().length;
+            eldest.remove();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package taskmanagement.service.thumbnail;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import taskmanagement.model.AttachmentThumbnail;
+
+@Log4j2
+@Component
+public class ThumbnailGenerator {
+
+    private static final String FORMAT = "jpg";
+    private static final Set<String> SUFFIXES = Arrays.stream(ImageIO.getReaderFileSuffixes())
+            .map(suffix -> suffix.toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
+
+    @Value("${attachment.thumbnail.max-source-pixels:100000000}")
+    private long maxSourcePixels;
+
+    public record Thumbnail(AttachmentThumbnail.Size size, byte[] data, int width, int height) {}
+
+    public boolean supports(String filename) {
+        if (filename == null) {
+            return false;
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 && SUFFIXES.contains(filename.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public List<Thumbnail> generate(InputStream source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input == null
+                    ? Collections.<ImageReader>emptyIterator()
+                    : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return List.of();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return generateFrom(reader);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private List<Thumbnail> generateFrom(ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxSourcePixels) {
+            log.warn("Skipping thumbnails of a {}x{} image, limit is {} pixels",
+                    width, height, maxSourcePixels);
+            return List.of();
+        }
+        int largest = Arrays.stream(AttachmentThumbnail.Size.values())
+                .mapToInt(AttachmentThumbnail.Size::getPixels)
+                .max()
+                .orElseThrow();
+        int subsampling = Math.max(1, Math.max(width, height) / (2 * largest));
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        BufferedImage image = reader.read(0, param);
+
+        List<Thumbnail> thumbnails = new ArrayList<>();
+        List<AttachmentThumbnail.Size> sizes = Arrays.stream(AttachmentThumbnail.Size.values())
+                .sorted(Comparator.comparingInt(AttachmentThumbnail.Size::getPixels).reversed())
+                .toList();
+        for (AttachmentThumbnail.Size size : sizes) {
+            image = scale(image, size.getPixels());
+            thumbnails.add(new Thumbnail(size, encode(image), image.getWidth(), image.getHeight()));
+        }
+        return thumbnails;
+    }
+
+    private BufferedImage scale(BufferedImage source, int box) {
+        double ratio = Math.min(1.0,
+                (double) box / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                    RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING,
+                    RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, FORMAT, out)) {
+            throw new IOException("No " + FORMAT + " writer available");
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,113 @@
+package taskmanagement.service.upload;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import taskmanagement.service.storage.ContentHasher;
+
+@Log4j2
+@Component
+public class AttachmentSpool {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Value("${attachment.upload.spool-dir:${java.io.tmpdir}/task-management-spool}")
+    private String directory;
+
+    @Value("${attachment.upload.spool-node:}")
+    private String nodeId;
+
+    private Path root;
+
+    public record SpooledFile(Path path, long size, String contentHash) {}
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (nodeId.isBlank()) {
+            nodeId = InetAddress.getLocalHost().getHostName();
+        }
+        root = Files.createDirectories(Path.of(directory));
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(PART_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        log.info("Attachment spool of node {} ready in {}", nodeId, root);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public SpooledFile spool(MultipartFile file) throws IOException {
+        Path part = Files.createTempFile(root, "upload", PART_SUFFIX);
+        try (InputStream in = file.getInputStream();
+                OutputStream out = Files.newOutputStream(part)) {
+            ContentHasher hasher = new ContentHasher();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                hasher.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                size += read;
+            }
+            return new SpooledFile(part, size, hasher.finish());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(part);
+            throw e;
+        }
+    }
+
+    public void claim(SpooledFile spooled, Long attachmentId) throws IOException {
+        Files.move(spooled.path(), path(attachmentId), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void discard(SpooledFile spooled) {
+        deleteQuietly(spooled.path());
+    }
+
+    public Path path(Long attachmentId) {
+        return root.resolve(String.valueOf(attachmentId));
+    }
+
+    public void delete(Long attachmentId) {
+        deleteQuietly(path(attachmentId));
+    }
+
+    public List<Long> spooledIds() throws IOException {
+        List<Long> ids = new ArrayList<>();
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.chars().allMatch(Character::isDigit)) {
+                    ids.add(Long.valueOf(name));
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete spooled upload {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package taskmanagement.service.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import taskmanagement.model.Attachment;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.model.SyncChange;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.service.SyncService;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.AttachmentThumbnailWorker;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AttachmentUploadWorker {
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentSpool attachmentSpool;
+    private final AttachmentStorage storage;
+    private final AttachmentBlobStore blobStore;
+    private final SyncService syncService;
+    private final AttachmentThumbnailWorker thumbnailWorker;
+    private final TaskExecutor uploadExecutor;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${attachment.upload.async.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${attachment.upload.async.retry-delay:2000}")
+    private long retryDelayMillis;
+
+    public void submit(Long attachmentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            execute(attachmentId);
+                        }
+                    });
+            return;
+        }
+        execute(attachmentId);
+    }
+
+    private void execute(Long attachmentId) {
+        if (!inFlight.add(attachmentId)) {
+            return;
+        }
+        try {
+            uploadExecutor.execute(() -> {
+                try {
+                    process(attachmentId);
+                } finally {
+                    inFlight.remove(attachmentId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(attachmentId);
+            log.warn("Upload queue full, attachment {} stays pending", attachmentId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() throws IOException {
+        List<Long> pending = findOwnPending();
+        Set<Long> orphans = new HashSet<>(attachmentSpool.spooledIds());
+        pending.forEach(orphans::remove);
+        orphans.forEach(attachmentSpool::delete);
+        log.info("Recovering pending uploads: pending = {}, orphaned spool files = {}",
+                pending.size(), orphans.size());
+        pending.forEach(this::submit);
+    }
+
+    @Scheduled(fixedDelayString = "${attachment.upload.async.sweep-delay:300000}",
+            initialDelayString = "${attachment.upload.async.sweep-delay:300000}")
+    public void sweep() {
+        findOwnPending().forEach(this::submit);
+    }
+
+    private List<Long> findOwnPending() {
+        return attachmentRepository.findIdsByStatusAndSpoolNode(Attachment.Status.PENDING,
+                attachmentSpool.nodeId());
+    }
+
+    void process(Long attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId).orElse(null);
+        if (attachment == null || attachment.getStatus() != Attachment.Status.PENDING) {
+            attachmentSpool.delete(attachmentId);
+            return;
+        }
+        Path file = attachmentSpool.path(attachmentId);
+        if (!Files.exists(file)) {
+            log.error("Spool file of pending attachment {} is missing", attachmentId);
+            markFailed(attachment);
+            return;
+        }
+        AttachmentBlob blob = null;
+        boolean stored = false;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                if (!stored) {
+                    if (blob == null) {
+                        blob = acquireBlob(attachment, file);
+                    }
+                    if (!markStored(attachment, blob)) {
+                        releaseQuietly(blob);
+                        attachmentSpool.delete(attachmentId);
+                        return;
+                    }
+                    stored = true;
+                }
+                publish(attachment, blob);
+                attachmentSpool.delete(attachmentId);
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Upload of attachment {} failed (attempt {}/{}): {}",
+                        attachmentId, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts && !backOff(attempt)) {
+                    if (!stored) {
+                        releaseQuietly(blob);
+                    }
+                    return;
+                }
+            }
+        }
+        if (stored) {
+            log.error("Attachment {} is stored but its sync change could not be recorded",
+                    attachmentId);
+            attachmentSpool.delete(attachmentId);
+            return;
+        }
+        releaseQuietly(blob);
+        markFailed(attachment);
+        attachmentSpool.delete(attachmentId);
+    }
+
+    private AttachmentBlob acquireBlob(Attachment attachment, Path file) throws IOException {
+        String contentHash = attachment.getContentHash();
+        AttachmentBlob blob = blobStore.acquire(contentHash).orElse(null);
+        if (blob != null) {
+            return blob;
+        }
+        StoredFile stored;
+        try (InputStream in = Files.newInputStream(file)) {
+            stored = storage.put(AttachmentBlobStore.BLOB_FOLDER + contentHash,
+                    in,
+                    attachment.getSize(),
+                    contentHash);
+        }
+        return blobStore.register(contentHash, stored);
+    }
+
+    private boolean markStored(Attachment attachment, AttachmentBlob blob) {
+        return attachmentRepository.markStored(attachment.getId(),
+                blob.getDropboxFileId(),
+                blob.getPath(),
+                Attachment.Status.PENDING,
+                Attachment.Status.STORED) > 0;
+    }
+
+    private void publish(Attachment attachment, AttachmentBlob blob) {
+        syncService.recordUpsert(SyncChange.EntityType.ATTACHMENT,
+                attachment.getId(),
+                attachment.getTask().getProject().getId());
+        log.info("Pending attachment {} stored", attachment.getId());
+        thumbnailWorker.submit(blob.getContentHash(), blob.getPath(), attachment.getFilename());
+    }
+
+    private void releaseQuietly(AttachmentBlob blob) {
+        if (blob == null) {
+            return;
+        }
+        try {
+            blobStore.release(Map.of(blob.getContentHash(), 1L));
+        } catch (RuntimeException e) {
+            log.error("Failed to release blob {}: {}", blob.getContentHash(), e.getMessage());
+        }
+    }
+
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryDelayMillis << (attempt - 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void markFailed(Attachment attachment) {
+        if (attachmentRepository.updateStatus(attachment.getId(),
+                Attachment.Status.PENDING,
+                Attachment.Status.FAILED) > 0) {
+            syncService.recordUpsert(SyncChange.EntityType.ATTACHMENT,
+                    attachment.getId(),
+                    attachment.getTask().getProject().getId());
+        }
+        log.error("Attachment {} could not be stored and is marked as failed",
+                attachment.getId());
+    }
+}
@@ -0,0 +1,24 @@
+package taskmanagement.service.upload;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import taskmanagement.repository.AttachmentUploadSessionRepository;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class UploadSessionCleanupJob {
+
+    private final AttachmentUploadSessionRepository uploadSessionRepository;
+
+    @Scheduled(cron = "${attachment.upload.cleanup.cron:0 15 * * * *}")
+    public void deleteExpiredSessions() {
+        int deleted = uploadSessionRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Expired upload sessions deleted: {}", deleted);
+        }
+    }
+}
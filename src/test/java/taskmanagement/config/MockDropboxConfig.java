@@ -8,6 +8,8 @@ import java.util.Date;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.service.storage.AttachmentStorage;
 
 @TestConfiguration
 public class MockDropboxConfig {
@@ -21,7 +23,9 @@ public class MockDropboxConfig {
         Mockito.when(client.files()).thenReturn(files);
         Mockito.when(files.uploadBuilder(Mockito.anyString()))
                 .thenReturn(uploadBuilder);
-        Mockito.when(uploadBuilder.uploadAndFinish(Mockito.any()))
+        Mockito.when(uploadBuilder.withContentHash(Mockito.any()))
+                .thenReturn(uploadBuilder);
+        Mockito.when(uploadBuilder.uploadAndFinish(Mockito.any(), Mockito.anyLong()))
                 .thenReturn(
                         new FileMetadata("testFile",
                                 "testfileid",
@@ -33,4 +37,9 @@ public class MockDropboxConfig {
 
         return client;
     }
+
+    @Bean
+    public AttachmentStorage attachmentStorage(DbxClientV2 dropboxClient) {
+        return new DropboxService(dropboxClient, dropboxClient);
+    }
 }
@@ -1,19 +1,21 @@
 package taskmanagement.controller;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.AssertionsKt.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-import com.dropbox.core.v2.files.FileMetadata;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Arrays;
 import java.util.List;
@@ -32,7 +34,9 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import taskmanagement.dto.attachment.AttachmentResponseDto;
-import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.model.Attachment;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @Transactional
@@ -42,7 +46,7 @@ public class AttachmentControllerTest {
     protected static MockMvc mockMvc;
 
     @MockitoBean
-    private DropboxService dropboxService;
+    private AttachmentStorage storage;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -69,14 +73,10 @@ public class AttachmentControllerTest {
                 "Hello world".getBytes()
         );
 
-        FileMetadata metadata = mock(FileMetadata.class);
+        StoredFile stored = new StoredFile("fake-id-123", "/fake/path.txt", 11L, "fake-hash");
 
-        when(metadata.getId()).thenReturn("fake-id-123");
-        when(metadata.getPathLower()).thenReturn("/fake/path.txt");
-        when(metadata.getName()).thenReturn("path.txt");
-
-        when(dropboxService.uploadFile(any(), any()))
-                .thenReturn(metadata);
+        when(storage.put(any(), any(), anyLong(), any()))
+                .thenReturn(stored);
 
         MvcResult result = mockMvc.perform(
                         multipart("/attachments/2")
@@ -95,6 +95,35 @@ public class AttachmentControllerTest {
         assertNotNull(response.filename());
     }
 
+    @WithMockUser(username = "john.doe@example.com")
+    @Test
+    @DisplayName("Upload attachment asynchronously - valid request - should return 202")
+    void uploadAttachmentAsync_validRequest_accepted() throws Exception {
+
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "queued.txt",
+                "text/plain",
+                "Queued content".getBytes()
+        );
+
+        MvcResult result = mockMvc.perform(
+                        multipart("/attachments/2")
+                                .file(file)
+                                .param("async", "true")
+                )
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        AttachmentResponseDto response = objectMapper.readValue(
+                result.getResponse().getContentAsString(),
+                AttachmentResponseDto.class
+        );
+
+        assertNotNull(response.id());
+        assertEquals(Attachment.Status.PENDING, response.status());
+    }
+
     @Test
     @DisplayName("Upload file - without authentication - should return 401")
     void upload_Unauthorized_Returns401() throws Exception {
@@ -132,14 +161,32 @@ public class AttachmentControllerTest {
     @DisplayName("Download attachment - returns file")
     void downloadAttachment_validRequest_success() throws Exception {
 
-        mockMvc.perform(
+        when(storage.size("/docs/project-plan.pdf")).thenReturn(0L);
+
+        MvcResult result = mockMvc.perform(
                         get("/attachments/1/download")
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().exists("Content-Type"))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
                 .andExpect(content().bytes(new byte[]{}));
     }
 
+    @WithMockUser(username = "john.doe@example.com")
+    @Test
+    @DisplayName("Download attachment - range past end of file - should return 416")
+    void downloadAttachment_rangeNotSatisfiable_returns416() throws Exception {
+        when(storage.size("/docs/project-plan.pdf")).thenReturn(100L);
+
+        mockMvc.perform(get("/attachments/1/download").header("Range", "bytes=200-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */100"));
+    }
+
     @WithMockUser(username = "john.doe@example.com")
     @Test
     @DisplayName("Get attachment by task id - non-existing attachment - should return 404")
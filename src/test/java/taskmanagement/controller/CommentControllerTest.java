@@ -159,4 +159,45 @@ public class CommentControllerTest {
         mockMvc.perform(delete("/comments/9999"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Get comment thread - valid task - should return excerpts and cursor")
+    void getCommentThread_ValidTask_ReturnsExcerpts() throws Exception {
+
+        mockMvc.perform(get("/comments/by-task/1").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(1))
+                .andExpect(jsonPath("$.comments[0].id").value(1))
+                .andExpect(jsonPath("$.comments[0].excerpt")
+                        .value("Initial task setup completed successfully."))
+                .andExpect(jsonPath("$.comments[0].truncated").value(false))
+                .andExpect(jsonPath("$.nextId").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        mockMvc.perform(get("/comments/by-task/1")
+                        .param("afterTimestamp", "2025-01-02T09:45:00")
+                        .param("afterId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Get comment - member of project - should return full text")
+    void getComment_Member_ReturnsFullText() throws Exception {
+
+        mockMvc.perform(get("/comments/detail/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.text").value("Initial task setup completed successfully."));
+    }
+
+    @Test
+    @WithMockUser(username = "anna@example.com")
+    @DisplayName("Get comment - not member of project - should return 403")
+    void getComment_NotMember_ReturnsForbidden() throws Exception {
+
+        mockMvc.perform(get("/comments/detail/1"))
+                .andExpect(status().isForbidden());
+    }
 }
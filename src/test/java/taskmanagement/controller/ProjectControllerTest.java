@@ -9,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,6 +22,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 import taskmanagement.dto.project.ProjectMemberRequest;
+import taskmanagement.dto.project.ProjectMembersDeleteRequestDto;
+import taskmanagement.dto.project.ProjectMembersRequestDto;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.projectmember.ProjectMemberDto;
@@ -164,6 +167,22 @@ public class ProjectControllerTest {
     @DisplayName("Add Member - asManager - add member successfully")
     void addMember_asManager_success() throws Exception {
 
+        ProjectMemberRequest request = new ProjectMemberRequest(
+                "anna@example.com",
+                ProjectMember.Role.MEMBER);
+
+        mockMvc.perform(post("/projects/2/member")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("anna@example.com"));
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Add Member - already member - should return 409")
+    void addMember_alreadyMember_conflict() throws Exception {
+
         ProjectMemberRequest request = new ProjectMemberRequest(
                 "jane.smith@example.com",
                 ProjectMember.Role.MEMBER);
@@ -171,8 +190,89 @@ public class ProjectControllerTest {
         mockMvc.perform(post("/projects/2/member")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@taskmanager.com", roles = "ADMIN")
+    @DisplayName("Add Members - asAdmin - add many members successfully")
+    void addMembers_asAdmin_success() throws Exception {
+
+        ProjectMembersRequestDto request = new ProjectMembersRequestDto(List.of(
+                new ProjectMemberRequest("jane.smith@example.com", ProjectMember.Role.VIEWER),
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER)));
+
+        mockMvc.perform(post("/projects/1/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        mockMvc.perform(get("/projects/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.email").value("jane.smith@example.com"));
+                .andExpect(jsonPath("$.members.length()").value(4));
+    }
+
+    @Test
+    @WithMockUser(username = "admin@taskmanager.com", roles = "ADMIN")
+    @DisplayName("Add Members - one already member - should return 409")
+    void addMembers_alreadyMember_conflict() throws Exception {
+
+        ProjectMembersRequestDto request = new ProjectMembersRequestDto(List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER),
+                new ProjectMemberRequest("john.doe@example.com", ProjectMember.Role.MEMBER)));
+
+        mockMvc.perform(post("/projects/1/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Change Member Roles - asManager - roles changed")
+    void updateMemberRoles_asManager_success() throws Exception {
+
+        ProjectMembersRequestDto request = new ProjectMembersRequestDto(List.of(
+                new ProjectMemberRequest("jane.smith@example.com", ProjectMember.Role.MEMBER)));
+
+        mockMvc.perform(patch("/projects/2/members")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].role").value("MEMBER"));
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Remove Members - asManager - members removed")
+    void deleteMembers_asManager_success() throws Exception {
+
+        ProjectMembersDeleteRequestDto request =
+                new ProjectMembersDeleteRequestDto(List.of("jane.smith@example.com"));
+
+        mockMvc.perform(post("/projects/2/members/remove")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/projects/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.members.length()").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Remove Members - asMember - should return 403")
+    void deleteMembers_forbidden() throws Exception {
+
+        ProjectMembersDeleteRequestDto request =
+                new ProjectMembersDeleteRequestDto(List.of("admin@taskmanager.com"));
+
+        mockMvc.perform(post("/projects/1/members/remove")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
     }
 
     @Test
@@ -351,7 +451,15 @@ public class ProjectControllerTest {
     void deleteProject_asAdmin_success() throws Exception {
 
         mockMvc.perform(delete("/projects/1"))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.projectId").value(1))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+
+        mockMvc.perform(get("/projects/1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/projects/1/deletion"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PENDING"));
     }
 
     @Test
@@ -360,7 +468,7 @@ public class ProjectControllerTest {
     void deleteProject_asManager_success() throws Exception {
 
         mockMvc.perform(delete("/projects/2"))
-                .andExpect(status().isOk());
+                .andExpect(status().isAccepted());
     }
 
     @Test
@@ -0,0 +1,69 @@
+package taskmanagement.controller;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+import taskmanagement.service.sync.SyncSequencer;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Transactional
+public class SyncControllerTest {
+
+    protected static MockMvc mockMvc;
+
+    @Autowired
+    private SyncSequencer syncSequencer;
+
+    @BeforeAll
+    public static void setUp(@Autowired WebApplicationContext ctx) {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(ctx)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Get changes - no changes after cursor - should return empty batch")
+    void getChanges_noChanges_returnsEmpty() throws Exception {
+
+        mockMvc.perform(get("/sync")
+                        .param("cursor", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0))
+                .andExpect(jsonPath("$.nextCursor").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Get changes - deleted comment - should return tombstone")
+    void getChanges_deletedComment_returnsTombstone() throws Exception {
+
+        mockMvc.perform(delete("/comments/2"))
+                .andExpect(status().isOk());
+        syncSequencer.sequencePending(100);
+
+        mockMvc.perform(get("/sync")
+                        .param("cursor", "0"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].entityType").value("COMMENT"))
+                .andExpect(jsonPath("$.changes[0].entityId").value(2))
+                .andExpect(jsonPath("$.changes[0].operation").value("DELETE"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
+import taskmanagement.dto.task.TaskMoveRequestDto;
 import taskmanagement.dto.task.TaskPatchRequestDto;
 import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.model.Task;
@@ -185,7 +186,9 @@ public class TaskControllerTest {
 
         mockMvc.perform(get("/tasks/{id}", 2L))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(2L));
+                .andExpect(jsonPath("$.id").value(2L))
+                .andExpect(jsonPath("$.commentCount").value(1))
+                .andExpect(jsonPath("$.attachmentCount").value(1));
     }
 
     @Test
@@ -340,4 +343,47 @@ public class TaskControllerTest {
         mockMvc.perform(delete("/tasks/{id}", 999L))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @WithMockUser(username = "john.doe@example.com")
+    @DisplayName("Move Task - as Manager, place before existing task – should return 200")
+    void moveTask_asManager_success() throws Exception {
+
+        TaskMoveRequestDto request = new TaskMoveRequestDto(
+                Task.Status.IN_PROGRESS,
+                null,
+                1L
+        );
+
+        mockMvc.perform(patch("/tasks/2/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(2))
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"));
+
+        mockMvc.perform(get("/tasks/by-project/1/board")
+                        .param("status", "IN_PROGRESS"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(2))
+                .andExpect(jsonPath("$[1].id").value(1));
+    }
+
+    @Test
+    @WithMockUser(username = "anna@example.com")
+    @DisplayName("Move Task - as non member – should return 403")
+    void moveTask_asNonMember_forbidden() throws Exception {
+
+        TaskMoveRequestDto request = new TaskMoveRequestDto(
+                Task.Status.COMPLETED,
+                null,
+                null
+        );
+
+        mockMvc.perform(patch("/tasks/2/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -1,17 +1,25 @@
 package taskmanagement.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import taskmanagement.dto.project.ProjectResponseDto;
+import taskmanagement.dto.project.ProjectSummaryDto;
+import taskmanagement.mapper.ProjectMapper;
 import taskmanagement.model.Project;
 
 @SpringBootTest
@@ -21,48 +29,79 @@ public class ProjectRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     @DisplayName("""
-            findAllByMemberEmail | should return projects assigned to user from liquibase
+            findSummariesByMemberUserId | should return projects assigned to user from liquibase
             """)
-    void findAllByMemberEmail_fromLiquibase() {
+    void findSummariesByMemberUserId_fromLiquibase() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        // when
+        Slice<ProjectSummaryDto> projects =
+                projectRepository.findSummariesByMemberUserId(2L, pageable);
 
-        Pageable pageable = PageRequest.of(0, 10);
+        // then
+        assertEquals(2, projects.getNumberOfElements());
+        assertFalse(projects.hasNext());
+        assertTrue(projects.stream()
+                .anyMatch(p -> p.name().equals("Task Management System")));
+    }
+
+    @Test
+    @DisplayName("""
+            findSummariesByMemberUserId | should report next slice without counting
+            """)
+    void findSummariesByMemberUserId_hasNext() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("id"));
         // when
-        Page<Project> projects =
-                projectRepository.findAllByMemberEmail("john.doe@example.com", pageable);
+        Slice<ProjectSummaryDto> projects =
+                projectRepository.findSummariesByMemberUserId(2L, pageable);
 
         // then
-        assertEquals(2, projects.getTotalElements());
-        assertTrue(projects.stream().anyMatch(p -> p.getName().equals("Task Management System")));
+        assertEquals(1, projects.getNumberOfElements());
+        assertEquals(1L, projects.getContent().get(0).id());
+        assertTrue(projects.hasNext());
     }
 
     @Test
     @DisplayName("""
-            findAllByMemberEmail | should return empty list if user exists but has no projects
+            findSummariesByMemberUserId | should return empty slice if user has no projects
             """)
-    void findAllByMemberEmail_noProjects() {
+    void findSummariesByMemberUserId_noProjects() {
         Pageable pageable = PageRequest.of(0, 10);
         // when
-        Page<Project> projects =
-                projectRepository.findAllByMemberEmail("anna@example.com", pageable);
+        Slice<ProjectSummaryDto> projects =
+                projectRepository.findSummariesByMemberUserId(4L, pageable);
 
         // then
-        assertEquals(0, projects.getTotalElements());
         assertTrue(projects.isEmpty());
+        assertFalse(projects.hasNext());
     }
 
     @Test
     @DisplayName("""
-            findAllByMemberEmail | should return empty list for unknown email
+            findWithMembersById | should load members with usernames without N+1 queries
             """)
-    void findAllByMemberEmail_unknownEmail() {
-        Pageable pageable = PageRequest.of(0, 10);
+    void findWithMembersById_noNPlusOne() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
         // when
-        Page<Project> projects =
-                projectRepository.findAllByMemberEmail("nobody@example.com", pageable);
+        Project project = projectRepository.findWithMembersById(1L).orElseThrow();
+        ProjectResponseDto dto = projectMapper.toDto(project);
 
         // then
-        assertTrue(projects.isEmpty());
+        assertEquals(2, dto.members().size());
+        assertTrue(dto.members().stream().allMatch(m -> m.username() != null));
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected at most 2 statements but was "
+                        + statistics.getPrepareStatementCount());
     }
 }
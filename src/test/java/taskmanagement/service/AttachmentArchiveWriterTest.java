@@ -0,0 +1,198 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.service.storage.AttachmentArchiveWriter;
+import taskmanagement.service.storage.AttachmentStorage;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentArchiveWriterTest {
+
+    private static final int PREFETCH_BYTES = 1024;
+
+    @Mock
+    private AttachmentStorage storage;
+
+    @Test
+    @DisplayName("""
+            write | every attachment should become a ZIP entry with its full content
+            """)
+    void write_allEntries_roundTrip() throws IOException {
+        // given
+        byte[] large = randomBytes(10 * PREFETCH_BYTES + 7);
+        byte[] small = "notes".getBytes(StandardCharsets.UTF_8);
+        when(storage.get("/a")).thenReturn(new ByteArrayInputStream(large));
+        when(storage.get("/b")).thenReturn(new ByteArrayInputStream(small));
+        AttachmentArchiveWriter writer = createWriter();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(List.of(
+                new AttachmentArchiveWriter.Entry(1L, "video.bin", "/a", (long) large.length),
+                new AttachmentArchiveWriter.Entry(2L, "notes.txt", "/b", null)), out);
+
+        // then
+        Map<String, byte[]> entries = unzip(out.toByteArray());
+        assertEquals(List.of("video.bin", "notes.txt"), List.copyOf(entries.keySet()));
+        assertArrayEquals(large, entries.get("video.bin"));
+        assertArrayEquals(small, entries.get("notes.txt"));
+    }
+
+    @Test
+    @DisplayName("""
+            write | path separators and clashing names should not escape or collide in the ZIP
+            """)
+    void write_unsafeAndDuplicateNames_sanitized() throws IOException {
+        // given
+        when(storage.get("/a")).thenReturn(new ByteArrayInputStream(new byte[] {1}));
+        when(storage.get("/b")).thenReturn(new ByteArrayInputStream(new byte[] {2}));
+        AttachmentArchiveWriter writer = createWriter();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(List.of(
+                new AttachmentArchiveWriter.Entry(1L, "../etc/passwd", "/a", 1L),
+                new AttachmentArchiveWriter.Entry(2L, "..\\etc/passwd", "/b", 1L)), out);
+
+        // then
+        assertEquals(List.of(".._etc_passwd", "2-.._etc_passwd"),
+                List.copyOf(unzip(out.toByteArray()).keySet()));
+    }
+
+    @Test
+    @DisplayName("""
+            write | renamed duplicate should not collide with another attachment's filename
+            """)
+    void write_renamedDuplicateClashes_keepsRenaming() throws IOException {
+        // given
+        when(storage.get(any())).thenAnswer(invocation -> new ByteArrayInputStream(new byte[] {1}));
+        AttachmentArchiveWriter writer = createWriter();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(List.of(
+                new AttachmentArchiveWriter.Entry(1L, "2-a.txt", "/a", 1L),
+                new AttachmentArchiveWriter.Entry(3L, "a.txt", "/b", 1L),
+                new AttachmentArchiveWriter.Entry(2L, "a.txt", "/c", 1L)), out);
+
+        // then
+        assertEquals(List.of("2-a.txt", "a.txt", "2-2-a.txt"),
+                List.copyOf(unzip(out.toByteArray()).keySet()));
+    }
+
+    @Test
+    @DisplayName("""
+            write | next attachment should be opened while the current one is still streaming
+            """)
+    void write_nextAttachmentPrefetchedWhileWriting() throws Exception {
+        // given
+        CountDownLatch nextOpened = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        byte[] first = randomBytes(4 * PREFETCH_BYTES);
+        when(storage.get("/a")).thenReturn(new FilterInputStream(
+                new ByteArrayInputStream(first)) {
+            private boolean waited;
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (!waited && in.available() < first.length - PREFETCH_BYTES) {
+                    waited = true;
+                    overlapped.set(awaitQuietly(nextOpened));
+                }
+                return super.read(buffer, offset, length);
+            }
+        });
+        when(storage.get("/b")).thenAnswer(invocation -> {
+            nextOpened.countDown();
+            return new ByteArrayInputStream(new byte[] {9});
+        });
+        AttachmentArchiveWriter writer = createWriter();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(List.of(
+                new AttachmentArchiveWriter.Entry(1L, "first.bin", "/a", (long) first.length),
+                new AttachmentArchiveWriter.Entry(2L, "second.bin", "/b", 1L)), out);
+
+        // then
+        assertTrue(overlapped.get(), "next attachment was not opened while streaming");
+        assertArrayEquals(first, unzip(out.toByteArray()).get("first.bin"));
+    }
+
+    @Test
+    @DisplayName("""
+            write | failure opening an attachment should abort the archive
+            """)
+    void write_storageFailure_propagates() throws IOException {
+        // given
+        when(storage.get("/a")).thenThrow(new FileStorageException("storage unavailable"));
+        AttachmentArchiveWriter writer = createWriter();
+
+        // when + then
+        assertThrows(FileStorageException.class, () -> writer.write(List.of(
+                new AttachmentArchiveWriter.Entry(1L, "a.bin", "/a", 1L)),
+                new ByteArrayOutputStream()));
+        verify(storage).get("/a");
+    }
+
+    private AttachmentArchiveWriter createWriter() {
+        AttachmentArchiveWriter writer =
+                new AttachmentArchiveWriter(storage, new SimpleAsyncTaskExecutor());
+        ReflectionTestUtils.setField(writer, "prefetchBytes", PREFETCH_BYTES);
+        return writer;
+    }
+
+    private Map<String, byte[]> unzip(byte[] archive) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), zip.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
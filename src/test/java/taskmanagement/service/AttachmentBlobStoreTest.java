@@ -0,0 +1,99 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.repository.AttachmentBlobRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentFileCache;
+import taskmanagement.service.storage.StorageDeletionQueue;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.ThumbnailCache;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentBlobStoreTest {
+
+    private static final String CONTENT_HASH = "hash";
+    private static final String BLOB_PATH = "/blobs/hash";
+
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    @Mock
+    private AttachmentFileCache attachmentFileCache;
+
+    @Mock
+    private AttachmentThumbnailRepository thumbnailRepository;
+
+    @Mock
+    private ThumbnailCache thumbnailCache;
+
+    @InjectMocks
+    private AttachmentBlobStore blobStore;
+
+    @Test
+    @DisplayName("""
+            register | new blob should be inserted and hold exactly one reference
+            """)
+    void register_newBlob_oneReference() {
+        // given
+        StoredFile stored = new StoredFile("id:blob", BLOB_PATH, 10, CONTENT_HASH);
+        AttachmentBlob inserted = blob(0);
+        when(blobRepository.insertIfAbsent(any(), any(), any(), any(Long.class), any()))
+                .thenReturn(1);
+        when(blobRepository.findByContentHashForUpdate(CONTENT_HASH))
+                .thenReturn(Optional.of(inserted));
+
+        // when
+        AttachmentBlob actual = blobStore.register(CONTENT_HASH, stored);
+
+        // then
+        assertSame(inserted, actual);
+        assertEquals(1, actual.getRefCount());
+        verify(blobRepository).insertIfAbsent(any(), any(), any(), any(Long.class), any());
+    }
+
+    @Test
+    @DisplayName("""
+            register | blob registered concurrently should gain a reference instead of failing
+            """)
+    void register_registeredConcurrently_addsReference() {
+        // given
+        StoredFile stored = new StoredFile("id:blob", BLOB_PATH, 10, CONTENT_HASH);
+        when(blobRepository.insertIfAbsent(any(), any(), any(), any(Long.class), any()))
+                .thenReturn(0);
+        when(blobRepository.findByContentHashForUpdate(CONTENT_HASH))
+                .thenReturn(Optional.of(blob(1)));
+
+        // when
+        AttachmentBlob actual = blobStore.register(CONTENT_HASH, stored);
+
+        // then
+        assertEquals(2, actual.getRefCount());
+    }
+
+    private AttachmentBlob blob(int refCount) {
+        AttachmentBlob blob = new AttachmentBlob();
+        blob.setContentHash(CONTENT_HASH);
+        blob.setDropboxFileId("id:blob");
+        blob.setPath(BLOB_PATH);
+        blob.setSize(10);
+        blob.setRefCount(refCount);
+        return blob;
+    }
+}
@@ -0,0 +1,169 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.dto.attachment.AttachmentCacheStatsDto;
+import taskmanagement.service.storage.AttachmentFileCache;
+import taskmanagement.service.storage.AttachmentStorage;
+
+@ExtendWith(MockitoExtension.class)
+public class AttachmentFileCacheTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path cacheDir;
+
+    @Mock
+    private AttachmentStorage storage;
+
+    @InjectMocks
+    private AttachmentFileCache attachmentFileCache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ReflectionTestUtils.setField(attachmentFileCache, "directory", cacheDir.toString());
+        ReflectionTestUtils.setField(attachmentFileCache, "maxBytes", 25L);
+        ReflectionTestUtils.setField(attachmentFileCache, "maxFileBytes", 20L);
+        attachmentFileCache.init();
+        when(storage.isRemote()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("""
+            stream | verify that a second read is served from disk, including ranges
+            """)
+    void stream_hitServedFromDisk() throws IOException {
+        // given
+        mockStorageContent();
+
+        // when
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        attachmentFileCache.stream("id:a", "/a", 10, 0, 10, first);
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        attachmentFileCache.stream("id:a", "/a", 10, 3, 4, second);
+
+        // then
+        assertArrayEquals(CONTENT, first.toByteArray());
+        assertEquals("3456", second.toString(StandardCharsets.UTF_8));
+        verify(storage, times(1)).getRange("/a", 0L, 10L);
+        AttachmentCacheStatsDto stats = attachmentFileCache.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(4, stats.bytesSaved());
+        assertEquals(10, stats.cachedBytes());
+    }
+
+    @Test
+    @DisplayName("""
+            stream | verify that concurrent misses for one file trigger a single fetch
+            """)
+    void stream_concurrentMissesCoalesced() throws Exception {
+        // given
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(storage.getRange(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new ByteArrayInputStream(CONTENT);
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        // when
+        final Future<byte[]> first = pool.submit(() -> read("id:b"));
+        fetchStarted.await(5, TimeUnit.SECONDS);
+        final Future<byte[]> second = pool.submit(() -> read("id:b"));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertArrayEquals(CONTENT, first.get(5, TimeUnit.SECONDS));
+        assertArrayEquals(CONTENT, second.get(5, TimeUnit.SECONDS));
+        verify(storage, times(1)).getRange(anyString(), anyLong(), anyLong());
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("""
+            stream | verify that the least recently used file is evicted over the byte limit
+            """)
+    void stream_evictsLeastRecentlyUsed() throws Exception {
+        // given
+        mockStorageContent();
+
+        // when
+        read("id:1");
+        Thread.sleep(5);
+        read("id:2");
+        Thread.sleep(5);
+        read("id:1");
+        Thread.sleep(5);
+        read("id:3");
+        read("id:1");
+        read("id:2");
+
+        // then
+        verify(storage, times(1)).getRange(eq("/id:1"), anyLong(), anyLong());
+        verify(storage, times(2)).getRange(eq("/id:2"), anyLong(), anyLong());
+        assertEquals(20, attachmentFileCache.getStats().cachedBytes());
+    }
+
+    @Test
+    @DisplayName("""
+            stream | verify that files above the per-file limit bypass the cache
+            """)
+    void stream_largeFileBypassesCache() throws IOException {
+        // given
+        mockStorageContent();
+
+        // when
+        attachmentFileCache.stream("id:big", "/big", 21, 0, 10, new ByteArrayOutputStream());
+        attachmentFileCache.stream("id:big", "/big", 21, 0, 10, new ByteArrayOutputStream());
+
+        // then
+        verify(storage, times(2)).getRange("/big", 0L, 10L);
+        assertEquals(0, attachmentFileCache.getStats().cachedFiles());
+    }
+
+    private void mockStorageContent() throws IOException {
+        when(storage.getRange(anyString(), anyLong(), anyLong())).thenAnswer(invocation -> {
+            int offset = Math.toIntExact(invocation.getArgument(1, Long.class));
+            int length = Math.toIntExact(invocation.getArgument(2, Long.class));
+            return new ByteArrayInputStream(
+                    Arrays.copyOfRange(CONTENT, offset, offset + length));
+        });
+    }
+
+    private byte[] read(String fileId) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        attachmentFileCache.stream(fileId, "/" + fileId, 10, 0, 10, out);
+        return out.toByteArray();
+    }
+}
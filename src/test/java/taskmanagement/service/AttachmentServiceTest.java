@@ -2,20 +2,35 @@ package taskmanagement.service;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.dropbox.core.v2.files.FileMetadata;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,35 +38,63 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import taskmanagement.dto.attachment.AttachmentResponseDto;
+import taskmanagement.dto.attachment.UploadSessionDto;
+import taskmanagement.dto.attachment.UploadSessionRequestDto;
 import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
 import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.exceptions.InvalidRequestException;
 import taskmanagement.mapper.AttachmentMapper;
 import taskmanagement.mapper.impl.AttachmentMapperImpl;
 import taskmanagement.model.Attachment;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.model.AttachmentUploadSession;
 import taskmanagement.model.Project;
 import taskmanagement.model.ProjectMember;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.repository.AttachmentUploadSessionRepository;
 import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
-import taskmanagement.service.dropbox.DropboxService;
 import taskmanagement.service.impl.AttachmentServiceImpl;
+import taskmanagement.service.storage.AttachmentArchiveWriter;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentFileCache;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StorageDeletionQueue;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.AttachmentThumbnailWorker;
+import taskmanagement.service.thumbnail.ThumbnailCache;
+import taskmanagement.service.upload.AttachmentSpool;
+import taskmanagement.service.upload.AttachmentUploadWorker;
 
 @ExtendWith(MockitoExtension.class)
 public class AttachmentServiceTest {
 
+    private static final byte[] CONTENT = "attachment content".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_HASH =
+            "b768b2a1016fb3ef2a703dabb9ed0c454452781318563e8a684ce324d916c98a";
+
     @Mock
     private AttachmentRepository attachmentRepository;
     @Mock
@@ -61,7 +104,29 @@ public class AttachmentServiceTest {
     @Mock
     private PermissionValidator permissionValidator;
     @Mock
-    private DropboxService dropboxService;
+    private AttachmentStorage storage;
+    @Mock
+    private AttachmentFileCache attachmentFileCache;
+    @Mock
+    private AttachmentBlobStore blobStore;
+    @Mock
+    private AttachmentUploadSessionRepository uploadSessionRepository;
+    @Mock
+    private SyncService syncService;
+    @Mock
+    private AttachmentSpool attachmentSpool;
+    @Mock
+    private AttachmentUploadWorker uploadWorker;
+    @Mock
+    private AttachmentArchiveWriter archiveWriter;
+    @Mock
+    private AttachmentThumbnailWorker thumbnailWorker;
+    @Mock
+    private AttachmentThumbnailRepository thumbnailRepository;
+    @Mock
+    private ThumbnailCache thumbnailCache;
+    @Mock
+    private StorageDeletionQueue deletionQueue;
     @Mock
     private MultipartFile file;
 
@@ -71,6 +136,19 @@ public class AttachmentServiceTest {
     @InjectMocks
     private AttachmentServiceImpl attachmentService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(attachmentService, "uploadChunkSize", 8L * 1024 * 1024);
+        ReflectionTestUtils.setField(attachmentService, "uploadSessionTtlHours", 24L);
+        ReflectionTestUtils.setField(attachmentService, "transactionTemplate",
+                new TransactionTemplate() {
+                    @Override
+                    public <T> T execute(TransactionCallback<T> action) {
+                        return action.doInTransaction(new SimpleTransactionStatus());
+                    }
+                });
+    }
+
     @Test
     @DisplayName("""
             uploadAttachment | manager should successfully upload attachment
@@ -95,16 +173,19 @@ public class AttachmentServiceTest {
         doNothing().when(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
 
-        FileMetadata metadata = mock(FileMetadata.class);
-
-        when(metadata.getId()).thenReturn("fileId");
-        when(metadata.getPathLower()).thenReturn("/tasks/1/test.txt");
+        StoredFile stored = new StoredFile("id:blob",
+                "/blobs/" + CONTENT_HASH,
+                CONTENT.length,
+                CONTENT_HASH);
+        AttachmentBlob blob = createBlob();
 
         when(file.getOriginalFilename()).thenReturn("test.txt");
-        when(dropboxService.uploadFile(file, "/tasks/" + taskId))
-                .thenReturn(metadata);
-        when(attachmentRepository.findByPath("/tasks/1/test.txt"))
-                .thenReturn(List.of());
+        when(file.getSize()).thenReturn((long) CONTENT.length);
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(storage.put(eq("/blobs/" + CONTENT_HASH), any(), eq((long) CONTENT.length),
+                eq(CONTENT_HASH))).thenReturn(stored);
+        when(blobStore.register(CONTENT_HASH, stored)).thenReturn(blob);
         Attachment saved = new Attachment();
         saved.setId(1L);
 
@@ -119,8 +200,140 @@ public class AttachmentServiceTest {
         verify(userRepository).findByEmail(email);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        verify(dropboxService).uploadFile(file, "/tasks/" + taskId);
-        verify(attachmentRepository).save(any());
+        verify(storage).put(eq("/blobs/" + CONTENT_HASH), any(), eq((long) CONTENT.length),
+                eq(CONTENT_HASH));
+        verify(attachmentRepository).save(argThat(attachment ->
+                CONTENT_HASH.equals(attachment.getContentHash())
+                        && blob.getPath().equals(attachment.getPath())
+                        && attachment.getStatus() == Attachment.Status.STORED));
+        verify(taskRepository).adjustAttachmentCount(taskId, 1);
+        verify(thumbnailWorker).submit(CONTENT_HASH, blob.getPath(), "test.txt");
+    }
+
+    @Test
+    @DisplayName("""
+            uploadAttachmentAsync | new content should be spooled and queued as pending
+            """)
+    void uploadAttachmentAsync_newContent_queuesPending() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        final AttachmentSpool.SpooledFile spooled = new AttachmentSpool.SpooledFile(
+                Path.of("upload.part"), CONTENT.length, CONTENT_HASH);
+        Attachment saved = new Attachment();
+        saved.setId(3L);
+        saved.setStatus(Attachment.Status.PENDING);
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(file.getOriginalFilename()).thenReturn("video.mp4");
+        when(attachmentSpool.spool(file)).thenReturn(spooled);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+
+        // when
+        AttachmentResponseDto result = attachmentService.uploadAttachmentAsync(2L, file, email);
+
+        // then
+        assertEquals(3L, result.id());
+        assertEquals(Attachment.Status.PENDING, result.status());
+        verify(attachmentRepository).save(argThat(attachment ->
+                attachment.getStatus() == Attachment.Status.PENDING
+                        && CONTENT_HASH.equals(attachment.getContentHash())
+                        && attachment.getPath() == null
+                        && attachment.getSize() == CONTENT.length));
+        verify(attachmentSpool).claim(spooled, 3L);
+        verify(uploadWorker).submit(3L);
+        verify(taskRepository).adjustAttachmentCount(2L, 1);
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            uploadAttachmentAsync | known content should be stored immediately without queueing
+            """)
+    void uploadAttachmentAsync_knownContent_storedImmediately() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        final AttachmentSpool.SpooledFile spooled = new AttachmentSpool.SpooledFile(
+                Path.of("upload.part"), CONTENT.length, CONTENT_HASH);
+        Attachment saved = new Attachment();
+        saved.setId(3L);
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(file.getOriginalFilename()).thenReturn("video.mp4");
+        when(attachmentSpool.spool(file)).thenReturn(spooled);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+
+        // when
+        attachmentService.uploadAttachmentAsync(2L, file, email);
+
+        // then
+        verify(attachmentSpool).discard(spooled);
+        verify(attachmentRepository).save(argThat(attachment ->
+                attachment.getStatus() == Attachment.Status.STORED));
+        verifyNoInteractions(uploadWorker);
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            uploadAttachmentAsync | spooled file should be discarded when saving the row fails
+            """)
+    void uploadAttachmentAsync_saveFails_discardsSpool() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        final AttachmentSpool.SpooledFile spooled = new AttachmentSpool.SpooledFile(
+                Path.of("upload.part"), CONTENT.length, CONTENT_HASH);
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(file.getOriginalFilename()).thenReturn("video.mp4");
+        when(attachmentSpool.spool(file)).thenReturn(spooled);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(attachmentRepository.save(any(Attachment.class)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when + then
+        assertThrows(FileStorageException.class,
+                () -> attachmentService.uploadAttachmentAsync(2L, file, email));
+        verify(attachmentSpool).discard(spooled);
+        verify(taskRepository, never()).adjustAttachmentCount(anyLong(), anyInt());
+        verifyNoInteractions(uploadWorker);
     }
 
     @Test
@@ -149,14 +362,10 @@ public class AttachmentServiceTest {
                 .when(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
 
-        FileMetadata metadata = mock(FileMetadata.class);
-        when(metadata.getId()).thenReturn("fileId");
-        when(metadata.getPathLower()).thenReturn("/tasks/1/test.txt");
-
         when(file.getOriginalFilename()).thenReturn("test.txt");
-
-        when(dropboxService.uploadFile(file, "/tasks/" + taskId)).thenReturn(metadata);
-        when(attachmentRepository.findByPath("/tasks/1/test.txt")).thenReturn(List.of());
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(CONTENT));
+        when(blobStore.exists(CONTENT_HASH)).thenReturn(true);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
 
         Attachment saved = new Attachment();
         saved.setId(1L);
@@ -173,6 +382,51 @@ public class AttachmentServiceTest {
         verify(attachmentRepository).save(any());
     }
 
+    @Test
+    @DisplayName("""
+            uploadAttachment | known content should reuse blob without Dropbox transfer
+            """)
+    void uploadAttachment_knownContent_skipsDropboxUpload() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        final AttachmentBlob blob = createBlob();
+        Attachment saved = new Attachment();
+        saved.setId(9L);
+
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(file.getOriginalFilename()).thenReturn("copy.txt");
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(CONTENT));
+        when(blobStore.exists(CONTENT_HASH)).thenReturn(true);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(blob));
+        when(attachmentRepository.save(any())).thenReturn(saved);
+
+        // when
+        AttachmentResponseDto result = attachmentService.uploadAttachment(task.getId(),
+                file,
+                email);
+
+        // then
+        assertEquals(9L, result.id());
+        verifyNoInteractions(storage);
+        verify(blobStore, never()).register(any(), any());
+        verify(attachmentRepository).save(argThat(attachment ->
+                "copy.txt".equals(attachment.getFilename())
+                        && blob.getDropboxFileId().equals(attachment.getDropboxFileId())
+                        && blob.getPath().equals(attachment.getPath())));
+    }
+
     @Test
     @DisplayName("""
             uploadAttachment | should throw when task not found
@@ -217,7 +471,7 @@ public class AttachmentServiceTest {
         verify(taskRepository).findById(task.getId());
         verify(userRepository).findByEmail(email);
         verifyNoInteractions(permissionValidator);
-        verifyNoInteractions(dropboxService);
+        verifyNoInteractions(storage);
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -243,7 +497,8 @@ public class AttachmentServiceTest {
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
         doNothing().when(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        when(dropboxService.uploadFile(any(), any()))
+        when(file.getInputStream()).thenReturn(new ByteArrayInputStream(CONTENT));
+        when(storage.put(any(), any(), anyLong(), any()))
                 .thenThrow(new IOException("BOOM"));
 
         //when +then
@@ -254,13 +509,106 @@ public class AttachmentServiceTest {
         verify(userRepository).findByEmail(email);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        verify(dropboxService).uploadFile(any(), any());
+        verify(storage).put(any(), any(), anyLong(), any());
+        verify(blobStore, never()).acquire(any());
+        verify(blobStore, never()).register(any(), any());
         verify(attachmentRepository, never()).save(any());
     }
 
     @Test
     @DisplayName("""
-            uploadAttachment | should throw FileStorageException when file path already exists
+            uploadAttachment | blob released after the existence check should be uploaded
+            and registered again
+            """)
+    void uploadAttachment_blobReleasedMeanwhile_uploadsAgain() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+
+        final StoredFile stored = new StoredFile("id:blob",
+                "/blobs/" + CONTENT_HASH,
+                CONTENT.length,
+                CONTENT_HASH);
+        Attachment saved = new Attachment();
+        saved.setId(3L);
+
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(file.getSize()).thenReturn((long) CONTENT.length);
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+        when(blobStore.exists(CONTENT_HASH)).thenReturn(true);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(storage.put(eq("/blobs/" + CONTENT_HASH), any(), eq((long) CONTENT.length),
+                eq(CONTENT_HASH))).thenReturn(stored);
+        when(blobStore.register(CONTENT_HASH, stored)).thenReturn(createBlob());
+        when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+
+        // when
+        AttachmentResponseDto result = attachmentService.uploadAttachment(task.getId(),
+                file,
+                email);
+
+        // then
+        assertEquals(3L, result.id());
+        verify(storage).put(any(), any(), anyLong(), any());
+        verify(blobStore, times(2)).acquire(CONTENT_HASH);
+        verify(attachmentRepository).save(any(Attachment.class));
+    }
+
+    @Test
+    @DisplayName("""
+            uploadAttachment | concurrent upload of the same filename should be reported
+            as already attached and leave the blob reference to the rollback
+            """)
+    void uploadAttachment_filenameRace_alreadyAttached() throws Exception {
+        // given
+        String email = "manager@example.com";
+
+        User user = new User();
+        user.setEmail(email);
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        doNothing().when(permissionValidator)
+                .validateAccess(any(), any(), any());
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(file.getInputStream()).thenAnswer(invocation -> new ByteArrayInputStream(CONTENT));
+        when(blobStore.exists(CONTENT_HASH)).thenReturn(true);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.save(any(Attachment.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate",
+                        new ConstraintViolationException("Duplicate entry", null,
+                                "attachments.uk_attachments_task_filename")));
+
+        // when + then
+        FileStorageException exception = assertThrows(FileStorageException.class,
+                () -> attachmentService.uploadAttachment(task.getId(), file, email));
+        assertEquals("File test.txt is already attached to task 1", exception.getMessage());
+        verify(blobStore, never()).release(any());
+        verify(taskRepository, never()).adjustAttachmentCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("""
+            uploadAttachment | should throw FileStorageException before transfer
+            when file is already attached
             """)
     void uploadAttachment_duplicatePath() throws Exception {
         //given
@@ -281,11 +629,8 @@ public class AttachmentServiceTest {
         doNothing().when(permissionValidator)
                 .validateAccess(any(), any(), any());
 
-        FileMetadata metadata = mock(FileMetadata.class);
-        when(metadata.getPathLower()).thenReturn("/tasks/1/test.txt");
-        when(dropboxService.uploadFile(file, "/tasks/1")).thenReturn(metadata);
-        when(attachmentRepository.findByPath("/tasks/1/test.txt"))
-                .thenReturn(List.of(new Attachment()));
+        when(file.getOriginalFilename()).thenReturn("test.txt");
+        when(attachmentRepository.existsByTask_IdAndFilename(1L, "test.txt")).thenReturn(true);
         //when + then
         assertThrows(FileStorageException.class,
                 () -> attachmentService.uploadAttachment(task.getId(), file, email));
@@ -294,8 +639,8 @@ public class AttachmentServiceTest {
         verify(userRepository).findByEmail(email);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        verify(dropboxService).uploadFile(file, "/tasks/1");
-        verify(attachmentRepository).findByPath("/tasks/1/test.txt");
+        verifyNoInteractions(storage);
+        verifyNoInteractions(blobStore);
         verify(attachmentRepository, never()).save(any());
     }
 
@@ -329,6 +674,7 @@ public class AttachmentServiceTest {
                 "p1",
                 null,
                 null,
+                null,
                 null);
         AttachmentResponseDto dto2 = new AttachmentResponseDto(
                 attachment2.getId(),
@@ -337,6 +683,7 @@ public class AttachmentServiceTest {
                 "p2",
                 null,
                 null,
+                null,
                 null);
         Page<Attachment> page = new PageImpl<>(List.of(attachment1, attachment2));
         Pageable pageable = PageRequest.of(0, 10);
@@ -391,9 +738,9 @@ public class AttachmentServiceTest {
 
     @Test
     @DisplayName("""
-            downloadAttachment | should return file data with correct headers
+            downloadAttachment | should stream whole file and store size read from Dropbox
             """)
-    void downloadAttachment_success() {
+    void downloadAttachment_success() throws IOException {
         // given
         Long attachmentId = 1L;
 
@@ -406,22 +753,23 @@ public class AttachmentServiceTest {
         Attachment attachment = new Attachment();
         attachment.setId(attachmentId);
         attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
         attachment.setPath("/dbx123");
         attachment.setFilename("test.pdf");
 
-        byte[] expectedBytes = "file data".getBytes();
-
         String email = "viewer@example.com";
 
         when(attachmentRepository.findById(attachmentId))
                 .thenReturn(Optional.of(attachment));
         doNothing().when(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.VIEWER);
-        when(dropboxService.downloadFile(attachment.getPath()))
-                .thenReturn(expectedBytes);
+        when(storage.size(attachment.getPath())).thenReturn(9L);
+
         // when
-        ResponseEntity<byte[]> response =
-                attachmentService.downloadAttachment(attachmentId, email);
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentService.downloadAttachment(attachmentId, null, email);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
 
         // then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -429,13 +777,114 @@ public class AttachmentServiceTest {
                 "attachment; filename=\"test.pdf\"",
                 response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)
         );
-        assertArrayEquals(expectedBytes, response.getBody());
+        assertEquals(9L, response.getHeaders().getContentLength());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(9L, attachment.getSize());
 
         // verify
-        verify(attachmentRepository).findById(attachmentId);
-        verify(permissionValidator)
-                .validateAccess(email, project.getId(), ProjectMember.Role.VIEWER);
-        verify(dropboxService).downloadFile(attachment.getPath());
+        verify(attachmentRepository).save(attachment);
+        verify(attachmentFileCache).stream(attachment.getDropboxFileId(),
+                attachment.getPath(), 9L, 0L, 9L, out);
+    }
+
+    @Test
+    @DisplayName("""
+            downloadAttachment | should stream only the requested byte range with 206
+            """)
+    void downloadAttachment_range_partialContent() throws IOException {
+        // given
+        Long attachmentId = 1L;
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(attachmentId);
+        attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
+        attachment.setPath("/dbx123");
+        attachment.setFilename("test.pdf");
+        attachment.setDropboxFileId("dbx-file-id");
+        attachment.setSize(1000L);
+
+        when(attachmentRepository.findById(attachmentId))
+                .thenReturn(Optional.of(attachment));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentService
+                .downloadAttachment(attachmentId, "bytes=100-", "viewer@example.com");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 100-999/1000",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(900L, response.getHeaders().getContentLength());
+
+        // verify
+        verify(attachmentFileCache).stream("dbx-file-id",
+                attachment.getPath(), 1000L, 100L, 900L, out);
+        verify(storage, never()).size(any());
+        verify(attachmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("""
+            downloadAttachment | should answer 416 when the range starts past the end of file
+            """)
+    void downloadAttachment_rangeNotSatisfiable() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
+        attachment.setPath("/dbx123");
+        attachment.setSize(1000L);
+
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response = attachmentService
+                .downloadAttachment(1L, "bytes=1000-1200", "viewer@example.com");
+
+        // then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */1000", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            downloadAttachment | should reject attachments whose upload has not completed
+            """)
+    void downloadAttachment_pending_rejected() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.PENDING);
+
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when + then
+        assertThrows(InvalidRequestException.class, () -> attachmentService
+                .downloadAttachment(1L, null, "viewer@example.com"));
+        verifyNoInteractions(storage);
+        verifyNoInteractions(attachmentFileCache);
     }
 
     @Test
@@ -452,12 +901,179 @@ public class AttachmentServiceTest {
 
         // when + then
         assertThrows(EntityNotFoundException.class,
-                () -> attachmentService.downloadAttachment(attachmentId, email));
+                () -> attachmentService.downloadAttachment(attachmentId, null, email));
 
         // verify
         verify(attachmentRepository).findById(attachmentId);
         verifyNoInteractions(permissionValidator);
-        verifyNoInteractions(dropboxService);
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            getThumbnail | stored thumbnail should be served with an immutable ETag
+            """)
+    void getThumbnail_stored_servedWithEtag() throws IOException {
+        // given
+        final String email = "viewer@example.com";
+        byte[] jpeg = {1, 2, 3};
+        AttachmentThumbnail thumbnail = createThumbnail();
+
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(storedAttachment()));
+        when(thumbnailRepository.findByContentHashAndSize(CONTENT_HASH,
+                AttachmentThumbnail.Size.MEDIUM)).thenReturn(Optional.of(thumbnail));
+        when(thumbnailCache.get(thumbnail)).thenReturn(jpeg);
+
+        // when
+        ResponseEntity<byte[]> response = attachmentService.getThumbnail(1L,
+                AttachmentThumbnail.Size.MEDIUM, null, email);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertEquals("\"" + CONTENT_HASH + "-medium\"", response.getHeaders().getETag());
+        assertEquals("max-age=31536000, private, immutable",
+                response.getHeaders().getCacheControl());
+        assertArrayEquals(jpeg, response.getBody());
+        verify(permissionValidator).validateAccess(email, 1L, ProjectMember.Role.VIEWER);
+    }
+
+    @Test
+    @DisplayName("""
+            getThumbnail | matching If-None-Match should return 304 without reading the thumbnail
+            """)
+    void getThumbnail_etagMatches_notModified() {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(storedAttachment()));
+        when(thumbnailRepository.findByContentHashAndSize(CONTENT_HASH,
+                AttachmentThumbnail.Size.MEDIUM)).thenReturn(Optional.of(createThumbnail()));
+
+        // when
+        ResponseEntity<byte[]> response = attachmentService.getThumbnail(1L,
+                AttachmentThumbnail.Size.MEDIUM, "\"" + CONTENT_HASH + "-medium\"",
+                "viewer@example.com");
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        verifyNoInteractions(thumbnailCache);
+    }
+
+    @Test
+    @DisplayName("""
+            getThumbnail | attachment without generated thumbnails should be reported as not found
+            """)
+    void getThumbnail_notGenerated_notFound() {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(storedAttachment()));
+        when(thumbnailRepository.findByContentHashAndSize(CONTENT_HASH,
+                AttachmentThumbnail.Size.SMALL)).thenReturn(Optional.empty());
+
+        // when + then
+        assertThrows(EntityNotFoundException.class, () -> attachmentService
+                .getThumbnail(1L, AttachmentThumbnail.Size.SMALL, null, "viewer@example.com"));
+        verifyNoInteractions(thumbnailCache);
+    }
+
+    @Test
+    @DisplayName("""
+            downloadArchive | should stream every stored attachment of the task as a ZIP
+            """)
+    void downloadArchive_allStored_streamsZip() throws IOException {
+        // given
+        final String email = "viewer@example.com";
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        Attachment first = new Attachment();
+        first.setId(3L);
+        first.setFilename("a.pdf");
+        first.setPath("/blobs/a");
+        first.setSize(10L);
+        Attachment second = new Attachment();
+        second.setId(4L);
+        second.setFilename("b.pdf");
+        second.setPath("/blobs/b");
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(attachmentRepository.findByTask_IdAndStatusOrderById(2L, Attachment.Status.STORED))
+                .thenReturn(List.of(first, second));
+
+        // when
+        ResponseEntity<StreamingResponseBody> response =
+                attachmentService.downloadArchive(2L, null, email);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("attachment; filename=\"task-2-attachments.zip\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        verify(permissionValidator).validateAccess(email, 1L, ProjectMember.Role.VIEWER);
+        verify(archiveWriter).write(List.of(
+                new AttachmentArchiveWriter.Entry(3L, "a.pdf", "/blobs/a", 10L),
+                new AttachmentArchiveWriter.Entry(4L, "b.pdf", "/blobs/b", null)), out);
+    }
+
+    @Test
+    @DisplayName("""
+            downloadArchive | selected ids outside the task should be reported as not found
+            """)
+    void downloadArchive_unknownSelection_notFound() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(3L);
+        attachment.setStatus(Attachment.Status.STORED);
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(attachmentRepository.findByTask_IdAndIdInOrderById(2L, Set.of(3L, 9L)))
+                .thenReturn(List.of(attachment));
+
+        // when + then
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> attachmentService.downloadArchive(2L, List.of(3L, 9L),
+                        "viewer@example.com"));
+        assertEquals("Attachments [9] not found in task 2", exception.getMessage());
+        verifyNoInteractions(archiveWriter);
+    }
+
+    @Test
+    @DisplayName("""
+            downloadArchive | selected attachment still uploading should be rejected
+            """)
+    void downloadArchive_pendingSelection_rejected() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(2L);
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(3L);
+        attachment.setStatus(Attachment.Status.PENDING);
+
+        when(taskRepository.findById(2L)).thenReturn(Optional.of(task));
+        when(attachmentRepository.findByTask_IdAndIdInOrderById(2L, Set.of(3L)))
+                .thenReturn(List.of(attachment));
+
+        // when + then
+        assertThrows(InvalidRequestException.class,
+                () -> attachmentService.downloadArchive(2L, List.of(3L), "viewer@example.com"));
+        verifyNoInteractions(archiveWriter);
     }
 
     @Test
@@ -473,6 +1089,7 @@ public class AttachmentServiceTest {
         uploader.setEmail("john@example.com");
 
         Task task = new Task();
+        task.setId(7L);
         task.setProject(project);
 
         String path = "/dropbox/path/file.pdf";
@@ -482,6 +1099,7 @@ public class AttachmentServiceTest {
         Attachment attachment = new Attachment();
         attachment.setId(attachmentId);
         attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
         attachment.setPath(path);
         attachment.setUploadedBy(uploader);
 
@@ -498,8 +1116,10 @@ public class AttachmentServiceTest {
         verify(attachmentRepository).findById(attachmentId);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        verify(dropboxService).deleteFile(path);
+        verify(deletionQueue).enqueue(List.of(path));
+        verify(attachmentFileCache).evict(attachment.getDropboxFileId());
         verify(attachmentRepository).delete(attachment);
+        verify(taskRepository).adjustAttachmentCount(7L, -1);
     }
 
     @Test
@@ -527,6 +1147,7 @@ public class AttachmentServiceTest {
         Attachment attachment = new Attachment();
         attachment.setId(attachmentId);
         attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
         attachment.setPath(path);
         attachment.setUploadedBy(uploader);
 
@@ -544,8 +1165,75 @@ public class AttachmentServiceTest {
         verify(attachmentRepository).findById(attachmentId);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
-        verify(dropboxService).deleteFile(path);
+        verify(deletionQueue).enqueue(List.of(path));
+        verify(attachmentRepository).delete(attachment);
+    }
+
+    @Test
+    @DisplayName("""
+            deleteAttachment | should release blob reference instead of deleting Dropbox file
+            """)
+    void deleteAttachment_sharedBlob_releasesReference() {
+        // given
+        final String email = "manager@example.com";
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(7L);
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(1L);
+        attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
+        attachment.setPath("/blobs/" + CONTENT_HASH);
+        attachment.setContentHash(CONTENT_HASH);
+
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when
+        attachmentService.deleteAttachment(1L, email);
+
+        // then
         verify(attachmentRepository).delete(attachment);
+        verify(blobStore).release(Map.of(CONTENT_HASH, 1L));
+        verifyNoInteractions(storage);
+        verifyNoInteractions(attachmentFileCache);
+        verify(taskRepository).adjustAttachmentCount(7L, -1);
+    }
+
+    @Test
+    @DisplayName("""
+            deleteAttachment | pending attachment should drop its spool file and keep blobs
+            """)
+    void deleteAttachment_pending_removesSpoolFile() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(7L);
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(1L);
+        attachment.setTask(task);
+        attachment.setContentHash(CONTENT_HASH);
+        attachment.setStatus(Attachment.Status.PENDING);
+
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when
+        attachmentService.deleteAttachment(1L, "manager@example.com");
+
+        // then
+        verify(attachmentRepository).delete(attachment);
+        verify(attachmentSpool).delete(1L);
+        verify(blobStore, never()).release(any());
+        verifyNoInteractions(storage);
+        verify(taskRepository).adjustAttachmentCount(7L, -1);
     }
 
     @Test
@@ -567,16 +1255,15 @@ public class AttachmentServiceTest {
         // verify
         verify(attachmentRepository).findById(attachmentId);
         verifyNoInteractions(permissionValidator);
-        verifyNoInteractions(dropboxService);
+        verifyNoInteractions(storage);
     }
 
     @Test
     @DisplayName("""
-            deleteAttachment | should throw FileStorageException when dropbox failure
+            deleteAttachment | remote file should be queued, not deleted on the request thread
             """)
-    void deleteAttachment_dropboxFails() {
+    void deleteAttachment_legacyFile_deletionQueued() {
         // given
-
         Project project = new Project();
         project.setId(1L);
 
@@ -588,33 +1275,293 @@ public class AttachmentServiceTest {
 
         String path = "/dropbox/path/file.pdf";
 
-        Long attachmentId = 1L;
-
         Attachment attachment = new Attachment();
-        attachment.setId(attachmentId);
+        attachment.setId(1L);
         attachment.setTask(task);
+        attachment.setStatus(Attachment.Status.STORED);
         attachment.setUploadedBy(uploader);
         attachment.setPath(path);
 
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when
+        attachmentService.deleteAttachment(1L, "manager@example.com");
+
+        // then
+        verify(attachmentRepository).delete(attachment);
+        verify(deletionQueue).enqueue(List.of(path));
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            startUpload | should open Dropbox session and split file into 4 MiB aligned chunks
+            """)
+    void startUpload_success() throws Exception {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+
         String email = "manager@example.com";
+        User user = new User();
+        user.setEmail(email);
 
-        when(attachmentRepository.findById(attachmentId))
-                .thenReturn(Optional.of(attachment));
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(storage.startUpload()).thenReturn("dbx-session");
+        when(uploadSessionRepository.save(any(AttachmentUploadSession.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
 
-        doNothing().when(permissionValidator)
-                .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
+        // when
+        UploadSessionDto result = attachmentService.startUpload(1L,
+                new UploadSessionRequestDto("video.mp4", 10L * 1024 * 1024),
+                email);
+
+        // then
+        assertEquals(8L * 1024 * 1024, result.chunkSize());
+        assertEquals(2, result.totalChunks());
+        assertEquals(AttachmentUploadSession.Status.OPEN, result.status());
+        assertTrue(result.receivedChunks().isEmpty());
+        verify(permissionValidator).validateAccess(email, 1L, ProjectMember.Role.MANAGER);
+    }
+
+    @Test
+    @DisplayName("""
+            uploadChunk | should append last chunk at its offset and close the Dropbox session
+            """)
+    void uploadChunk_lastChunk_closesSession() throws Exception {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+        InputStream data = InputStream.nullInputStream();
+
+        when(uploadSessionRepository.findById(5L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findReceivedChunks(5L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(1));
+
+        // when
+        UploadSessionDto result = attachmentService.uploadChunk(5L, 1, data,
+                2L * 1024 * 1024, "owner@example.com");
+
+        // then
+        assertEquals(List.of(1), result.receivedChunks());
+        verify(storage).appendChunk("dbx-session", 8L * 1024 * 1024, data,
+                2L * 1024 * 1024, true);
+        verify(uploadSessionRepository).markChunkReceived(5L, 1);
+    }
+
+    @Test
+    @DisplayName("""
+            uploadChunk | should skip Dropbox when the chunk was already received
+            """)
+    void uploadChunk_alreadyReceived_noop() {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+
+        when(uploadSessionRepository.findById(5L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findReceivedChunks(5L)).thenReturn(List.of(0));
+
+        // when
+        UploadSessionDto result = attachmentService.uploadChunk(5L, 0,
+                InputStream.nullInputStream(), 8L * 1024 * 1024, "owner@example.com");
 
-        doThrow(new FileStorageException("dropbox fail"))
-                .when(dropboxService)
-                .deleteFile(path);
+        // then
+        assertEquals(List.of(0), result.receivedChunks());
+        verifyNoInteractions(storage);
+        verify(uploadSessionRepository, never()).markChunkReceived(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("""
+            uploadChunk | should reject chunk whose length does not match its slot
+            """)
+    void uploadChunk_wrongLength_throws() {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+        when(uploadSessionRepository.findById(5L)).thenReturn(Optional.of(session));
 
         // when + then
-        assertThrows(FileStorageException.class,
-                () -> attachmentService.deleteAttachment(attachmentId, email));
+        assertThrows(InvalidRequestException.class,
+                () -> attachmentService.uploadChunk(5L, 0,
+                        InputStream.nullInputStream(), 100, "owner@example.com"));
+        verifyNoInteractions(storage);
+    }
 
-        // verify
-        verify(attachmentRepository).findById(attachmentId);
-        verify(dropboxService).deleteFile(path);
-        verify(attachmentRepository, never()).delete(any());
+    @Test
+    @DisplayName("""
+            uploadChunk | should deny access to another user's session
+            """)
+    void uploadChunk_otherUser_accessDenied() {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+        when(uploadSessionRepository.findById(5L)).thenReturn(Optional.of(session));
+
+        // when + then
+        assertThrows(AccessDeniedException.class,
+                () -> attachmentService.uploadChunk(5L, 0,
+                        InputStream.nullInputStream(), 8L * 1024 * 1024, "other@example.com"));
+    }
+
+    @Test
+    @DisplayName("""
+            commitUpload | should refuse to commit while chunks are missing
+            """)
+    void commitUpload_missingChunks_throws() {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+        when(uploadSessionRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findReceivedChunks(5L)).thenReturn(List.of(1));
+
+        // when + then
+        assertThrows(InvalidRequestException.class,
+                () -> attachmentService.commitUpload(5L, "owner@example.com"));
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            commitUpload | should refuse a session committed by a concurrent request
+            once its row lock is granted
+            """)
+    void commitUpload_committedConcurrently_throws() {
+        // given
+        AttachmentUploadSession session = uploadSession("owner@example.com");
+        session.setStatus(AttachmentUploadSession.Status.COMMITTED);
+        when(uploadSessionRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(session));
+
+        // when + then
+        assertThrows(InvalidRequestException.class,
+                () -> attachmentService.commitUpload(5L, "owner@example.com"));
+        verifyNoInteractions(storage, blobStore);
+        verify(uploadSessionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("""
+            commitUpload | should finish Dropbox session and store the attachment
+            """)
+    void commitUpload_success() throws Exception {
+        // given
+        final AttachmentUploadSession session = uploadSession("owner@example.com");
+        final StoredFile staged = new StoredFile("id:staged", "/uploads/5", 10L * 1024 * 1024,
+                CONTENT_HASH);
+        final StoredFile moved = new StoredFile("id:staged", "/blobs/" + CONTENT_HASH,
+                10L * 1024 * 1024, CONTENT_HASH);
+        Attachment saved = new Attachment();
+        saved.setId(11L);
+        saved.setTask(session.getTask());
+        saved.setUploadedBy(session.getUploadedBy());
+
+        when(uploadSessionRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findReceivedChunks(5L)).thenReturn(List.of(0, 1));
+        when(storage.finishUpload("dbx-session", 10L * 1024 * 1024,
+                "/uploads/5")).thenReturn(staged);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(storage.move("/uploads/5", "/blobs/" + CONTENT_HASH)).thenReturn(moved);
+        when(blobStore.register(CONTENT_HASH, moved)).thenReturn(createBlob());
+        when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+
+        // when
+        AttachmentResponseDto result = attachmentService.commitUpload(5L, "owner@example.com");
+
+        // then
+        assertEquals(11L, result.id());
+        assertEquals(AttachmentUploadSession.Status.COMMITTED, session.getStatus());
+        assertEquals(11L, session.getAttachmentId());
+        verify(taskRepository).adjustAttachmentCount(7L, 1);
+        verify(uploadSessionRepository).save(session);
+    }
+
+    @Test
+    @DisplayName("""
+            commitUpload | should discard staged file and reuse blob with known content
+            """)
+    void commitUpload_knownContent_reusesBlob() throws Exception {
+        // given
+        final AttachmentUploadSession session = uploadSession("owner@example.com");
+        final StoredFile staged = new StoredFile("id:staged", "/uploads/5", 10L * 1024 * 1024,
+                CONTENT_HASH);
+        Attachment saved = new Attachment();
+        saved.setId(12L);
+
+        when(uploadSessionRepository.findByIdForUpdate(5L)).thenReturn(Optional.of(session));
+        when(uploadSessionRepository.findReceivedChunks(5L)).thenReturn(List.of(0, 1));
+        when(storage.finishUpload("dbx-session", 10L * 1024 * 1024,
+                "/uploads/5")).thenReturn(staged);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.save(any(Attachment.class))).thenReturn(saved);
+
+        // when
+        AttachmentResponseDto result = attachmentService.commitUpload(5L, "owner@example.com");
+
+        // then
+        assertEquals(12L, result.id());
+        verify(storage).delete("/uploads/5");
+        verify(storage, never()).move(any(), any());
+        verify(blobStore, never()).register(any(), any());
+    }
+
+    private Attachment storedAttachment() {
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setProject(project);
+
+        Attachment attachment = new Attachment();
+        attachment.setId(1L);
+        attachment.setTask(task);
+        attachment.setContentHash(CONTENT_HASH);
+        attachment.setStatus(Attachment.Status.STORED);
+        return attachment;
+    }
+
+    private AttachmentThumbnail createThumbnail() {
+        AttachmentThumbnail thumbnail = new AttachmentThumbnail();
+        thumbnail.setContentHash(CONTENT_HASH);
+        thumbnail.setSize(AttachmentThumbnail.Size.MEDIUM);
+        thumbnail.setPath("/blobs/" + CONTENT_HASH + "-medium.jpg");
+        thumbnail.setBytes(3L);
+        return thumbnail;
+    }
+
+    private AttachmentBlob createBlob() {
+        AttachmentBlob blob = new AttachmentBlob();
+        blob.setId(3L);
+        blob.setContentHash(CONTENT_HASH);
+        blob.setDropboxFileId("id:blob");
+        blob.setPath("/blobs/" + CONTENT_HASH);
+        blob.setSize(CONTENT.length);
+        blob.setRefCount(1);
+        return blob;
+    }
+
+    private AttachmentUploadSession uploadSession(String ownerEmail) {
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(7L);
+        task.setProject(project);
+
+        User owner = new User();
+        owner.setEmail(ownerEmail);
+
+        AttachmentUploadSession session = new AttachmentUploadSession();
+        session.setId(5L);
+        session.setTask(task);
+        session.setUploadedBy(owner);
+        session.setFilename("video.mp4");
+        session.setSize(10L * 1024 * 1024);
+        session.setChunkSize(8L * 1024 * 1024);
+        session.setTotalChunks(2);
+        session.setDropboxSessionId("dbx-session");
+        session.setStatus(AttachmentUploadSession.Status.OPEN);
+        session.setExpiresAt(LocalDateTime.now().plusHours(1));
+        return session;
     }
 }
@@ -0,0 +1,235 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.ContentHasher;
+import taskmanagement.service.storage.StoredFile;
+
+abstract class AttachmentStorageContract {
+
+    private static final int BLOCK_SIZE = 4 * 1024 * 1024;
+
+    protected AttachmentStorage storage;
+    private String folder;
+
+    protected abstract AttachmentStorage createStorage() throws IOException;
+
+    @BeforeEach
+    void setUpStorage() throws IOException {
+        storage = createStorage();
+        folder = "/conformance/" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void cleanUpStorage() {
+        storage.delete(folder);
+    }
+
+    @Test
+    @DisplayName("""
+            put | verify that stored content, size and content hash round-trip through get
+            """)
+    void put_thenGet_roundTrips() throws IOException {
+        // given
+        byte[] content = randomBytes(10_000);
+
+        // when
+        StoredFile stored = put(folder + "/file.bin", content);
+
+        // then
+        assertEquals(content.length, stored.size());
+        assertEquals(hash(content), stored.contentHash());
+        assertEquals(content.length, storage.size(stored.path()));
+        assertArrayEquals(content, read(storage.get(stored.path())));
+    }
+
+    @Test
+    @DisplayName("""
+            put | verify that content not matching the declared hash is rejected
+            """)
+    void put_hashMismatch_rejected() {
+        // given
+        byte[] content = randomBytes(100);
+        String wrongHash = hash(randomBytes(101));
+
+        // when + then
+        assertThrows(FileStorageException.class, () -> storage.put(folder + "/bad.bin",
+                new ByteArrayInputStream(content),
+                content.length,
+                wrongHash));
+    }
+
+    @Test
+    @DisplayName("""
+            put | verify that storing identical content at the same path is idempotent
+            """)
+    void put_sameContentTwice_idempotent() throws IOException {
+        // given
+        byte[] content = randomBytes(1000);
+        StoredFile first = put(folder + "/same.bin", content);
+
+        // when
+        StoredFile second = put(folder + "/same.bin", content);
+
+        // then
+        assertEquals(first.path(), second.path());
+        assertEquals(first.contentHash(), second.contentHash());
+    }
+
+    @Test
+    @DisplayName("""
+            getRange | verify that a byte range is served from the middle of a file
+            """)
+    void getRange_returnsSlice() throws IOException {
+        // given
+        byte[] content = randomBytes(5000);
+        StoredFile stored = put(folder + "/range.bin", content);
+
+        // when
+        byte[] slice = read(storage.getRange(stored.path(), 1234, 100));
+
+        // then
+        assertArrayEquals(Arrays.copyOfRange(content, 1234, 1334), slice);
+    }
+
+    @Test
+    @DisplayName("""
+            delete | verify that a deleted file can no longer be read
+            """)
+    void delete_removesFile() throws IOException {
+        // given
+        StoredFile stored = put(folder + "/gone.bin", randomBytes(10));
+
+        // when
+        storage.delete(stored.path());
+
+        // then
+        assertThrows(FileStorageException.class, () -> storage.size(stored.path()));
+    }
+
+    @Test
+    @DisplayName("""
+            deleteBatch | verify that all listed files and folders are removed
+            """)
+    void deleteBatch_removesAll() throws IOException {
+        // given
+        StoredFile first = put(folder + "/a.bin", randomBytes(10));
+        StoredFile second = put(folder + "/nested/b.bin", randomBytes(10));
+
+        // when
+        Map<String, String> failures =
+                storage.deleteBatch(List.of(first.path(), folder + "/nested"));
+
+        // then
+        assertTrue(failures.isEmpty());
+        assertThrows(FileStorageException.class, () -> storage.size(first.path()));
+        assertThrows(FileStorageException.class, () -> storage.size(second.path()));
+    }
+
+    @Test
+    @DisplayName("""
+            deleteBatch | verify that deleting already missing paths is not reported as a failure
+            """)
+    void deleteBatch_missingPaths_idempotent() throws IOException {
+        // given
+        StoredFile stored = put(folder + "/a.bin", randomBytes(10));
+        storage.deleteBatch(List.of(stored.path()));
+
+        // when
+        Map<String, String> failures =
+                storage.deleteBatch(List.of(stored.path(), folder + "/never-existed.bin"));
+
+        // then
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            move | verify that a file is relocated with its content intact
+            """)
+    void move_relocatesFile() throws IOException {
+        // given
+        byte[] content = randomBytes(300);
+        StoredFile stored = put(folder + "/from.bin", content);
+
+        // when
+        StoredFile moved = storage.move(stored.path(), folder + "/to.bin");
+
+        // then
+        assertEquals(hash(content), moved.contentHash());
+        assertArrayEquals(content, read(storage.get(moved.path())));
+        assertThrows(FileStorageException.class, () -> storage.size(stored.path()));
+    }
+
+    @Test
+    @DisplayName("""
+            upload session | verify that chunks appended out of order assemble the file
+            """)
+    void uploadSession_chunksOutOfOrder_assembled() throws IOException {
+        // given
+        byte[] content = randomBytes(BLOCK_SIZE + 1000);
+        String uploadId = storage.startUpload();
+
+        // when
+        storage.appendChunk(uploadId,
+                BLOCK_SIZE,
+                new ByteArrayInputStream(content, BLOCK_SIZE, 1000),
+                1000,
+                true);
+        storage.appendChunk(uploadId,
+                0,
+                new ByteArrayInputStream(content, 0, BLOCK_SIZE),
+                BLOCK_SIZE,
+                false);
+        StoredFile stored = storage.finishUpload(uploadId,
+                content.length,
+                folder + "/chunked.bin");
+
+        // then
+        assertEquals(content.length, stored.size());
+        assertEquals(hash(content), stored.contentHash());
+        assertArrayEquals(content, read(storage.get(stored.path())));
+    }
+
+    private StoredFile put(String path, byte[] content) throws IOException {
+        return storage.put(path, new ByteArrayInputStream(content), content.length,
+                hash(content));
+    }
+
+    private byte[] read(InputStream in) throws IOException {
+        try (in) {
+            return in.readAllBytes();
+        }
+    }
+
+    private String hash(byte[] content) {
+        try {
+            return ContentHasher.hash(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,174 @@
+package taskmanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.repository.AttachmentBlobRepository;
+import taskmanagement.repository.AttachmentThumbnailRepository;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StorageDeletionQueue;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.AttachmentThumbnailWorker;
+import taskmanagement.service.thumbnail.ThumbnailGenerator;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentThumbnailWorkerTest {
+
+    private static final String CONTENT_HASH =
+            "b768b2a1016fb3ef2a703dabb9ed0c454452781318563e8a684ce324d916c98a";
+    private static final String BLOB_PATH = "/blobs/" + CONTENT_HASH;
+    private static final String SMALL_PATH = BLOB_PATH + "-small.jpg";
+
+    @Mock
+    private ThumbnailGenerator thumbnailGenerator;
+    @Mock
+    private AttachmentStorage storage;
+    @Mock
+    private AttachmentThumbnailRepository thumbnailRepository;
+    @Mock
+    private AttachmentBlobRepository blobRepository;
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    private AttachmentThumbnailWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new AttachmentThumbnailWorker(thumbnailGenerator,
+                storage,
+                thumbnailRepository,
+                blobRepository,
+                deletionQueue,
+                Runnable::run);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | generated thumbnails should be stored next to the blob and recorded
+            """)
+    void submit_image_thumbnailsStored() throws IOException {
+        // given
+        byte[] jpeg = {1, 2, 3};
+        when(thumbnailGenerator.supports("photo.png")).thenReturn(true);
+        when(thumbnailRepository.existsByContentHash(CONTENT_HASH)).thenReturn(false);
+        when(storage.get(BLOB_PATH)).thenReturn(new ByteArrayInputStream(new byte[] {0}));
+        when(thumbnailGenerator.generate(any())).thenReturn(List.of(
+                new ThumbnailGenerator.Thumbnail(AttachmentThumbnail.Size.SMALL, jpeg, 128, 64)));
+        when(storage.put(eq(SMALL_PATH), any(), eq(3L), anyString()))
+                .thenReturn(new StoredFile("id:small", SMALL_PATH, 3L, "hash"));
+        when(blobRepository.existsByContentHash(CONTENT_HASH)).thenReturn(true);
+
+        // when
+        worker.submit(CONTENT_HASH, BLOB_PATH, "photo.png");
+
+        // then
+        verify(thumbnailRepository).save(argThat(thumbnail ->
+                CONTENT_HASH.equals(thumbnail.getContentHash())
+                        && thumbnail.getSize() == AttachmentThumbnail.Size.SMALL
+                        && SMALL_PATH.equals(thumbnail.getPath())
+                        && thumbnail.getWidth() == 128
+                        && thumbnail.getHeight() == 64));
+        verify(deletionQueue).cancel(SMALL_PATH);
+        verify(deletionQueue, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("""
+            submit | non-image files should not be read from storage
+            """)
+    void submit_unsupportedFile_skipped() {
+        // given
+        when(thumbnailGenerator.supports("report.pdf")).thenReturn(false);
+
+        // when
+        worker.submit(CONTENT_HASH, BLOB_PATH, "report.pdf");
+
+        // then
+        verifyNoInteractions(storage);
+        verifyNoInteractions(thumbnailRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | blobs whose thumbnails already exist should not be decoded again
+            """)
+    void submit_alreadyGenerated_skipped() {
+        // given
+        when(thumbnailGenerator.supports("photo.png")).thenReturn(true);
+        when(thumbnailRepository.existsByContentHash(CONTENT_HASH)).thenReturn(true);
+
+        // when
+        worker.submit(CONTENT_HASH, BLOB_PATH, "photo.png");
+
+        // then
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | concurrent generation of the same blob should be tolerated
+            """)
+    void submit_concurrentGeneration_ignored() throws IOException {
+        // given
+        when(thumbnailGenerator.supports("photo.png")).thenReturn(true);
+        when(storage.get(BLOB_PATH)).thenReturn(new ByteArrayInputStream(new byte[] {0}));
+        when(thumbnailGenerator.generate(any())).thenReturn(List.of(
+                new ThumbnailGenerator.Thumbnail(AttachmentThumbnail.Size.SMALL,
+                        new byte[] {1}, 1, 1)));
+        when(storage.put(eq(SMALL_PATH), any(), anyLong(), anyString()))
+                .thenReturn(new StoredFile("id:small", SMALL_PATH, 1L, "hash"));
+        when(thumbnailRepository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when
+        worker.submit(CONTENT_HASH, BLOB_PATH, "photo.png");
+
+        // then
+        verifyNoInteractions(blobRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | thumbnails of a blob deleted meanwhile should be queued for deletion
+            """)
+    void submit_blobDeletedMeanwhile_thumbnailsRemoved() throws IOException {
+        // given
+        AttachmentThumbnail orphaned = new AttachmentThumbnail();
+        orphaned.setPath(SMALL_PATH);
+        when(thumbnailGenerator.supports("photo.png")).thenReturn(true);
+        when(storage.get(BLOB_PATH)).thenReturn(new ByteArrayInputStream(new byte[] {0}));
+        when(thumbnailGenerator.generate(any())).thenReturn(List.of(
+                new ThumbnailGenerator.Thumbnail(AttachmentThumbnail.Size.SMALL,
+                        new byte[] {1}, 1, 1)));
+        when(storage.put(eq(SMALL_PATH), any(), anyLong(), anyString()))
+                .thenReturn(new StoredFile("id:small", SMALL_PATH, 1L, "hash"));
+        when(blobRepository.existsByContentHash(CONTENT_HASH)).thenReturn(false);
+        when(thumbnailRepository.findByContentHashIn(List.of(CONTENT_HASH)))
+                .thenReturn(List.of(orphaned));
+
+        // when
+        worker.submit(CONTENT_HASH, BLOB_PATH, "photo.png");
+
+        // then
+        verify(deletionQueue).enqueue(List.of(SMALL_PATH));
+        verify(thumbnailRepository).deleteAll(List.of(orphaned));
+    }
+}
@@ -0,0 +1,288 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.model.Attachment;
+import taskmanagement.model.AttachmentBlob;
+import taskmanagement.model.Project;
+import taskmanagement.model.SyncChange;
+import taskmanagement.model.Task;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
+import taskmanagement.service.thumbnail.AttachmentThumbnailWorker;
+import taskmanagement.service.upload.AttachmentSpool;
+import taskmanagement.service.upload.AttachmentUploadWorker;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentUploadWorkerTest {
+
+    private static final byte[] CONTENT = "attachment content".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_HASH =
+            "b768b2a1016fb3ef2a703dabb9ed0c454452781318563e8a684ce324d916c98a";
+    private static final String BLOB_PATH = "/blobs/" + CONTENT_HASH;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+    @Mock
+    private AttachmentSpool attachmentSpool;
+    @Mock
+    private AttachmentStorage storage;
+    @Mock
+    private AttachmentBlobStore blobStore;
+    @Mock
+    private SyncService syncService;
+    @Mock
+    private AttachmentThumbnailWorker thumbnailWorker;
+
+    @TempDir
+    private Path spoolDir;
+
+    private AttachmentUploadWorker worker;
+    private Attachment attachment;
+    private Path spooledFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        worker = new AttachmentUploadWorker(attachmentRepository,
+                attachmentSpool,
+                storage,
+                blobStore,
+                syncService,
+                thumbnailWorker,
+                Runnable::run);
+        ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+        ReflectionTestUtils.setField(worker, "retryDelayMillis", 1L);
+
+        Project project = new Project();
+        project.setId(4L);
+        Task task = new Task();
+        task.setProject(project);
+
+        attachment = new Attachment();
+        attachment.setId(1L);
+        attachment.setTask(task);
+        attachment.setSize((long) CONTENT.length);
+        attachment.setContentHash(CONTENT_HASH);
+        attachment.setStatus(Attachment.Status.PENDING);
+
+        spooledFile = Files.write(spoolDir.resolve("1"), CONTENT);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | new content should be uploaded, registered and the row marked stored
+            """)
+    void submit_newContent_storedAndSpoolRemoved() throws IOException {
+        // given
+        StoredFile stored = new StoredFile("id:blob", BLOB_PATH, CONTENT.length, CONTENT_HASH);
+        AttachmentBlob blob = createBlob();
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(storage.put(eq(BLOB_PATH), any(), eq((long) CONTENT.length), eq(CONTENT_HASH)))
+                .thenReturn(stored);
+        when(blobStore.register(CONTENT_HASH, stored)).thenReturn(blob);
+        when(attachmentRepository.markStored(1L, "id:blob", BLOB_PATH,
+                Attachment.Status.PENDING, Attachment.Status.STORED)).thenReturn(1);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(attachmentSpool).delete(1L);
+        verify(syncService).recordUpsert(SyncChange.EntityType.ATTACHMENT, 1L, 4L);
+        verify(thumbnailWorker).submit(CONTENT_HASH, BLOB_PATH, null);
+        verify(attachmentRepository, never()).updateStatus(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            submit | row deleted while uploading should release the acquired blob reference
+            """)
+    void submit_rowDeletedMeanwhile_releasesBlob() {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.markStored(1L, "id:blob", BLOB_PATH,
+                Attachment.Status.PENDING, Attachment.Status.STORED)).thenReturn(0);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(blobStore).release(Map.of(CONTENT_HASH, 1L));
+        verifyNoInteractions(syncService);
+        verifyNoInteractions(storage);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | persistent storage failure should be retried and then marked failed
+            """)
+    void submit_storageFails_retriedThenFailed() throws IOException {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.empty());
+        when(storage.put(eq(BLOB_PATH), any(), eq((long) CONTENT.length), eq(CONTENT_HASH)))
+                .thenThrow(new FileStorageException("storage unavailable"));
+        when(attachmentRepository.updateStatus(1L,
+                Attachment.Status.PENDING, Attachment.Status.FAILED)).thenReturn(1);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(storage, times(3)).put(eq(BLOB_PATH), any(), anyLong(), eq(CONTENT_HASH));
+        verify(attachmentRepository, never()).markStored(anyLong(), any(), any(), any(), any());
+        verify(attachmentSpool).delete(1L);
+        verify(syncService).recordUpsert(SyncChange.EntityType.ATTACHMENT, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | missing spool file should mark the attachment failed without uploading
+            """)
+    void submit_spoolFileMissing_markedFailed() throws IOException {
+        // given
+        Files.delete(spooledFile);
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(attachmentRepository.updateStatus(1L,
+                Attachment.Status.PENDING, Attachment.Status.FAILED)).thenReturn(1);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verifyNoInteractions(storage);
+        verifyNoInteractions(blobStore);
+        assertFalse(Files.exists(spooledFile));
+    }
+
+    @Test
+    @DisplayName("""
+            submit | attachment no longer pending should only clean up its spool file
+            """)
+    void submit_notPending_skipped() {
+        // given
+        attachment.setStatus(Attachment.Status.STORED);
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(attachmentSpool).delete(1L);
+        verifyNoInteractions(storage);
+        verifyNoInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("""
+            recover | should drop orphaned spool files and resubmit pending attachments
+            """)
+    void recover_orphansDeletedAndPendingResubmitted() throws IOException {
+        // given
+        when(attachmentSpool.nodeId()).thenReturn("node-a");
+        when(attachmentRepository.findIdsByStatusAndSpoolNode(Attachment.Status.PENDING,
+                "node-a")).thenReturn(List.of(1L));
+        when(attachmentSpool.spooledIds()).thenReturn(List.of(1L, 9L));
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.markStored(1L, "id:blob", BLOB_PATH,
+                Attachment.Status.PENDING, Attachment.Status.STORED)).thenReturn(1);
+
+        // when
+        worker.recover();
+
+        // then
+        verify(attachmentSpool).delete(9L);
+        verify(attachmentSpool).delete(1L);
+        verify(syncService).recordUpsert(SyncChange.EntityType.ATTACHMENT, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | failure after the blob was acquired should retry without acquiring again
+            """)
+    void submit_markStoredFailsOnce_blobAcquiredOnce() {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.markStored(1L, "id:blob", BLOB_PATH,
+                Attachment.Status.PENDING, Attachment.Status.STORED))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(1);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(blobStore, times(1)).acquire(CONTENT_HASH);
+        verify(blobStore, never()).release(any());
+        verify(syncService).recordUpsert(SyncChange.EntityType.ATTACHMENT, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("""
+            submit | persistent failure after the blob was acquired should release it once
+            """)
+    void submit_markStoredKeepsFailing_blobReleased() {
+        // given
+        when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        when(attachmentSpool.path(1L)).thenReturn(spooledFile);
+        when(blobStore.acquire(CONTENT_HASH)).thenReturn(Optional.of(createBlob()));
+        when(attachmentRepository.markStored(1L, "id:blob", BLOB_PATH,
+                Attachment.Status.PENDING, Attachment.Status.STORED))
+                .thenThrow(new IllegalStateException("connection reset"));
+        when(attachmentRepository.updateStatus(1L,
+                Attachment.Status.PENDING, Attachment.Status.FAILED)).thenReturn(1);
+
+        // when
+        worker.submit(1L);
+
+        // then
+        verify(blobStore, times(1)).acquire(CONTENT_HASH);
+        verify(blobStore, times(1)).release(Map.of(CONTENT_HASH, 1L));
+    }
+
+    private AttachmentBlob createBlob() {
+        AttachmentBlob blob = new AttachmentBlob();
+        blob.setContentHash(CONTENT_HASH);
+        blob.setDropboxFileId("id:blob");
+        blob.setPath(BLOB_PATH);
+        blob.setSize((long) CONTENT.length);
+        blob.setRefCount(1);
+        return blob;
+    }
+}
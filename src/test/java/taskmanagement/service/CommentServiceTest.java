@@ -1,8 +1,10 @@
 package taskmanagement.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -13,6 +15,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,19 +23,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import taskmanagement.dto.comment.CommentRequestDto;
 import taskmanagement.dto.comment.CommentResponseDto;
+import taskmanagement.dto.comment.CommentSummaryDto;
+import taskmanagement.dto.comment.CommentThreadDto;
 import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
 import taskmanagement.mapper.CommentMapper;
 import taskmanagement.mapper.impl.CommentMapperImpl;
 import taskmanagement.model.Comment;
 import taskmanagement.model.Project;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.repository.CommentRepository;
@@ -40,6 +49,9 @@ import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.impl.CommentServiceImpl;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.markdown.MarkdownRenderer;
+import taskmanagement.service.mention.CommentMentionEvent;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentServiceTest {
@@ -56,12 +68,28 @@ public class CommentServiceTest {
     @Mock
     private PermissionValidator permissionValidator;
 
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private MarkdownCache markdownCache;
+
     @Spy
-    private CommentMapper commentMapper = new CommentMapperImpl();
+    private CommentMapper commentMapper =
+            new CommentMapperImpl(new MarkdownCache(new MarkdownRenderer()));
 
     @InjectMocks
     private CommentServiceImpl commentServiceImpl;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentServiceImpl, "excerptLength", 200);
+        ReflectionTestUtils.setField(commentServiceImpl, "maxThreadLimit", 100);
+    }
+
     @Test
     @DisplayName("""
             addComment |  verify that method save comment and return dto with valid entry
@@ -102,7 +130,8 @@ public class CommentServiceTest {
                 task.getName(),
                 saved.getUser().getUsernameField(),
                 saved.getText(),
-                saved.getTimestamp());
+                saved.getTimestamp(),
+                "<p>Test comment</p>");
 
         when(commentMapper.toDto(saved)).thenReturn(dto);
 
@@ -119,7 +148,53 @@ public class CommentServiceTest {
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.VIEWER);
         verify(commentRepository).save(any(Comment.class));
+        verify(taskRepository).adjustCommentCount(task.getId(), 1);
         verify(commentMapper).toDto(saved);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("""
+            addComment | verify that a comment with a mention publishes a mention event
+            """)
+    void addComment_withMention_publishesEvent() {
+        // given
+        User user = new User();
+        user.setId(2L);
+        user.setUsername("john_doe");
+        user.setEmail("user@example.com");
+
+        Project project = new Project();
+        project.setId(5L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        task.setName("Test task");
+
+        Comment saved = new Comment();
+        saved.setId(9L);
+        saved.setText("Ping @jane_smith");
+        saved.setUser(user);
+        saved.setTask(task);
+        saved.setTimestamp(LocalDateTime.of(2004,10,12,12,0));
+
+        CommentRequestDto request = new CommentRequestDto(1L, "Ping @jane_smith");
+
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(taskRepository.findById(request.taskId())).thenReturn(Optional.of(task));
+        when(commentRepository.save(any(Comment.class))).thenReturn(saved);
+
+        // when
+        commentServiceImpl.addComment(request, user.getEmail());
+
+        // then
+        verify(eventPublisher).publishEvent(new CommentMentionEvent(9L,
+                5L,
+                2L,
+                "john_doe",
+                "Test task",
+                "Ping @jane_smith"));
     }
 
     @Test
@@ -191,9 +266,16 @@ public class CommentServiceTest {
 
         Long commentId = 1L;
 
+        Project project = new Project();
+        project.setId(5L);
+
+        Task task = new Task();
+        task.setProject(project);
+
         Comment comment = new Comment();
         comment.setId(commentId);
         comment.setUser(user);
+        comment.setTask(task);
 
         Comment saved = new Comment();
         saved.setId(commentId);
@@ -206,7 +288,8 @@ public class CommentServiceTest {
                 user.getUsernameField(),
                 email,
                 text,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                null
         );
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
@@ -228,6 +311,8 @@ public class CommentServiceTest {
         verify(commentMapper).updateFromPatch(text, comment);
         verify(commentRepository).save(comment);
         verify(commentMapper).toDto(saved);
+        verify(syncService).recordUpsert(SyncChange.EntityType.COMMENT, commentId, 5L);
+        verify(markdownCache).evictComment(commentId);
     }
 
     @Test
@@ -352,13 +437,15 @@ public class CommentServiceTest {
                 comment1.getTask().getName(),
                 comment1.getUser().getUsername(),
                 comment1.getText(),
-                LocalDateTime.of(2020, 1, 1, 3, 0));
+                LocalDateTime.of(2020, 1, 1, 3, 0),
+                null);
         CommentResponseDto dto2 = new CommentResponseDto(
                 comment2.getId(),
                 comment2.getTask().getName(),
                 comment2.getUser().getUsername(),
                 comment2.getText(),
-                LocalDateTime.of(2020, 1, 1, 6, 0));
+                LocalDateTime.of(2020, 1, 1, 6, 0),
+                null);
 
         Pageable pageable = PageRequest.of(0, 10);
         when(taskRepository.findById(taskId)).thenReturn(Optional.of(task));
@@ -416,6 +503,13 @@ public class CommentServiceTest {
             """)
     void deleteComment_ownerSuccess() {
         // given
+        Project project = new Project();
+        project.setId(5L);
+
+        Task task = new Task();
+        task.setId(3L);
+        task.setProject(project);
+
         Long commentId = 1L;
         String email = "owner@example.com";
 
@@ -426,6 +520,7 @@ public class CommentServiceTest {
         Comment comment = new Comment();
         comment.setId(commentId);
         comment.setUser(owner);
+        comment.setTask(task);
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(owner));
         when(commentRepository.findById(commentId)).thenReturn(Optional.of(comment));
@@ -437,6 +532,9 @@ public class CommentServiceTest {
         verify(userRepository).findByEmail(email);
         verify(commentRepository).findById(commentId);
         verify(commentRepository).delete(comment);
+        verify(taskRepository).adjustCommentCount(3L, -1);
+        verify(markdownCache).evictComment(commentId);
+        verify(syncService).recordDelete(SyncChange.EntityType.COMMENT, commentId, 5L);
     }
 
     @Test
@@ -520,4 +618,109 @@ public class CommentServiceTest {
         verify(commentRepository).findById(commentId);
         verify(commentRepository, never()).delete(any());
     }
+
+    @Test
+    @DisplayName("""
+            getCommentThread | verify that one extra row is fetched to detect next page
+            and cursor points at last returned comment
+            """)
+    void getCommentThread_morePages_returnsCursor() {
+        // given
+        Project project = new Project();
+        project.setId(5L);
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        LocalDateTime time = LocalDateTime.of(2025, 1, 2, 9, 45);
+        List<CommentSummaryDto> rows = List.of(
+                new CommentSummaryDto(1L, "anna", "first", false, time),
+                new CommentSummaryDto(2L, "bob", "second", true, time),
+                new CommentSummaryDto(3L, "anna", "third", false, time));
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(commentRepository.findThreadStart(1L, 200, PageRequest.of(0, 3)))
+                .thenReturn(rows);
+
+        // when
+        CommentThreadDto actual = commentServiceImpl.getCommentThread(1L, null, null, 2,
+                "user@example.com");
+
+        // then
+        assertEquals(2, actual.comments().size());
+        assertTrue(actual.hasMore());
+        assertEquals(2L, actual.nextId());
+        assertEquals(time, actual.nextTimestamp());
+        verify(permissionValidator).validateAccess("user@example.com", 5L,
+                ProjectMember.Role.VIEWER);
+    }
+
+    @Test
+    @DisplayName("""
+            getCommentThread | verify that cursor continues after given comment on last page
+            """)
+    void getCommentThread_lastPage_noMore() {
+        // given
+        Project project = new Project();
+        project.setId(5L);
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+        LocalDateTime time = LocalDateTime.of(2025, 1, 2, 9, 45);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(commentRepository.findThreadAfter(1L, time, 2L, 200, PageRequest.of(0, 51)))
+                .thenReturn(List.of());
+
+        // when
+        CommentThreadDto actual = commentServiceImpl.getCommentThread(1L, time, 2L, 50,
+                "user@example.com");
+
+        // then
+        assertTrue(actual.comments().isEmpty());
+        assertFalse(actual.hasMore());
+        assertEquals(2L, actual.nextId());
+        assertEquals(time, actual.nextTimestamp());
+    }
+
+    @Test
+    @DisplayName("""
+            getCommentThread | verify that half of a cursor is rejected
+            """)
+    void getCommentThread_partialCursor_throwsException() {
+        // when + then
+        assertThrows(InvalidRequestException.class, () ->
+                commentServiceImpl.getCommentThread(1L, null, 2L, 50, "user@example.com"));
+        verifyNoInteractions(taskRepository, commentRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            getComment | verify that single comment is returned with full text
+            """)
+    void getComment_success() {
+        // given
+        Project project = new Project();
+        project.setId(5L);
+        Task task = new Task();
+        task.setName("Test task");
+        task.setProject(project);
+        User author = new User();
+        author.setEmail("author@example.com");
+        Comment comment = new Comment();
+        comment.setId(1L);
+        comment.setTask(task);
+        comment.setUser(author);
+        comment.setText("Full comment text");
+
+        when(commentRepository.findByIdWithRelations(1L)).thenReturn(Optional.of(comment));
+
+        // when
+        CommentResponseDto actual = commentServiceImpl.getComment(1L, "user@example.com");
+
+        // then
+        assertEquals("Full comment text", actual.text());
+        assertEquals("Test task", actual.taskName());
+        verify(permissionValidator).validateAccess("user@example.com", 5L,
+                ProjectMember.Role.VIEWER);
+    }
 }
@@ -0,0 +1,19 @@
+package taskmanagement.service;
+
+import com.dropbox.core.DbxRequestConfig;
+import com.dropbox.core.v2.DbxClientV2;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.service.storage.AttachmentStorage;
+
+@EnabledIfEnvironmentVariable(named = "DROPBOX_TEST_ACCESS_TOKEN", matches = ".+")
+public class DropboxAttachmentStorageTest extends AttachmentStorageContract {
+
+    @Override
+    protected AttachmentStorage createStorage() {
+        DbxRequestConfig config = DbxRequestConfig
+                .newBuilder("task-management-app-Kar-Gaj").build();
+        DbxClientV2 client = new DbxClientV2(config, System.getenv("DROPBOX_TEST_ACCESS_TOKEN"));
+        return new DropboxService(client, client);
+    }
+}
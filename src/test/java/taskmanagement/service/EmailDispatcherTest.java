@@ -0,0 +1,118 @@
+package taskmanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.EmailOutboxMessage;
+import taskmanagement.service.mail.EmailDispatcher;
+import taskmanagement.service.mail.EmailOutbox;
+import taskmanagement.service.mail.SmtpTransportPool;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDispatcherTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+    @Mock
+    private EmailOutbox outbox;
+    @Mock
+    private SmtpTransportPool transportPool;
+    @Mock
+    private SmtpTransportPool.Connection first;
+    @Mock
+    private SmtpTransportPool.Connection second;
+
+    private EmailDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        dispatcher = new EmailDispatcher(mailSender, outbox, transportPool, Runnable::run);
+        ReflectionTestUtils.setField(dispatcher, "fromEmail", "noreply@test.com");
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 3);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation ->
+                new MimeMessage(Session.getInstance(new Properties())));
+        when(transportPool.size()).thenReturn(2);
+        when(transportPool.acquire()).thenReturn(first, second);
+    }
+
+    @Test
+    @DisplayName("""
+            dispatch | claimed batch should be spread over pooled connections and marked sent
+            """)
+    void dispatch_pendingMessages_sentOverPooledConnections() throws MessagingException {
+        // given
+        when(outbox.claim(3)).thenReturn(List.of(message(1L), message(2L), message(3L)),
+                List.of());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(first, times(2)).send(any(MimeMessage.class));
+        verify(second).send(any(MimeMessage.class));
+        verify(outbox).markSent(1L);
+        verify(outbox).markSent(2L);
+        verify(outbox).markSent(3L);
+        verify(transportPool).release(first);
+        verify(transportPool).release(second);
+    }
+
+    @Test
+    @DisplayName("""
+            dispatch | SMTP failure should reschedule only the failed message
+            """)
+    void dispatch_smtpFailure_markedFailed() throws MessagingException {
+        // given
+        doThrow(new MessagingException("connection refused")).when(first)
+                .send(argThat(message -> recipient(message).equals("user1@example.com")));
+        when(outbox.claim(3)).thenReturn(List.of(message(1L), message(2L), message(3L)),
+                List.of());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(outbox).markFailed(1L, "connection refused");
+        verify(outbox, never()).markSent(1L);
+        verify(outbox).markSent(2L);
+        verify(outbox).markSent(3L);
+        verify(outbox, never()).markFailed(eq(3L), any());
+    }
+
+    private EmailOutboxMessage message(Long id) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(id);
+        message.setRecipient("user" + id + "@example.com");
+        message.setSubject("Subject " + id);
+        message.setBody("<p>Body</p>");
+        message.setStatus(EmailOutboxMessage.Status.PENDING);
+        return message;
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
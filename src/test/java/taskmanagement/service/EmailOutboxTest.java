@@ -0,0 +1,105 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.EmailOutboxMessage;
+import taskmanagement.repository.EmailOutboxRepository;
+import taskmanagement.service.mail.EmailOutbox;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxTest {
+
+    @Mock
+    private EmailOutboxRepository outboxRepository;
+
+    @InjectMocks
+    private EmailOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(outbox, "leaseMillis", 300_000L);
+        ReflectionTestUtils.setField(outbox, "retryDelayMillis", 60_000L);
+        ReflectionTestUtils.setField(outbox, "maxRetryDelayMillis", 3_600_000L);
+        ReflectionTestUtils.setField(outbox, "maxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("""
+            claim | claimed messages should be leased so other nodes skip them until it expires
+            """)
+    void claim_dueMessages_leased() {
+        // given
+        final LocalDateTime before = LocalDateTime.now();
+        EmailOutboxMessage message = message(0);
+        when(outboxRepository.findDueForUpdate(any(), eq(10))).thenReturn(List.of(message));
+
+        // when
+        List<EmailOutboxMessage> claimed = outbox.claim(10);
+
+        // then
+        assertEquals(List.of(message), claimed);
+        assertEquals(1, message.getAttempts());
+        assertTrue(!message.getNextAttemptAt().isBefore(before.plusMinutes(5)));
+    }
+
+    @Test
+    @DisplayName("""
+            markFailed | failed message should be retried later with exponential backoff
+            """)
+    void markFailed_attemptsLeft_rescheduled() {
+        // given
+        final LocalDateTime before = LocalDateTime.now();
+        EmailOutboxMessage message = message(2);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        // when
+        outbox.markFailed(1L, "connection refused");
+
+        // then
+        assertEquals(EmailOutboxMessage.Status.PENDING, message.getStatus());
+        assertEquals("connection refused", message.getLastError());
+        assertTrue(!message.getNextAttemptAt().isBefore(before.plusMinutes(2)));
+        assertTrue(message.getNextAttemptAt().isBefore(before.plusMinutes(3)));
+    }
+
+    @Test
+    @DisplayName("""
+            markFailed | message out of attempts should be marked failed permanently
+            """)
+    void markFailed_attemptsExhausted_failed() {
+        // given
+        EmailOutboxMessage message = message(3);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(message));
+
+        // when
+        outbox.markFailed(1L, "mailbox unavailable");
+
+        // then
+        assertEquals(EmailOutboxMessage.Status.FAILED, message.getStatus());
+    }
+
+    private EmailOutboxMessage message(int attempts) {
+        EmailOutboxMessage message = new EmailOutboxMessage();
+        message.setId(1L);
+        message.setRecipient("user@example.com");
+        message.setStatus(EmailOutboxMessage.Status.PENDING);
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(LocalDateTime.now());
+        return message;
+    }
+}
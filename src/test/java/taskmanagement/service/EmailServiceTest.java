@@ -1,15 +1,12 @@
 package taskmanagement.service;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doReturn;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
-import jakarta.mail.internet.MimeMessage;
 import java.nio.file.Files;
 import java.time.LocalDate;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,33 +14,32 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.test.util.ReflectionTestUtils;
 import taskmanagement.model.Project;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.service.impl.EmailServiceImpl;
+import taskmanagement.service.mail.EmailOutbox;
+import taskmanagement.service.mail.EmailTemplates;
+import taskmanagement.service.mention.Mention;
 
 @ExtendWith(MockitoExtension.class)
 public class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutbox outbox;
 
     @Mock
     private Files files;
 
+    @Spy
+    private EmailTemplates emailTemplates = new EmailTemplates();
+
     @Spy
     @InjectMocks
     private EmailServiceImpl emailServiceImpl;
 
-    @BeforeEach
-    void setup() {
-        ReflectionTestUtils.setField(emailServiceImpl, "fromEmail", "noreply@test.com");
-    }
-
     @Test
-    @DisplayName("sendTaskReminder | should load template, fill it and send email")
+    @DisplayName("sendTaskReminder | should render template and queue email")
     void sendTaskReminder_success() {
         // given
         User user = new User();
@@ -54,19 +50,16 @@ public class EmailServiceTest {
         task.setName("Task X");
         task.setDueDate(LocalDate.of(2025, 1, 10));
 
-        doReturn(mock(MimeMessage.class))
-                .when(mailSender).createMimeMessage();
-        doNothing().when(mailSender).send(any(MimeMessage.class));
-
         // when
         emailServiceImpl.sendTaskReminder(user, task);
 
         // then
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(outbox).enqueue(eq("test@example.com"), eq("Task Reminder: Task X"),
+                argThat(body -> body.contains("Task X") && body.contains("2025-01-10")));
     }
 
     @DisplayName("""
-            sendPasswordChangeVerification | should load template, fill values and send email
+            sendPasswordChangeVerification | should render template and queue email
             """)
     @Test
     void sendPasswordChangeVerification_success() throws Exception {
@@ -77,19 +70,16 @@ public class EmailServiceTest {
 
         String code = "123456";
 
-        doReturn(mock(MimeMessage.class))
-                .when(mailSender).createMimeMessage();
-        doNothing().when(mailSender).send(any(MimeMessage.class));
-
         // when
         emailServiceImpl.sendPasswordChangeVerification(user, code);
 
         // then
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(outbox).enqueue(eq("john@example.com"), eq("Password Change Verification Code"),
+                argThat(body -> body.contains("123456")));
     }
 
     @DisplayName("""
-            sendEmailChangeVerification | should load template, fill values and send email
+            sendEmailChangeVerification | should render template and queue email
             """)
     @Test
     void sendEmailChangeVerification_success() throws Exception {
@@ -101,19 +91,16 @@ public class EmailServiceTest {
         String newEmail = "new@example.com";
         String code = "ABC123";
 
-        doReturn(mock(MimeMessage.class))
-                .when(mailSender).createMimeMessage();
-        doNothing().when(mailSender).send(any(MimeMessage.class));
-
         // when
         emailServiceImpl.sendEmailChangeVerification(user, newEmail, code);
 
         // then
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(outbox).enqueue(eq("old@example.com"), eq("Email Change Verification Code"),
+                argThat(body -> body.contains("ABC123") && body.contains("new@example.com")));
     }
 
     @DisplayName("""
-            sendNewTaskAssigned | should load template, fill values and send email
+            sendNewTaskAssigned | should render template and queue email
             """)
     @Test
     void sendNewTaskAssigned_success() throws Exception {
@@ -130,13 +117,29 @@ public class EmailServiceTest {
         task.setDueDate(LocalDate.of(2025, 1, 20));
         task.setProject(project);
 
-        doReturn(mock(MimeMessage.class))
-                .when(mailSender).createMimeMessage();
-
         // when
         emailServiceImpl.sendNewTaskAssigned(user, task);
 
         // then
-        verify(mailSender).send(any(MimeMessage.class));
+        verify(outbox).enqueue(eq("john@example.com"), eq("New Task Assigned: Task Test"),
+                argThat(body -> body.contains("Project X")));
+    }
+
+    @Test
+    @DisplayName("sendMentionNotification | should render mention digest and queue email")
+    void sendMentionNotification_success() {
+        // given
+        User user = new User();
+        user.setEmail("jane@example.com");
+
+        // when
+        emailServiceImpl.sendMentionNotification(user,
+                List.of(new Mention("john_doe", "Task X", "<b>@jane</b> please check")),
+                2);
+
+        // then
+        verify(outbox).enqueue(eq("jane@example.com"), eq("You were mentioned in comments"),
+                argThat(body -> body.contains("&lt;b&gt;@jane&lt;/b&gt;")
+                        && body.contains("and 2 more")));
     }
 }
@@ -0,0 +1,85 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import taskmanagement.exceptions.TemplatesLoadException;
+import taskmanagement.service.mail.EmailTemplate;
+import taskmanagement.service.mail.EmailTemplates;
+
+class EmailTemplateTest {
+
+    @Test
+    @DisplayName("""
+            render | placeholders should be replaced in a single pass
+            """)
+    void render_placeholders_replaced() {
+        // given
+        EmailTemplate template = EmailTemplate.compile("test.html",
+                "<p>${greeting}, ${name}!</p>${name}", Set.of("greeting", "name"));
+
+        // when
+        String content = template.render(Map.of("greeting", "Hello", "name", "${greeting}"));
+
+        // then
+        assertEquals("<p>Hello, ${greeting}!</p>${greeting}", content);
+    }
+
+    @Test
+    @DisplayName("""
+            compile | placeholder that is not declared should fail when the template is loaded
+            """)
+    void compile_unknownPlaceholder_fails() {
+        // when + then
+        TemplatesLoadException exception = assertThrows(TemplatesLoadException.class,
+                () -> EmailTemplate.compile("test.html", "${username} ${usrename}",
+                        Set.of("username")));
+        assertEquals("Template test.html uses unknown placeholder ${usrename}",
+                exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("""
+            render | missing value should be rejected instead of leaking the placeholder
+            """)
+    void render_missingValue_fails() {
+        // given
+        EmailTemplate template = EmailTemplate.compile("test.html", "Hi ${username}",
+                Set.of("username"));
+
+        // when + then
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+    }
+
+    @Test
+    @DisplayName("""
+            get | every shipped template should be loaded from the classpath and fully rendered
+            """)
+    void get_shippedTemplates_rendered() {
+        // given
+        EmailTemplates templates = new EmailTemplates();
+
+        // when
+        String content = templates.get("task_assigned.html").render(taskAssignedValues());
+
+        // then
+        assertTrue(content.contains("Task X") && content.contains("Project Y"));
+        assertFalse(content.contains("${"));
+        assertThrows(TemplatesLoadException.class, () -> templates.get("missing.html"));
+    }
+
+    private Map<String, String> taskAssignedValues() {
+        return Map.of(
+                "username", "John",
+                "taskName", "Task X",
+                "projectName", "Project Y",
+                "dueDate", "2025-01-10"
+        );
+    }
+}
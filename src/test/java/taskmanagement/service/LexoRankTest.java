@@ -0,0 +1,72 @@
+package taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import taskmanagement.exceptions.RankExhaustedException;
+import taskmanagement.service.rank.LexoRank;
+
+public class LexoRankTest {
+
+    private final LexoRank lexoRank = new LexoRank();
+
+    @Test
+    @DisplayName("""
+            between | verify that generated rank sorts strictly between neighbours
+            """)
+    void between_neighbours_success() {
+        // when
+        String first = lexoRank.between(null, null);
+        String before = lexoRank.between(null, first);
+        String after = lexoRank.between(first, null);
+        String middle = lexoRank.between(before, first);
+
+        // then
+        assertThat(before).isLessThan(first);
+        assertThat(after).isGreaterThan(first);
+        assertThat(middle).isGreaterThan(before).isLessThan(first);
+    }
+
+    @Test
+    @DisplayName("""
+            between | verify that repeated inserts into the same gap keep ordering
+            """)
+    void between_repeatedInserts_keepsOrder() {
+        // given
+        String low = "000001i";
+        String high = "000002i";
+
+        // when + then
+        for (int i = 0; i < 200; i++) {
+            String rank = lexoRank.between(low, high);
+            assertThat(rank).isGreaterThan(low).isLessThan(high).doesNotEndWith("0");
+            high = rank;
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            between | verify that method throw RankExhaustedException for reversed neighbours
+            """)
+    void between_reversedNeighbours_exception() {
+        assertThatThrownBy(() -> lexoRank.between("b", "a"))
+                .isInstanceOf(RankExhaustedException.class);
+    }
+
+    @Test
+    @DisplayName("""
+            spread | verify that rebalanced ranks are short, distinct and ordered
+            """)
+    void spread_ranksOrdered_success() {
+        // when
+        String[] ranks = lexoRank.spread(5000);
+
+        // then
+        for (int i = 1; i < ranks.length; i++) {
+            assertThat(ranks[i]).isGreaterThan(ranks[i - 1]);
+            assertThat(ranks[i].length()).isLessThanOrEqualTo(3);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package taskmanagement.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.LocalAttachmentStorage;
+
+public class LocalAttachmentStorageTest extends AttachmentStorageContract {
+
+    @TempDir
+    private Path root;
+
+    @Override
+    protected AttachmentStorage createStorage() throws IOException {
+        LocalAttachmentStorage local = new LocalAttachmentStorage();
+        ReflectionTestUtils.setField(local, "directory", root.toString());
+        local.init();
+        return local;
+    }
+}
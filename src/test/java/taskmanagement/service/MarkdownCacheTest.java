@@ -0,0 +1,152 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.Comment;
+import taskmanagement.model.Task;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.markdown.MarkdownRenderer;
+
+@ExtendWith(MockitoExtension.class)
+public class MarkdownCacheTest {
+
+    @Spy
+    private MarkdownRenderer markdownRenderer;
+
+    @InjectMocks
+    private MarkdownCache markdownCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(markdownCache, "maxBytes", 5_000L);
+    }
+
+    @Test
+    @DisplayName("""
+            render | verify that markdown is rendered to escaped html
+            """)
+    void render_escapesAndFormats() {
+        // when
+        String html = markdownRenderer.render("""
+                # Plan
+                **Bold** and *italic* with `<code>`
+                <script>alert(1)</script>
+
+                - [docs](https://example.com/a?b=1&c=2)
+                - [bad](javascript:alert(1))
+                ```
+                if (a < b) {}
+                ```""");
+
+        // then
+        assertEquals("<h1>Plan</h1>"
+                + "<p><strong>Bold</strong> and <em>italic</em> with <code>&lt;code&gt;</code>"
+                + "<br>&lt;script&gt;alert(1)&lt;/script&gt;</p>"
+                + "<ul><li><a href=\"https://example.com/a?b=1&amp;c=2\" "
+                + "rel=\"nofollow noopener\">docs</a></li>"
+                + "<li>[bad](javascript:alert(1))</li></ul>"
+                + "<pre><code>if (a &lt; b) {}\n</code></pre>", html);
+    }
+
+    @Test
+    @DisplayName("""
+            render | verify that a cache hit skips rendering until the text changes,
+            even when the edit keeps the same updatedAt
+            """)
+    void render_cachesByIdAndContent() {
+        // given
+        Comment comment = new Comment();
+        comment.setId(1L);
+        comment.setText("**hi**");
+        comment.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        // when
+        markdownCache.render(comment);
+        markdownCache.render(comment);
+        comment.setText("*edited*");
+        String edited = markdownCache.render(comment);
+
+        // then
+        assertEquals("<p><em>edited</em></p>", edited);
+        verify(markdownRenderer, times(2)).render(anyString());
+    }
+
+    @Test
+    @DisplayName("""
+            evictTask | verify that an evicted task is rendered again on next read
+            """)
+    void evictTask_rendersAgain() {
+        // given
+        Task task = new Task();
+        task.setId(7L);
+        task.setDescription("text");
+
+        // when
+        markdownCache.render(task);
+        markdownCache.evictTask(7L);
+        markdownCache.render(task);
+
+        // then
+        verify(markdownRenderer, times(2)).render("text");
+    }
+
+    @Test
+    @DisplayName("""
+            render | verify that the least recently used entry is dropped over the byte budget
+            """)
+    void render_boundedLru() {
+        // given
+        Task first = task(1L);
+        Task second = task(2L);
+        Task third = task(3L);
+
+        // when
+        markdownCache.render(first);
+        markdownCache.render(second);
+        markdownCache.render(first);
+        markdownCache.render(third);
+        markdownCache.render(first);
+        markdownCache.render(second);
+
+        // then
+        verify(markdownRenderer, times(1)).render(first.getDescription());
+        verify(markdownRenderer, times(2)).render(second.getDescription());
+    }
+
+    @Test
+    @DisplayName("""
+            render | verify that html larger than the byte budget is not cached
+            """)
+    void render_oversizedEntry_notCached() {
+        // given
+        Task task = new Task();
+        task.setId(9L);
+        task.setDescription("x".repeat(3_000));
+
+        // when
+        markdownCache.render(task);
+        markdownCache.render(task);
+
+        // then
+        verify(markdownRenderer, times(2)).render(task.getDescription());
+    }
+
+    private Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setDescription("task " + id + " " + "x".repeat(1_000));
+        return task;
+    }
+}
@@ -0,0 +1,133 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.User;
+import taskmanagement.repository.ProjectMemberRepository;
+import taskmanagement.service.mention.CommentMentionEvent;
+import taskmanagement.service.mention.Mention;
+import taskmanagement.service.mention.MentionNotifier;
+import taskmanagement.service.mention.MentionParser;
+import taskmanagement.service.mention.MentionQueue;
+
+@ExtendWith(MockitoExtension.class)
+public class MentionNotifierTest {
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private MentionQueue mentionQueue;
+
+    @InjectMocks
+    private MentionNotifier mentionNotifier;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mentionNotifier, "maxMentions", 20);
+        ReflectionTestUtils.setField(mentionNotifier, "maxPerFlush", 50);
+        ReflectionTestUtils.setField(mentionNotifier, "excerptLength", 200);
+    }
+
+    @Test
+    @DisplayName("""
+            parse | verify that mentions are extracted, deduplicated and emails ignored
+            """)
+    void parse_extractsUsernames() {
+        // when
+        Set<String> result = MentionParser.parse(
+                "Hi @John_Doe, ping @jane.smith. and @john_doe; mail me at a@b.com", 20);
+
+        // then
+        assertEquals(Set.of("john_doe", "jane.smith"), result);
+    }
+
+    @Test
+    @DisplayName("""
+            onCommentMention | verify that mentioned members are queued for the digest
+            """)
+    void onCommentMention_queuesRecipients() {
+        // given
+        User jane = user(3L, "jane_smith");
+        when(projectMemberRepository.findMemberUsersByUsernames(1L, Set.of("jane_smith")))
+                .thenReturn(List.of(jane));
+
+        // when
+        mentionNotifier.onCommentMention(new CommentMentionEvent(1L, 1L, 2L,
+                "john_doe", "Task", "@jane_smith have a look"));
+
+        // then
+        verify(mentionQueue).enqueue(List.of(jane),
+                new Mention("john_doe", "Task", "@jane_smith have a look"));
+    }
+
+    @Test
+    @DisplayName("""
+            onCommentMention | verify that the author is never notified about own mention
+            """)
+    void onCommentMention_skipsAuthor() {
+        // given
+        User john = user(2L, "john_doe");
+        when(projectMemberRepository.findMemberUsersByUsernames(1L, Set.of("john_doe")))
+                .thenReturn(List.of(john));
+
+        // when
+        mentionNotifier.onCommentMention(new CommentMentionEvent(1L, 1L, 2L,
+                "john_doe", "Task", "note to self @john_doe"));
+
+        // then
+        verifyNoInteractions(mentionQueue);
+    }
+
+    @Test
+    @DisplayName("""
+            onCommentMention | verify that text without mentions does not query members
+            """)
+    void onCommentMention_noMentions() {
+        // when
+        mentionNotifier.onCommentMention(new CommentMentionEvent(1L, 1L, 2L,
+                "john_doe", "Task", "contact a@b.com"));
+
+        // then
+        verifyNoInteractions(projectMemberRepository, mentionQueue);
+    }
+
+    @Test
+    @DisplayName("""
+            flush | verify that a failing digest does not stop the remaining recipients
+            """)
+    void flush_digestFails_continues() {
+        // given
+        when(mentionQueue.findDueRecipients(50)).thenReturn(List.of(3L, 4L));
+        when(mentionQueue.sendDigest(3L)).thenThrow(new IllegalStateException("boom"));
+        when(mentionQueue.sendDigest(4L)).thenReturn(true);
+
+        // when
+        mentionNotifier.flush();
+
+        // then
+        verify(mentionQueue).sendDigest(3L);
+        verify(mentionQueue).sendDigest(4L);
+    }
+
+    private User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        return user;
+    }
+}
@@ -0,0 +1,152 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.PendingMention;
+import taskmanagement.model.User;
+import taskmanagement.repository.PendingMentionRepository;
+import taskmanagement.repository.UserRepository;
+import taskmanagement.service.mention.Mention;
+import taskmanagement.service.mention.MentionQueue;
+
+@ExtendWith(MockitoExtension.class)
+public class MentionQueueTest {
+
+    @Mock
+    private PendingMentionRepository mentionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private MentionQueue mentionQueue;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(mentionQueue, "maxPerDigest", 2);
+        ReflectionTestUtils.setField(mentionQueue, "minIntervalMillis", 300_000L);
+    }
+
+    @Test
+    @DisplayName("""
+            enqueue | verify that one pending row is stored per recipient
+            """)
+    void enqueue_storesRowPerRecipient() {
+        // when
+        mentionQueue.enqueue(List.of(user(3L), user(4L)),
+                new Mention("john_doe", "Task", "@jane_smith"));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PendingMention>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mentionRepository).saveAll(captor.capture());
+        assertEquals(List.of(3L, 4L), captor.getValue().stream()
+                .map(PendingMention::getRecipientId)
+                .toList());
+        assertEquals("john_doe", captor.getValue().get(0).getAuthorName());
+    }
+
+    @Test
+    @DisplayName("""
+            sendDigest | verify that pending mentions are coalesced into one email
+            and removed
+            """)
+    void sendDigest_coalescesMentions() {
+        // given
+        User jane = user(3L);
+        List<PendingMention> pending = List.of(pending(1L), pending(2L), pending(3L));
+        when(mentionRepository.findByRecipientIdOrderById(3L)).thenReturn(pending);
+        when(mentionRepository.claimDigest(eq(3L), any(), any())).thenReturn(1);
+        when(userRepository.findById(3L)).thenReturn(Optional.of(jane));
+
+        // when
+        boolean sent = mentionQueue.sendDigest(3L);
+
+        // then
+        assertTrue(sent);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Mention>> captor = ArgumentCaptor.forClass(List.class);
+        verify(emailService).sendMentionNotification(eq(jane), captor.capture(), eq(1));
+        assertEquals(2, captor.getValue().size());
+        verify(mentionRepository).insertDigestIfAbsent(3L);
+        verify(mentionRepository).deleteAllInBatch(pending);
+    }
+
+    @Test
+    @DisplayName("""
+            sendDigest | verify that a recipient emailed within the minimum interval,
+            possibly by another node, keeps the mentions queued
+            """)
+    void sendDigest_rateLimited_keepsMentions() {
+        // given
+        when(mentionRepository.findByRecipientIdOrderById(3L))
+                .thenReturn(List.of(pending(1L)));
+        when(mentionRepository.claimDigest(eq(3L), any(), any())).thenReturn(0);
+
+        // when
+        boolean sent = mentionQueue.sendDigest(3L);
+
+        // then
+        assertFalse(sent);
+        verify(emailService, never()).sendMentionNotification(any(), anyList(), anyInt());
+        verify(mentionRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    @DisplayName("""
+            sendDigest | verify that a recipient without pending mentions is not claimed
+            """)
+    void sendDigest_nothingPending_notClaimed() {
+        // given
+        when(mentionRepository.findByRecipientIdOrderById(3L)).thenReturn(List.of());
+
+        // when
+        boolean sent = mentionQueue.sendDigest(3L);
+
+        // then
+        assertFalse(sent);
+        verify(mentionRepository, never()).claimDigest(anyLong(), any(), any());
+    }
+
+    private PendingMention pending(Long id) {
+        PendingMention mention = new PendingMention();
+        mention.setId(id);
+        mention.setRecipientId(3L);
+        mention.setAuthorName("john_doe");
+        mention.setTaskName("Task");
+        mention.setExcerpt("@jane_smith comment " + id);
+        return mention;
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+}
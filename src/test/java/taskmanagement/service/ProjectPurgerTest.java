@@ -0,0 +1,228 @@
+package taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.ProjectDeletionJob;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.CommentRepository;
+import taskmanagement.repository.ProjectDeletionJobRepository;
+import taskmanagement.repository.ProjectMemberRepository;
+import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
+import taskmanagement.repository.TaskRepository;
+import taskmanagement.service.project.ProjectPurger;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.StorageDeletionQueue;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectPurgerTest {
+
+    @Mock
+    private ProjectDeletionJobRepository jobRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private ProjectSnapshotRepository projectSnapshotRepository;
+
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    @Mock
+    private AttachmentBlobStore blobStore;
+
+    @InjectMocks
+    private ProjectPurger projectPurger;
+
+    @Test
+    @DisplayName("""
+            purgeTaskBatch | verify that dependents of one batch are deleted
+            legacy dropbox folders queued for deletion and blob references released
+            """)
+    void purgeTaskBatch_tasksLeft_deletesBatch() {
+        // given
+        ProjectDeletionJob job = createJob();
+        List<Long> taskIds = List.of(10L, 11L, 12L);
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(taskRepository.findIdsByProjectId(5L, 3)).thenReturn(taskIds);
+        when(attachmentRepository.findTaskIdsWithLegacyAttachments(taskIds))
+                .thenReturn(List.of(10L, 12L));
+        when(attachmentRepository.findContentHashesByTaskIdsForUpdate(taskIds))
+                .thenReturn(List.of("hash-a", "hash-b", "hash-a"));
+        when(attachmentRepository.deleteByTaskIds(taskIds)).thenReturn(4);
+        when(taskRepository.deleteByIds(taskIds)).thenReturn(3);
+
+        // when
+        int actual = projectPurger.purgeTaskBatch(1L, 3);
+
+        // then
+        assertThat(actual).isEqualTo(3);
+        assertThat(job.getStatus()).isEqualTo(ProjectDeletionJob.Status.IN_PROGRESS);
+        assertThat(job.getTasksDeleted()).isEqualTo(3);
+        assertThat(job.getFilesDeleted()).isEqualTo(4);
+        verify(deletionQueue).enqueue(List.of("/tasks/10", "/tasks/12"));
+        verify(blobStore).release(Map.of("hash-a", 2L, "hash-b", 1L));
+        verify(taskRepository).deleteLabelLinksByTaskIds(taskIds);
+        verify(commentRepository).deleteByTaskIds(taskIds);
+    }
+
+    @Test
+    @DisplayName("""
+            purgeTaskBatch | verify that nothing is deleted when project has no tasks left
+            """)
+    void purgeTaskBatch_noTasksLeft_returnsZero() {
+        // given
+        ProjectDeletionJob job = createJob();
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        when(taskRepository.findIdsByProjectId(5L, 3)).thenReturn(List.of());
+
+        // when
+        int actual = projectPurger.purgeTaskBatch(1L, 3);
+
+        // then
+        assertThat(actual).isZero();
+        verify(deletionQueue, never()).enqueue(any());
+        verify(blobStore, never()).release(any());
+        verify(taskRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    @DisplayName("""
+            purgeSnapshotBatch | verify that one batch of burndown snapshots is deleted
+            and the lease extended
+            """)
+    void purgeSnapshotBatch_snapshotsLeft_deletesBatch() {
+        // given
+        ProjectDeletionJob job = createJob();
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+        ReflectionTestUtils.setField(projectPurger, "leaseMillis", 300_000L);
+        when(projectSnapshotRepository.deleteBatchByProjectId(5L, 3)).thenReturn(3);
+
+        // when
+        int actual = projectPurger.purgeSnapshotBatch(1L, 3);
+
+        // then
+        assertThat(actual).isEqualTo(3);
+        assertThat(job.getLeasedUntil()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("""
+            purgeSnapshotBatch | verify that a job completed by another node is left alone
+            """)
+    void purgeSnapshotBatch_jobCompleted_returnsZero() {
+        // given
+        ProjectDeletionJob job = createJob();
+        job.setStatus(ProjectDeletionJob.Status.COMPLETED);
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+
+        // when
+        int actual = projectPurger.purgeSnapshotBatch(1L, 3);
+
+        // then
+        assertThat(actual).isZero();
+        verify(projectSnapshotRepository, never()).deleteBatchByProjectId(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("""
+            finish | verify that members and project row are removed and job completed
+            """)
+    void finish_completesJob() {
+        // given
+        ProjectDeletionJob job = createJob();
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+
+        // when
+        projectPurger.finish(1L);
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ProjectDeletionJob.Status.COMPLETED);
+        verify(projectMemberRepository).deleteByProjectId(5L);
+        verify(projectRepository).purgeById(5L);
+    }
+
+    @Test
+    @DisplayName("""
+            claimJobs | verify that claimed jobs are leased so other nodes skip them
+            """)
+    void claimJobs_leasesClaimedJobs() {
+        // given
+        final LocalDateTime before = LocalDateTime.now();
+        ProjectDeletionJob job = createJob();
+        ReflectionTestUtils.setField(projectPurger, "leaseMillis", 300_000L);
+
+        when(jobRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(job));
+
+        // when
+        List<ProjectDeletionJob> claimed = projectPurger.claimJobs(10);
+
+        // then
+        assertThat(claimed).containsExactly(job);
+        assertThat(job.getLeasedUntil()).isAfterOrEqualTo(before.plusMinutes(5));
+    }
+
+    @Test
+    @DisplayName("""
+            purgeTaskBatch | verify that a job completed by another node is not purged again
+            """)
+    void purgeTaskBatch_jobCompleted_returnsZero() {
+        // given
+        ProjectDeletionJob job = createJob();
+        job.setStatus(ProjectDeletionJob.Status.COMPLETED);
+
+        when(jobRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(job));
+
+        // when
+        int actual = projectPurger.purgeTaskBatch(1L, 3);
+
+        // then
+        assertThat(actual).isZero();
+        verify(taskRepository, never()).findIdsByProjectId(any(), anyInt());
+        verify(blobStore, never()).release(any());
+    }
+
+    private ProjectDeletionJob createJob() {
+        ProjectDeletionJob job = new ProjectDeletionJob();
+        job.setId(1L);
+        job.setProjectId(5L);
+        job.setRequestedBy("manager@example.com");
+        job.setStatus(ProjectDeletionJob.Status.PENDING);
+        return job;
+    }
+}
@@ -3,6 +3,7 @@ package taskmanagement.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -18,6 +19,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,17 +30,25 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.dto.project.ProjectDeletionJobDto;
 import taskmanagement.dto.project.ProjectMemberRequest;
 import taskmanagement.dto.project.ProjectPatchRequestDto;
 import taskmanagement.dto.project.ProjectRequestDto;
 import taskmanagement.dto.project.ProjectResponseDto;
+import taskmanagement.dto.project.ProjectSnapshotDto;
 import taskmanagement.dto.project.ProjectSummaryDto;
+import taskmanagement.dto.projectmember.ProjectMemberDto;
 import taskmanagement.dto.user.UserResponseDto;
+import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
+import taskmanagement.exceptions.MemberAlreadyExistsException;
 import taskmanagement.mapper.ProjectMapper;
 import taskmanagement.mapper.ProjectMemberMapper;
 import taskmanagement.mapper.UserMapper;
@@ -45,10 +56,15 @@ import taskmanagement.mapper.impl.ProjectMapperImpl;
 import taskmanagement.mapper.impl.ProjectMemberMapperImpl;
 import taskmanagement.mapper.impl.UserMapperImpl;
 import taskmanagement.model.Project;
+import taskmanagement.model.ProjectDeletionJob;
 import taskmanagement.model.ProjectMember;
+import taskmanagement.model.ProjectSnapshot;
+import taskmanagement.model.SyncChange;
 import taskmanagement.model.User;
+import taskmanagement.repository.ProjectDeletionJobRepository;
 import taskmanagement.repository.ProjectMemberRepository;
 import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.impl.ProjectServiceImpl;
@@ -62,12 +78,21 @@ public class ProjectServiceTest {
     @Mock
     private ProjectMemberRepository projectMemberRepository;
 
+    @Mock
+    private ProjectDeletionJobRepository projectDeletionJobRepository;
+
+    @Mock
+    private ProjectSnapshotRepository projectSnapshotRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private PermissionValidator permissionValidator;
 
+    @Mock
+    private SyncService syncService;
+
     @Spy
     @InjectMocks
     private ProjectServiceImpl projectServiceImpl;
@@ -83,6 +108,11 @@ public class ProjectServiceTest {
     private ProjectMapper projectMapper =
             new ProjectMapperImpl(projectMemberMapper);
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projectServiceImpl, "maxBurndownDays", 366);
+    }
+
     @Test
     @DisplayName("""
             createProject | validate that method create project,
@@ -292,6 +322,32 @@ public class ProjectServiceTest {
         verify(userMapper,times(1)).toDto(foundUser);
     }
 
+    @Test
+    @DisplayName("""
+            addMemberToProject | user already a member | should throw
+            MemberAlreadyExistsException
+            """)
+    void addMemberToProject_alreadyMember_throwsException() {
+        // given
+        Long projectId = 1L;
+        Project project = new Project();
+        project.setId(projectId);
+        ProjectMemberRequest request = new ProjectMemberRequest(
+                "anna@example.com", ProjectMember.Role.MEMBER);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(userRepository.findByEmail("anna@example.com"))
+                .thenReturn(Optional.of(createUser(4L, "anna", "anna@example.com")));
+        when(projectMemberRepository.save(any(ProjectMember.class)))
+                .thenThrow(integrityViolation("uk_project_members_project_user"));
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.addMemberToProject(
+                projectId, request, "manager@example.com"))
+                .isInstanceOf(MemberAlreadyExistsException.class);
+        verifyNoInteractions(syncService);
+    }
+
     @Test
     @DisplayName("""
             addMemberToProject | validate that method throws when project not found
@@ -355,7 +411,7 @@ public class ProjectServiceTest {
             """)
     void deleteMemberFromProject_validInputs_success() {
         // Given
-        Long projectId = 1L;
+        final Long projectId = 1L;
         String requesterEmail = "manager@example.com";
         String memberEmail = "john@example.com";
 
@@ -363,6 +419,7 @@ public class ProjectServiceTest {
         manager.setEmail(requesterEmail);
 
         User member = new User();
+        member.setId(2L);
         member.setEmail(memberEmail);
 
         Project project = new Project();
@@ -382,6 +439,7 @@ public class ProjectServiceTest {
 
         // Then
         assertThat(project.getMembers()).isEmpty();
+        verify(syncService).recordMembershipRevoked(projectId, List.of(2L));
         verify(projectRepository,times(1)).findById(projectId);
         verify(permissionValidator,times(1)).validateAccess(
                 requesterEmail, projectId, ProjectMember.Role.MANAGER);
@@ -436,6 +494,208 @@ public class ProjectServiceTest {
                 requesterEmail, projectId, ProjectMember.Role.MANAGER);
     }
 
+    @Test
+    @DisplayName("""
+            addMembersToProject | verify that users are resolved in one query
+            and inserted per role
+            """)
+    void addMembersToProject_validRequest_success() {
+        // given
+        Long projectId = 1L;
+        String email = "manager@example.com";
+        User anna = createUser(4L, "anna", "anna@example.com");
+        User jane = createUser(3L, "jane", "jane@example.com");
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER),
+                new ProjectMemberRequest("jane@example.com", ProjectMember.Role.VIEWER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(userRepository.findByEmailIn(Set.of("anna@example.com", "jane@example.com")))
+                .thenReturn(List.of(anna, jane));
+        when(projectMemberRepository.findByProjectIdAndUserEmailIn(eq(projectId), anyCollection()))
+                .thenReturn(List.of(createMember(10L, anna, ProjectMember.Role.MEMBER),
+                        createMember(11L, jane, ProjectMember.Role.VIEWER)));
+
+        // when
+        List<ProjectMemberDto> actual =
+                projectServiceImpl.addMembersToProject(projectId, request, email);
+
+        // then
+        assertThat(actual).extracting(ProjectMemberDto::username)
+                .containsExactly("anna@example.com", "jane@example.com");
+        verify(permissionValidator)
+                .validateAccess(email, projectId, ProjectMember.Role.MANAGER);
+        verify(projectMemberRepository).insertMembers(projectId, List.of(4L), "MEMBER");
+        verify(projectMemberRepository).insertMembers(projectId, List.of(3L), "VIEWER");
+        verify(syncService).recordMemberChanges(List.of(10L, 11L),
+                SyncChange.Operation.UPSERT);
+    }
+
+    @Test
+    @DisplayName("""
+            addMembersToProject | unknown user email | should throw EntityNotFoundException
+            """)
+    void addMembersToProject_unknownUser_throwsException() {
+        // given
+        Long projectId = 1L;
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER),
+                new ProjectMemberRequest("nobody@example.com", ProjectMember.Role.MEMBER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(userRepository.findByEmailIn(anyCollection()))
+                .thenReturn(List.of(createUser(4L, "anna", "anna@example.com")));
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.addMembersToProject(
+                projectId, request, "manager@example.com"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("nobody@example.com");
+        verify(projectMemberRepository, never()).insertMembers(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            addMembersToProject | user already a member | should throw
+            MemberAlreadyExistsException
+            """)
+    void addMembersToProject_alreadyMember_throwsException() {
+        // given
+        Long projectId = 1L;
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(userRepository.findByEmailIn(anyCollection()))
+                .thenReturn(List.of(createUser(4L, "anna", "anna@example.com")));
+        when(projectMemberRepository.insertMembers(projectId, List.of(4L), "MEMBER"))
+                .thenThrow(integrityViolation("project_members.uk_project_members_project_user"));
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.addMembersToProject(
+                projectId, request, "manager@example.com"))
+                .isInstanceOf(MemberAlreadyExistsException.class)
+                .hasMessageContaining("anna@example.com");
+        verifyNoInteractions(syncService);
+    }
+
+    @Test
+    @DisplayName("""
+            addMembersToProject | other integrity violation | should be rethrown
+            """)
+    void addMembersToProject_otherViolation_rethrown() {
+        // given
+        Long projectId = 1L;
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(userRepository.findByEmailIn(anyCollection()))
+                .thenReturn(List.of(createUser(4L, "anna", "anna@example.com")));
+        when(projectMemberRepository.insertMembers(projectId, List.of(4L), "MEMBER"))
+                .thenThrow(integrityViolation("fk_project_members_project"));
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.addMembersToProject(
+                projectId, request, "manager@example.com"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("""
+            addMembersToProject | repeated email | should throw InvalidRequestException
+            """)
+    void addMembersToProject_repeatedEmail_throwsException() {
+        // given
+        Long projectId = 1L;
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MEMBER),
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.VIEWER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.addMembersToProject(
+                projectId, request, "manager@example.com"))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            updateMemberRoles | verify that roles are updated with one statement per role
+            """)
+    void updateMemberRoles_validRequest_success() {
+        // given
+        Long projectId = 1L;
+        String email = "manager@example.com";
+        User anna = createUser(4L, "anna", "anna@example.com");
+        List<ProjectMemberRequest> request = List.of(
+                new ProjectMemberRequest("anna@example.com", ProjectMember.Role.MANAGER));
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectMemberRepository.findByProjectIdAndUserEmailIn(
+                projectId, Set.of("anna@example.com")))
+                .thenReturn(List.of(createMember(10L, anna, ProjectMember.Role.MEMBER)))
+                .thenReturn(List.of(createMember(10L, anna, ProjectMember.Role.MANAGER)));
+
+        // when
+        List<ProjectMemberDto> actual =
+                projectServiceImpl.updateMemberRoles(projectId, request, email);
+
+        // then
+        assertThat(actual).extracting(ProjectMemberDto::role).containsExactly("MANAGER");
+        verify(projectMemberRepository).updateRole(List.of(10L), ProjectMember.Role.MANAGER);
+        verify(syncService).recordMemberChanges(anyCollection(),
+                eq(SyncChange.Operation.UPSERT));
+    }
+
+    @Test
+    @DisplayName("""
+            deleteMembersFromProject | verify that members are removed in one batch
+            """)
+    void deleteMembersFromProject_validRequest_success() {
+        // given
+        Long projectId = 1L;
+        String email = "manager@example.com";
+        User anna = createUser(4L, "anna", "anna@example.com");
+        User jane = createUser(3L, "jane", "jane@example.com");
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectMemberRepository.findByProjectIdAndUserEmailIn(eq(projectId), anyCollection()))
+                .thenReturn(List.of(createMember(10L, anna, ProjectMember.Role.MEMBER),
+                        createMember(11L, jane, ProjectMember.Role.VIEWER)));
+
+        // when
+        projectServiceImpl.deleteMembersFromProject(projectId,
+                List.of("anna@example.com", "jane@example.com"), email);
+
+        // then
+        verify(syncService).recordMemberChanges(List.of(10L, 11L),
+                SyncChange.Operation.DELETE);
+        verify(projectMemberRepository).deleteByIds(List.of(10L, 11L));
+    }
+
+    @Test
+    @DisplayName("""
+            deleteMembersFromProject | user not in project | should throw EntityNotFoundException
+            """)
+    void deleteMembersFromProject_notMember_throwsException() {
+        // given
+        Long projectId = 1L;
+
+        when(projectRepository.existsById(projectId)).thenReturn(true);
+        when(projectMemberRepository.findByProjectIdAndUserEmailIn(eq(projectId), anyCollection()))
+                .thenReturn(List.of());
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.deleteMembersFromProject(projectId,
+                List.of("anna@example.com"), "manager@example.com"))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("anna@example.com");
+        verify(projectMemberRepository, never()).deleteByIds(any());
+    }
+
     @Test
     @DisplayName("""
             getUserProjects | verify that method returns list of projects
@@ -443,21 +703,16 @@ public class ProjectServiceTest {
             """)
     void getUserProjects_returnsListOfProjects() {
         // Given
-
-        Project p1 = new Project();
-        p1.setId(1L);
-        p1.setName("Project A");
-
-        Project p2 = new Project();
-        p2.setId(2L);
-        p2.setName("Project B");
-
         String email = "john@example.com";
+        Long userId = 2L;
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Project> page = new PageImpl<>(List.of(p1, p2));
+        Slice<ProjectSummaryDto> slice = new SliceImpl<>(List.of(
+                new ProjectSummaryDto(1L, "Project A"),
+                new ProjectSummaryDto(2L, "Project B")));
 
-        when(projectRepository.findAllByMemberEmail(email,pageable))
-                .thenReturn(page);
+        when(userRepository.findIdByEmail(email)).thenReturn(Optional.of(userId));
+        when(projectRepository.findSummariesByMemberUserId(userId, pageable))
+                .thenReturn(slice);
 
         // When
         List<ProjectSummaryDto> actual = projectServiceImpl.getUserProjects(email, pageable);
@@ -469,7 +724,7 @@ public class ProjectServiceTest {
         assertThat(actual).extracting(ProjectSummaryDto::name)
                 .containsExactly("Project A", "Project B");
 
-        verify(projectRepository,times(1)).findAllByMemberEmail(email, pageable);
+        verify(projectRepository,times(1)).findSummariesByMemberUserId(userId, pageable);
         verifyNoMoreInteractions(projectRepository);
     }
 
@@ -481,10 +736,11 @@ public class ProjectServiceTest {
     void getUserProjects_returnsEmptyListWhenNoProjects() {
         // Given
         String email = "john@example.com";
-        Page<Project> page = new PageImpl<>(List.of());
+        Long userId = 2L;
         Pageable pageable = PageRequest.of(0, 10);
-        when(projectRepository.findAllByMemberEmail(email, pageable))
-                .thenReturn(page);
+        when(userRepository.findIdByEmail(email)).thenReturn(Optional.of(userId));
+        when(projectRepository.findSummariesByMemberUserId(userId, pageable))
+                .thenReturn(new SliceImpl<>(List.of()));
 
         // When
         List<ProjectSummaryDto> actual = projectServiceImpl.getUserProjects(email,pageable);
@@ -492,10 +748,29 @@ public class ProjectServiceTest {
         // Then
         assertThat(actual).isEmpty();
 
-        verify(projectRepository,times(1)).findAllByMemberEmail(email, pageable);
+        verify(projectRepository,times(1)).findSummariesByMemberUserId(userId, pageable);
         verifyNoMoreInteractions(projectRepository);
     }
 
+    @Test
+    @DisplayName("""
+            getUserProjects | verify method returns empty list
+            when user does not exist
+            """)
+    void getUserProjects_unknownUser_returnsEmptyList() {
+        // Given
+        String email = "nobody@example.com";
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.findIdByEmail(email)).thenReturn(Optional.empty());
+
+        // When
+        List<ProjectSummaryDto> actual = projectServiceImpl.getUserProjects(email, pageable);
+
+        // Then
+        assertThat(actual).isEmpty();
+        verifyNoInteractions(projectRepository);
+    }
+
     @DisplayName("""
             getProjectById | validate that method returns project dto
             when project exists
@@ -520,7 +795,7 @@ public class ProjectServiceTest {
                 List.of()
         );
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.findWithMembersById(projectId)).thenReturn(Optional.of(project));
 
         // When
         ProjectResponseDto actual = projectServiceImpl.getProjectById(projectId);
@@ -528,7 +803,7 @@ public class ProjectServiceTest {
         // Then
         assertThat(actual).isEqualTo(responseDto);
 
-        verify(projectRepository,times(1)).findById(projectId);
+        verify(projectRepository,times(1)).findWithMembersById(projectId);
         verify(projectMapper,times(1)).toDto(project);
         verifyNoMoreInteractions(projectRepository);
     }
@@ -542,13 +817,13 @@ public class ProjectServiceTest {
         // Given
         Long projectId = 1L;
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findWithMembersById(projectId)).thenReturn(Optional.empty());
 
         // When / Then
         assertThatThrownBy(() -> projectServiceImpl.getProjectById(projectId))
                 .isInstanceOf(EntityNotFoundException.class);
 
-        verify(projectRepository).findById(projectId);
+        verify(projectRepository).findWithMembersById(projectId);
         verifyNoInteractions(projectMapper);
     }
 
@@ -597,7 +872,7 @@ public class ProjectServiceTest {
                 Project.Status.IN_PROGRESS
         );
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existing));
+        when(projectRepository.findWithMembersById(projectId)).thenReturn(Optional.of(existing));
         when(projectRepository.save(existing)).thenReturn(updated);
         when(projectMapper.toDto(updated)).thenReturn(expectedDto);
         doNothing().when(permissionValidator).validateAccess(
@@ -615,7 +890,7 @@ public class ProjectServiceTest {
         // then
         assertThat(actual).isEqualTo(expectedDto);
 
-        verify(projectRepository).findById(projectId);
+        verify(projectRepository).findWithMembersById(projectId);
         verify(permissionValidator)
                 .validateAccess(email, projectId, ProjectMember.Role.MANAGER);
 
@@ -640,14 +915,14 @@ public class ProjectServiceTest {
                 Project.Status.IN_PROGRESS
         );
 
-        when(projectRepository.findById(projectId)).thenReturn(Optional.empty());
+        when(projectRepository.findWithMembersById(projectId)).thenReturn(Optional.empty());
 
         // when + then
         assertThatThrownBy(() ->
                 projectServiceImpl.updateProject(projectId, patchDto, email)
         ).isInstanceOf(EntityNotFoundException.class);
 
-        verify(projectRepository,times(1)).findById(projectId);
+        verify(projectRepository,times(1)).findWithMembersById(projectId);
         verifyNoInteractions(permissionValidator,projectMapper);
         verifyNoMoreInteractions(projectRepository);
     }
@@ -659,21 +934,28 @@ public class ProjectServiceTest {
     void deleteProject_validRequest_success() {
         // given
         Long projectId = 1L;
-        String email = "manager@example.com";
 
         Project project = new Project();
         project.setId(projectId);
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectDeletionJobRepository.save(any(ProjectDeletionJob.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        String email = "manager@example.com";
 
         // when
-        projectServiceImpl.deleteProject(projectId, email);
+        ProjectDeletionJobDto actual = projectServiceImpl.deleteProject(projectId, email);
 
         // then
+        assertThat(actual.projectId()).isEqualTo(projectId);
+        assertThat(actual.status()).isEqualTo(ProjectDeletionJob.Status.PENDING);
+        assertThat(project.isDeleted()).isTrue();
         verify(projectRepository,times(1)).findById(projectId);
         verify(permissionValidator,times(1))
                 .validateAccess(email, projectId, ProjectMember.Role.MANAGER);
-        verify(projectRepository).deleteById(projectId);
+        verify(syncService).recordProjectDeleted(projectId);
+        verify(projectRepository).save(project);
+        verify(projectRepository, never()).deleteById(any());
     }
 
     @Test
@@ -697,4 +979,138 @@ public class ProjectServiceTest {
         verify(projectRepository, never()).deleteById(any());
     }
 
+    @Test
+    @DisplayName("""
+            getBurndown | verify that days without snapshot repeat the previous one
+            """)
+    void getBurndown_gaps_filledForward() {
+        // given
+        Long projectId = 1L;
+        LocalDate from = LocalDate.of(2025, 3, 1);
+        LocalDate to = LocalDate.of(2025, 3, 4);
+
+        when(projectSnapshotRepository
+                .findFirstByProjectIdAndSnapshotDateLessThanOrderBySnapshotDateDesc(projectId,
+                        from))
+                .thenReturn(Optional.of(createSnapshot(LocalDate.of(2025, 2, 20), 5, 0)));
+        when(projectSnapshotRepository
+                .findByProjectIdAndSnapshotDateBetweenOrderBySnapshotDate(projectId, from, to))
+                .thenReturn(List.of(createSnapshot(LocalDate.of(2025, 3, 3), 3, 2)));
+        String email = "john@example.com";
+
+        // when
+        List<ProjectSnapshotDto> actual =
+                projectServiceImpl.getBurndown(projectId, from, to, email);
+
+        // then
+        assertThat(actual).extracting(ProjectSnapshotDto::date)
+                .containsExactly(from, from.plusDays(1), from.plusDays(2), to);
+        assertThat(actual).extracting(ProjectSnapshotDto::notStarted)
+                .containsExactly(5, 5, 3, 3);
+        assertThat(actual).extracting(ProjectSnapshotDto::completed)
+                .containsExactly(0, 0, 2, 2);
+        verify(permissionValidator)
+                .validateAccess(email, projectId, ProjectMember.Role.VIEWER);
+    }
+
+    @Test
+    @DisplayName("""
+            getBurndown | reversed range | should throw InvalidRequestException
+            """)
+    void getBurndown_reversedRange_throwsException() {
+        // given
+        LocalDate from = LocalDate.of(2025, 3, 4);
+        LocalDate to = LocalDate.of(2025, 3, 1);
+
+        // when + then
+        assertThatThrownBy(() ->
+                projectServiceImpl.getBurndown(1L, from, to, "john@example.com"))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(projectSnapshotRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            getDeletionStatus | requester | should return job progress
+            """)
+    void getDeletionStatus_requester_returnsProgress() {
+        // given
+        Long projectId = 1L;
+        String email = "manager@example.com";
+
+        ProjectDeletionJob job = new ProjectDeletionJob();
+        job.setProjectId(projectId);
+        job.setRequestedBy(email);
+        job.setStatus(ProjectDeletionJob.Status.IN_PROGRESS);
+        job.setTasksDeleted(400);
+        job.setFilesDeleted(12);
+
+        when(projectDeletionJobRepository.findByProjectId(projectId))
+                .thenReturn(Optional.of(job));
+
+        // when
+        ProjectDeletionJobDto actual = projectServiceImpl.getDeletionStatus(projectId, email);
+
+        // then
+        assertThat(actual.status()).isEqualTo(ProjectDeletionJob.Status.IN_PROGRESS);
+        assertThat(actual.tasksDeleted()).isEqualTo(400);
+        assertThat(actual.filesDeleted()).isEqualTo(12);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            getDeletionStatus | other non admin user | should throw AccessDeniedException
+            """)
+    void getDeletionStatus_otherUser_throwsException() {
+        // given
+        Long projectId = 1L;
+
+        ProjectDeletionJob job = new ProjectDeletionJob();
+        job.setProjectId(projectId);
+        job.setRequestedBy("manager@example.com");
+        job.setStatus(ProjectDeletionJob.Status.PENDING);
+
+        String email = "john@example.com";
+        User user = new User();
+        user.setEmail(email);
+        user.setRole(User.Role.USER);
+
+        when(projectDeletionJobRepository.findByProjectId(projectId))
+                .thenReturn(Optional.of(job));
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+
+        // when + then
+        assertThatThrownBy(() -> projectServiceImpl.getDeletionStatus(projectId, email))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("constraint violated",
+                new ConstraintViolationException("constraint violated", null, constraintName));
+    }
+
+    private User createUser(Long id, String username, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+
+    private ProjectMember createMember(Long id, User user, ProjectMember.Role role) {
+        ProjectMember member = new ProjectMember();
+        member.setId(id);
+        member.setUser(user);
+        member.setRole(role);
+        return member;
+    }
+
+    private ProjectSnapshot createSnapshot(LocalDate date, int notStarted, int completed) {
+        ProjectSnapshot snapshot = new ProjectSnapshot();
+        snapshot.setSnapshotDate(date);
+        snapshot.setNotStarted(notStarted);
+        snapshot.setCompleted(completed);
+        return snapshot;
+    }
 }
@@ -0,0 +1,99 @@
+package taskmanagement.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.repository.ProjectRepository;
+import taskmanagement.repository.ProjectSnapshotRepository;
+import taskmanagement.repository.SyncChangeRepository;
+import taskmanagement.service.project.ProjectSnapshotJob;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectSnapshotJobTest {
+
+    @Mock
+    private ProjectSnapshotRepository snapshotRepository;
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @InjectMocks
+    private ProjectSnapshotJob projectSnapshotJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(projectSnapshotJob, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("""
+            takeSnapshots | verify that only projects changed since last run are written in batches
+            """)
+    void takeSnapshots_changedProjects_upsertedInBatches() {
+        // given
+        when(syncChangeRepository.findLastSeq()).thenReturn(Optional.of(120L));
+        when(snapshotRepository.findLastChangeId()).thenReturn(Optional.of(100L));
+        when(syncChangeRepository.findChangedProjectIds(100L, 120L))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        // when
+        projectSnapshotJob.takeSnapshots();
+
+        // then
+        verify(snapshotRepository).upsertSnapshots(List.of(1L, 2L), LocalDate.now(), 120L);
+        verify(snapshotRepository).upsertSnapshots(List.of(3L), LocalDate.now(), 120L);
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            takeSnapshots | verify that nothing is written when no change happened since last run
+            """)
+    void takeSnapshots_noChanges_skipped() {
+        // given
+        when(syncChangeRepository.findLastSeq()).thenReturn(Optional.of(120L));
+        when(snapshotRepository.findLastChangeId()).thenReturn(Optional.of(120L));
+
+        // when
+        projectSnapshotJob.takeSnapshots();
+
+        // then
+        verify(syncChangeRepository, never()).findChangedProjectIds(any(), any());
+        verify(snapshotRepository, never()).upsertSnapshots(any(), any(), eq(120L));
+    }
+
+    @Test
+    @DisplayName("""
+            takeSnapshots | verify that first run snapshots every project
+            """)
+    void takeSnapshots_firstRun_allProjects() {
+        // given
+        when(syncChangeRepository.findLastSeq()).thenReturn(Optional.of(5L));
+        when(snapshotRepository.findLastChangeId()).thenReturn(Optional.empty());
+        when(projectRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+
+        // when
+        projectSnapshotJob.takeSnapshots();
+
+        // then
+        verify(snapshotRepository).upsertSnapshots(List.of(1L, 2L), LocalDate.now(), 5L);
+    }
+}
@@ -0,0 +1,357 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.dropbox.core.NetworkIOException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.dto.attachment.AttachmentStorageStatsDto;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.exceptions.StorageUnavailableException;
+import taskmanagement.service.dropbox.DropboxService;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.ContentHasher;
+import taskmanagement.service.storage.LocalAttachmentStorage;
+import taskmanagement.service.storage.ResilientAttachmentStorage;
+import taskmanagement.service.storage.StoredFile;
+
+class ResilientAttachmentStorageTest {
+
+    private static final byte[] CONTENT = "attachment content".getBytes(StandardCharsets.UTF_8);
+    private static final long OPEN_DURATION_MILLIS = 200;
+
+    @TempDir
+    private Path root;
+
+    private FaultInjectingStorage faulty;
+    private ResilientAttachmentStorage storage;
+    private String path;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        LocalAttachmentStorage local = new LocalAttachmentStorage();
+        ReflectionTestUtils.setField(local, "directory", root.toString());
+        local.init();
+        faulty = new FaultInjectingStorage(local);
+        storage = new ResilientAttachmentStorage(faulty,
+                CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+                        .failureRateThreshold(50)
+                        .slidingWindowSize(4)
+                        .minimumNumberOfCalls(4)
+                        .waitDurationInOpenState(Duration.ofMillis(OPEN_DURATION_MILLIS))
+                        .permittedNumberOfCallsInHalfOpenState(1)
+                        .recordException(DropboxService::isTransient)
+                        .build()),
+                Bulkhead.of("test", BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ofMillis(20))
+                        .build()),
+                Retry.of("test", RetryConfig.custom()
+                        .maxAttempts(3)
+                        .intervalFunction(IntervalFunction.ofExponentialRandomBackoff(1, 2.0, 0.5))
+                        .retryOnException(DropboxService::isTransient)
+                        .build()));
+        path = local.put("/files/test.txt",
+                new ByteArrayInputStream(CONTENT),
+                CONTENT.length,
+                ContentHasher.hash(new ByteArrayInputStream(CONTENT))).path();
+    }
+
+    @Test
+    @DisplayName("""
+            get | transient network failures should be retried until the read succeeds
+            """)
+    void get_transientFailures_retried() throws IOException {
+        // given
+        faulty.failNext(2, ResilientAttachmentStorageTest::networkFailure);
+
+        // when
+        byte[] actual;
+        try (InputStream in = storage.get(path)) {
+            actual = in.readAllBytes();
+        }
+
+        // then
+        assertArrayEquals(CONTENT, actual);
+        assertEquals(3, faulty.calls.get());
+        assertEquals(1, storage.getStats().orElseThrow().retriedCalls());
+    }
+
+    @Test
+    @DisplayName("""
+            get | read still failing after all attempts should surface the last error
+            """)
+    void get_persistentFailure_givesUpAfterMaxAttempts() {
+        // given
+        faulty.failNext(5, ResilientAttachmentStorageTest::networkFailure);
+
+        // when + then
+        assertThrows(FileStorageException.class, () -> storage.get(path));
+        assertEquals(3, faulty.calls.get());
+        assertEquals(1, storage.getStats().orElseThrow().failedCallsAfterRetry());
+    }
+
+    @Test
+    @DisplayName("""
+            get | open stream should hold its bulkhead slot and be recorded only once closed
+            """)
+    void get_openStream_holdsPermitUntilClosed() throws IOException {
+        // given
+        InputStream in = storage.get(path);
+
+        // when
+        final AttachmentStorageStatsDto whileOpen = storage.getStats().orElseThrow();
+        assertThrows(StorageUnavailableException.class, () -> storage.size(path));
+        in.readAllBytes();
+        in.close();
+        in.close();
+
+        // then
+        AttachmentStorageStatsDto afterClose = storage.getStats().orElseThrow();
+        assertEquals(0, whileOpen.availableConcurrentCalls());
+        assertEquals(0, whileOpen.bufferedCalls());
+        assertEquals(1, afterClose.availableConcurrentCalls());
+        assertEquals(2, afterClose.bufferedCalls());
+        assertEquals(CONTENT.length, storage.size(path));
+    }
+
+    @Test
+    @DisplayName("""
+            delete | non-idempotent operations should not be retried
+            """)
+    void delete_transientFailure_notRetried() {
+        // given
+        faulty.failNext(1, ResilientAttachmentStorageTest::networkFailure);
+
+        // when + then
+        assertThrows(FileStorageException.class, () -> storage.delete(path));
+        assertEquals(1, faulty.calls.get());
+    }
+
+    @Test
+    @DisplayName("""
+            size | client errors should be neither retried nor counted against the remote
+            """)
+    void size_clientError_notRetriedNorRecorded() {
+        // given
+        faulty.failNext(4, () -> new FileStorageException("path is not a file"));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FileStorageException.class, () -> storage.size(path));
+        }
+
+        // then
+        assertEquals(4, faulty.calls.get());
+        assertEquals("CLOSED", storage.getStats().orElseThrow().circuitState());
+        assertEquals(CONTENT.length, storage.size(path));
+    }
+
+    @Test
+    @DisplayName("""
+            circuit breaker | should open after repeated failures and fail fast without calls
+            """)
+    void circuitBreaker_repeatedFailures_failsFast() {
+        // given
+        faulty.failNext(4, ResilientAttachmentStorageTest::networkFailure);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FileStorageException.class,
+                    () -> storage.move(path, "/files/moved.txt"));
+        }
+
+        // when + then
+        assertThrows(StorageUnavailableException.class, () -> storage.size(path));
+        AttachmentStorageStatsDto stats = storage.getStats().orElseThrow();
+        assertEquals("OPEN", stats.circuitState());
+        assertEquals(100f, stats.failureRate());
+        assertEquals(1, stats.notPermittedCalls());
+        assertEquals(4, faulty.calls.get());
+    }
+
+    @Test
+    @DisplayName("""
+            circuit breaker | should let a probe through after the open period and close again
+            """)
+    void circuitBreaker_remoteRecovers_closesAgain() throws InterruptedException {
+        // given
+        faulty.failNext(4, ResilientAttachmentStorageTest::networkFailure);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FileStorageException.class,
+                    () -> storage.move(path, "/files/moved.txt"));
+        }
+        Thread.sleep(OPEN_DURATION_MILLIS + 50);
+
+        // when
+        long size = storage.size(path);
+
+        // then
+        assertEquals(CONTENT.length, size);
+        assertEquals("CLOSED", storage.getStats().orElseThrow().circuitState());
+    }
+
+    @Test
+    @DisplayName("""
+            bulkhead | calls beyond the concurrency limit should be rejected quickly
+            """)
+    void bulkhead_full_rejectsQuickly() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        faulty.blockOn(release);
+        final CompletableFuture<Long> stalled =
+                CompletableFuture.supplyAsync(() -> storage.size(path));
+        assertTrue(faulty.entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(StorageUnavailableException.class, () -> storage.delete(path));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        AttachmentStorageStatsDto stats = storage.getStats().orElseThrow();
+        release.countDown();
+
+        // then
+        assertTrue(elapsedMillis < 1000, "rejection took " + elapsedMillis + " ms");
+        assertEquals(0, stats.availableConcurrentCalls());
+        assertEquals(CONTENT.length, stalled.get(5, TimeUnit.SECONDS));
+    }
+
+    private static RuntimeException networkFailure() {
+        return new FileStorageException("Failed to reach Dropbox",
+                new NetworkIOException(new SocketTimeoutException("Read timed out")));
+    }
+
+    private static final class FaultInjectingStorage implements AttachmentStorage {
+        private final AttachmentStorage delegate;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile Supplier<RuntimeException> failure;
+        private volatile CountDownLatch blocker;
+
+        private FaultInjectingStorage(AttachmentStorage delegate) {
+            this.delegate = delegate;
+        }
+
+        private void failNext(int count, Supplier<RuntimeException> error) {
+            failure = error;
+            failuresLeft.set(count);
+        }
+
+        private void blockOn(CountDownLatch latch) {
+            blocker = latch;
+        }
+
+        private void inject() {
+            calls.incrementAndGet();
+            entered.countDown();
+            CountDownLatch latch = blocker;
+            if (latch != null) {
+                try {
+                    latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw failure.get();
+            }
+        }
+
+        @Override
+        public StoredFile put(String path, InputStream data, long size, String contentHash)
+                throws IOException {
+            inject();
+            return delegate.put(path, data, size, contentHash);
+        }
+
+        @Override
+        public InputStream get(String path) throws IOException {
+            inject();
+            return delegate.get(path);
+        }
+
+        @Override
+        public InputStream getRange(String path, long offset, long length) throws IOException {
+            inject();
+            return delegate.getRange(path, offset, length);
+        }
+
+        @Override
+        public long size(String path) {
+            inject();
+            return delegate.size(path);
+        }
+
+        @Override
+        public StoredFile move(String fromPath, String toPath) {
+            inject();
+            return delegate.move(fromPath, toPath);
+        }
+
+        @Override
+        public void delete(String path) {
+            inject();
+            delegate.delete(path);
+        }
+
+        @Override
+        public Map<String, String> deleteBatch(List<String> paths) {
+            inject();
+            return delegate.deleteBatch(paths);
+        }
+
+        @Override
+        public String startUpload() throws IOException {
+            inject();
+            return delegate.startUpload();
+        }
+
+        @Override
+        public void appendChunk(String uploadId,
+                                long offset,
+                                InputStream data,
+                                long length,
+                                boolean last) throws IOException {
+            inject();
+            delegate.appendChunk(uploadId, offset, data, length, last);
+        }
+
+        @Override
+        public StoredFile finishUpload(String uploadId, long size, String path)
+                throws IOException {
+            inject();
+            return delegate.finishUpload(uploadId, size, path);
+        }
+
+        @Override
+        public boolean isRemote() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.service.mail.SmtpTransportPool;
+
+class SmtpTransportPoolTest {
+
+    private static final int MESSAGES = 300;
+
+    private FakeSmtpServer server;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new FakeSmtpServer();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(server.port());
+        pool = new SmtpTransportPool(mailSender);
+        ReflectionTestUtils.setField(pool, "size", 1);
+        ReflectionTestUtils.setField(pool, "maxMessagesPerConnection", 100);
+        ReflectionTestUtils.setField(pool, "idleTimeoutMillis", 30_000L);
+        pool.init();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        pool.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("""
+            send | messages should reuse the open connection up to the per-connection limit
+            """)
+    void send_manyMessages_connectionReused() throws Exception {
+        // given
+        SmtpTransportPool.Connection connection = pool.acquire();
+
+        // when
+        for (int i = 0; i < MESSAGES; i++) {
+            connection.send(message(i));
+        }
+        pool.release(connection);
+
+        // then
+        assertEquals(MESSAGES, server.messages());
+        assertEquals(3, server.connections());
+    }
+
+    @Test
+    @DisplayName("""
+            send | connection dropped by the server should be reopened without losing the message
+            """)
+    void send_connectionDropped_reconnects() throws Exception {
+        // given
+        server.dropAfterMessages(5);
+        SmtpTransportPool.Connection connection = pool.acquire();
+
+        // when
+        for (int i = 0; i < 12; i++) {
+            connection.send(message(i));
+        }
+        pool.release(connection);
+
+        // then
+        assertEquals(12, server.messages());
+        assertEquals(3, server.connections());
+    }
+
+    private MimeMessage message(int index) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@test.com");
+        helper.setTo("user" + index + "@example.com");
+        helper.setSubject("Task Reminder " + index);
+        helper.setText("<p>Reminder " + index + "</p>", true);
+        return message;
+    }
+}
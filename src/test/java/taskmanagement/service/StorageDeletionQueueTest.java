@@ -0,0 +1,153 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.exceptions.FileStorageException;
+import taskmanagement.model.StorageDeletion;
+import taskmanagement.repository.StorageDeletionRepository;
+import taskmanagement.service.storage.AttachmentStorage;
+import taskmanagement.service.storage.StorageDeletionQueue;
+
+@ExtendWith(MockitoExtension.class)
+class StorageDeletionQueueTest {
+
+    @Mock
+    private StorageDeletionRepository deletionRepository;
+    @Mock
+    private AttachmentStorage storage;
+
+    @InjectMocks
+    private StorageDeletionQueue deletionQueue;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(deletionQueue, "retryDelayMillis", 1000L);
+        ReflectionTestUtils.setField(deletionQueue, "maxRetryDelayMillis", 4000L);
+    }
+
+    @Test
+    @DisplayName("""
+            enqueue | each distinct path should be recorded once and be due immediately
+            """)
+    void enqueue_duplicatePaths_recordedOnce() {
+        // when
+        deletionQueue.enqueue(List.of("/blobs/a", "/blobs/b", "/blobs/a"));
+
+        // then
+        verify(deletionRepository).saveAll(argThat((List<StorageDeletion> deletions) ->
+                deletions.size() == 2
+                        && deletions.get(0).getPath().equals("/blobs/a")
+                        && deletions.get(1).getPath().equals("/blobs/b")
+                        && !deletions.get(0).getNextAttemptAt().isAfter(LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("""
+            processBatch | due paths should be deleted in one batch call and their rows removed
+            """)
+    void processBatch_allDeleted_rowsRemoved() {
+        // given
+        StorageDeletion first = deletion("/blobs/a", 0);
+        StorageDeletion second = deletion("/tasks/7", 2);
+        when(deletionRepository.findDueForUpdate(any(), eq(10)))
+                .thenReturn(List.of(first, second));
+        when(storage.deleteBatch(List.of("/blobs/a", "/tasks/7"))).thenReturn(Map.of());
+
+        // when
+        int processed = deletionQueue.processBatch(10);
+
+        // then
+        assertEquals(2, processed);
+        verify(deletionRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("""
+            processBatch | failed paths should be kept with exponential backoff and the error
+            """)
+    void processBatch_partialFailure_rescheduled() {
+        // given
+        StorageDeletion deleted = deletion("/blobs/a", 0);
+        StorageDeletion failed = deletion("/blobs/b", 1);
+        when(deletionRepository.findDueForUpdate(any(), eq(10)))
+                .thenReturn(List.of(deleted, failed));
+        when(storage.deleteBatch(List.of("/blobs/a", "/blobs/b")))
+                .thenReturn(Map.of("/blobs/b", "path_write/conflict"));
+
+        // when
+        final LocalDateTime before = LocalDateTime.now();
+        deletionQueue.processBatch(10);
+
+        // then
+        verify(deletionRepository).deleteAllInBatch(List.of(deleted));
+        assertEquals(2, failed.getAttempts());
+        assertEquals("path_write/conflict", failed.getLastError());
+        assertTrue(!failed.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+        assertNull(deleted.getLastError());
+    }
+
+    @Test
+    @DisplayName("""
+            processBatch | unavailable storage should reschedule the whole batch up to the cap
+            """)
+    void processBatch_storageUnavailable_allRescheduled() {
+        // given
+        StorageDeletion deletion = deletion("/blobs/a", 5);
+        when(deletionRepository.findDueForUpdate(any(), eq(10))).thenReturn(List.of(deletion));
+        when(storage.deleteBatch(List.of("/blobs/a")))
+                .thenThrow(new FileStorageException("circuit open"));
+
+        // when
+        final LocalDateTime before = LocalDateTime.now();
+        deletionQueue.processBatch(10);
+
+        // then
+        verify(deletionRepository).deleteAllInBatch(List.of());
+        assertEquals(6, deletion.getAttempts());
+        assertEquals("circuit open", deletion.getLastError());
+        assertTrue(deletion.getNextAttemptAt().isBefore(before.plusSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("""
+            processBatch | nothing due should not call the storage
+            """)
+    void processBatch_nothingDue_noop() {
+        // given
+        when(deletionRepository.findDueForUpdate(any(), eq(10))).thenReturn(List.of());
+
+        // when
+        int processed = deletionQueue.processBatch(10);
+
+        // then
+        assertEquals(0, processed);
+        verifyNoInteractions(storage);
+    }
+
+    private StorageDeletion deletion(String path, int attempts) {
+        StorageDeletion deletion = new StorageDeletion();
+        deletion.setPath(path);
+        deletion.setAttempts(attempts);
+        deletion.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        return deletion;
+    }
+}
@@ -0,0 +1,73 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import taskmanagement.model.SyncChange;
+import taskmanagement.repository.SyncChangeRepository;
+import taskmanagement.service.sync.SyncSequencer;
+
+@ExtendWith(MockitoExtension.class)
+class SyncSequencerTest {
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @InjectMocks
+    private SyncSequencer syncSequencer;
+
+    @Test
+    @DisplayName("""
+            sequencePending | committed changes should get consecutive sequence numbers
+            """)
+    void sequencePending_committedChanges_numberedAfterLastSequence() {
+        // given
+        SyncChange first = change(40L);
+        SyncChange second = change(38L);
+        when(syncChangeRepository.lockLastSeq()).thenReturn(17L);
+        when(syncChangeRepository.findUnsequencedForUpdate(100))
+                .thenReturn(List.of(first, second));
+
+        // when
+        int sequenced = syncSequencer.sequencePending(100);
+
+        // then
+        assertEquals(2, sequenced);
+        assertEquals(18L, first.getSeq());
+        assertEquals(19L, second.getSeq());
+        verify(syncChangeRepository).updateLastSeq(19L);
+    }
+
+    @Test
+    @DisplayName("""
+            sequencePending | nothing pending should leave the sequence untouched
+            """)
+    void sequencePending_nothingPending_sequenceUnchanged() {
+        // given
+        when(syncChangeRepository.lockLastSeq()).thenReturn(17L);
+        when(syncChangeRepository.findUnsequencedForUpdate(100)).thenReturn(List.of());
+
+        // when
+        int sequenced = syncSequencer.sequencePending(100);
+
+        // then
+        assertEquals(0, sequenced);
+        verify(syncChangeRepository, never()).updateLastSeq(anyLong());
+    }
+
+    private SyncChange change(Long id) {
+        SyncChange change = new SyncChange();
+        change.setId(id);
+        return change;
+    }
+}
@@ -0,0 +1,229 @@
+package taskmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.dto.sync.SyncResponseDto;
+import taskmanagement.mapper.AttachmentMapper;
+import taskmanagement.mapper.CommentMapper;
+import taskmanagement.mapper.ProjectMemberMapper;
+import taskmanagement.mapper.TaskMapper;
+import taskmanagement.mapper.impl.AttachmentMapperImpl;
+import taskmanagement.mapper.impl.CommentMapperImpl;
+import taskmanagement.mapper.impl.ProjectMemberMapperImpl;
+import taskmanagement.mapper.impl.TaskMapperImpl;
+import taskmanagement.model.SyncChange;
+import taskmanagement.model.Task;
+import taskmanagement.repository.AttachmentRepository;
+import taskmanagement.repository.CommentRepository;
+import taskmanagement.repository.ProjectMemberRepository;
+import taskmanagement.repository.SyncChangeRepository;
+import taskmanagement.repository.TaskRepository;
+import taskmanagement.service.impl.SyncServiceImpl;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.markdown.MarkdownRenderer;
+
+@ExtendWith(MockitoExtension.class)
+public class SyncServiceTest {
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private ProjectMemberRepository projectMemberRepository;
+
+    @Spy
+    private TaskMapper taskMapper =
+            new TaskMapperImpl(new MarkdownCache(new MarkdownRenderer()));
+
+    @Spy
+    private CommentMapper commentMapper =
+            new CommentMapperImpl(new MarkdownCache(new MarkdownRenderer()));
+
+    @Spy
+    private AttachmentMapper attachmentMapper = new AttachmentMapperImpl();
+
+    @Spy
+    private ProjectMemberMapper projectMemberMapper = new ProjectMemberMapperImpl();
+
+    @InjectMocks
+    private SyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(syncService, "maxBatchSize", 500);
+    }
+
+    @Test
+    @DisplayName("""
+            getChanges | verify that method keep only the latest change per entity,
+            return tombstones without payload and advance the cursor
+            """)
+    void getChanges_compactsChanges_success() {
+        // given
+        Task task = new Task();
+        task.setId(7L);
+        task.setName("Task");
+
+        SyncChange firstUpdate = change(11L, SyncChange.EntityType.TASK, 7L,
+                SyncChange.Operation.UPSERT);
+        SyncChange secondUpdate = change(12L, SyncChange.EntityType.TASK, 7L,
+                SyncChange.Operation.UPSERT);
+        SyncChange deletion = change(13L, SyncChange.EntityType.COMMENT, 3L,
+                SyncChange.Operation.DELETE);
+
+        when(syncChangeRepository.findChangesForMember(eq("user@example.com"),
+                eq(10L), any(Pageable.class)))
+                .thenReturn(List.of(firstUpdate, secondUpdate, deletion));
+        when(taskRepository.findAllById(Set.of(7L))).thenReturn(List.of(task));
+
+        // when
+        SyncResponseDto result = syncService.getChanges("user@example.com", 10L, 100);
+
+        // then
+        assertThat(result.nextCursor()).isEqualTo(13L);
+        assertThat(result.hasMore()).isFalse();
+        assertThat(result.changes()).hasSize(2);
+        assertThat(result.changes().get(0).sequence()).isEqualTo(12L);
+        assertThat(result.changes().get(0).payload()).isNotNull();
+        assertThat(result.changes().get(1).operation()).isEqualTo(SyncChange.Operation.DELETE);
+        assertThat(result.changes().get(1).payload()).isNull();
+        verifyNoInteractions(commentRepository, attachmentRepository, projectMemberRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            getChanges | verify that method report more changes when batch is full
+            """)
+    void getChanges_batchFull_hasMore() {
+        // given
+        SyncChange first = change(1L, SyncChange.EntityType.COMMENT, 1L,
+                SyncChange.Operation.DELETE);
+        SyncChange second = change(2L, SyncChange.EntityType.COMMENT, 2L,
+                SyncChange.Operation.DELETE);
+
+        when(syncChangeRepository.findChangesForMember(eq("user@example.com"),
+                eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+
+        // when
+        SyncResponseDto result = syncService.getChanges("user@example.com", 0L, 1);
+
+        // then
+        assertThat(result.hasMore()).isTrue();
+        assertThat(result.nextCursor()).isEqualTo(1L);
+        assertThat(result.changes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("""
+            getChanges | verify that method return a project resync without payload
+            """)
+    void getChanges_projectResync_noPayload() {
+        // given
+        SyncChange resync = change(5L, SyncChange.EntityType.PROJECT, 1L,
+                SyncChange.Operation.RESYNC);
+
+        when(syncChangeRepository.findChangesForMember(eq("user@example.com"),
+                eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(resync));
+
+        // when
+        SyncResponseDto result = syncService.getChanges("user@example.com", 0L, 100);
+
+        // then
+        assertThat(result.changes()).hasSize(1);
+        assertThat(result.changes().get(0).operation()).isEqualTo(SyncChange.Operation.RESYNC);
+        assertThat(result.changes().get(0).payload()).isNull();
+        verifyNoInteractions(taskRepository, commentRepository, attachmentRepository,
+                projectMemberRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            recordDelete | verify that method store tombstone for entity
+            """)
+    void recordDelete_savesTombstone() {
+        // when
+        syncService.recordDelete(SyncChange.EntityType.ATTACHMENT, 4L, 2L);
+
+        // then
+        ArgumentCaptor<SyncChange> captor = ArgumentCaptor.forClass(SyncChange.class);
+        verify(syncChangeRepository).save(captor.capture());
+        assertThat(captor.getValue().getEntityType()).isEqualTo(SyncChange.EntityType.ATTACHMENT);
+        assertThat(captor.getValue().getEntityId()).isEqualTo(4L);
+        assertThat(captor.getValue().getProjectId()).isEqualTo(2L);
+        assertThat(captor.getValue().getOperation()).isEqualTo(SyncChange.Operation.DELETE);
+    }
+
+    @Test
+    @DisplayName("""
+            recordMembershipGranted | verify that method queue one project resync
+             per new member
+            """)
+    void recordMembershipGranted_insertsResyncs() {
+        // when
+        syncService.recordMembershipGranted(2L, List.of(5L, 6L));
+
+        // then
+        verify(syncChangeRepository).insertProjectResyncs(eq(2L), eq(List.of(5L, 6L)), any());
+        verifyNoMoreInteractions(syncChangeRepository);
+    }
+
+    @Test
+    @DisplayName("""
+            recordMembershipRevoked | verify that method queue a project revocation
+             for the removed members
+            """)
+    void recordMembershipRevoked_insertsRevocations() {
+        // when
+        syncService.recordMembershipRevoked(2L, List.of(5L, 6L));
+
+        // then
+        verify(syncChangeRepository).insertProjectRevocations(eq(2L), eq(List.of(5L, 6L)),
+                any());
+    }
+
+    private SyncChange change(Long id,
+                              SyncChange.EntityType type,
+                              Long entityId,
+                              SyncChange.Operation operation) {
+        SyncChange change = new SyncChange();
+        change.setId(id);
+        change.setSeq(id);
+        change.setProjectId(1L);
+        change.setEntityType(type);
+        change.setEntityId(entityId);
+        change.setOperation(operation);
+        change.setChangedAt(LocalDateTime.of(2025, 1, 1, 12, 0));
+        return change;
+    }
+}
@@ -0,0 +1,65 @@
+package taskmanagement.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.repository.TaskRepository;
+import taskmanagement.service.counter.TaskCounterRepairJob;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskCounterRepairJobTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @InjectMocks
+    private TaskCounterRepairJob taskCounterRepairJob;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskCounterRepairJob, "chunkSize", 100);
+    }
+
+    @Test
+    @DisplayName("""
+            repairCounters | verify that counters are recomputed in id range chunks
+            """)
+    void repairCounters_recomputesInChunks() {
+        // given
+        when(taskRepository.findMaxId()).thenReturn(Optional.of(250L));
+
+        // when
+        taskCounterRepairJob.repairCounters();
+
+        // then
+        verify(taskRepository).recomputeCounters(0L, 100L);
+        verify(taskRepository).recomputeCounters(100L, 200L);
+        verify(taskRepository).recomputeCounters(200L, 300L);
+    }
+
+    @Test
+    @DisplayName("""
+            repairCounters | verify that nothing runs when there are no tasks
+            """)
+    void repairCounters_noTasks_skipped() {
+        // given
+        when(taskRepository.findMaxId()).thenReturn(Optional.empty());
+
+        // when
+        taskCounterRepairJob.repairCounters();
+
+        // then
+        verify(taskRepository, never()).recomputeCounters(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,80 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import taskmanagement.model.Task;
+import taskmanagement.model.User;
+import taskmanagement.repository.TaskReminderDeliveryRepository;
+import taskmanagement.service.reminder.TaskReminderSender;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReminderSenderTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2024, 1, 2);
+
+    @Mock
+    private TaskReminderDeliveryRepository deliveryRepository;
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private TaskReminderSender reminderSender;
+
+    @Test
+    @DisplayName("""
+            send | first delivery for the due date should be recorded and queue the reminder
+            """)
+    void send_firstDelivery_queuesReminder() {
+        // given
+        Task task = task();
+        when(deliveryRepository.insertIfAbsent(eq(7L), eq(DUE_DATE), any())).thenReturn(1);
+
+        // when
+        boolean sent = reminderSender.send(task);
+
+        // then
+        assertTrue(sent);
+        verify(emailService).sendTaskReminder(task.getAssignee(), task);
+    }
+
+    @Test
+    @DisplayName("""
+            send | reminder already delivered for the due date should not be queued again
+            """)
+    void send_alreadyDelivered_skipped() {
+        // given
+        Task task = task();
+        when(deliveryRepository.insertIfAbsent(eq(7L), eq(DUE_DATE), any())).thenReturn(0);
+
+        // when
+        boolean sent = reminderSender.send(task);
+
+        // then
+        assertFalse(sent);
+        verifyNoInteractions(emailService);
+    }
+
+    private Task task() {
+        User assignee = new User();
+        assignee.setEmail("assignee@example.com");
+        Task task = new Task();
+        task.setId(7L);
+        task.setName("Task A");
+        task.setDueDate(DUE_DATE);
+        task.setAssignee(assignee);
+        return task;
+    }
+}
@@ -1,38 +1,51 @@
 package taskmanagement.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
 import taskmanagement.repository.TaskRepository;
 import taskmanagement.service.impl.TaskReminderServiceImpl;
+import taskmanagement.service.reminder.TaskReminderSender;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskReminderServiceTest {
 
+    private static final LocalDate TOMORROW = LocalDate.of(2024, 1, 2);
+
     @Mock
     private TaskRepository taskRepository;
 
     @Mock
-    private EmailService emailService;
+    private TaskReminderSender reminderSender;
 
-    @InjectMocks
     private TaskReminderServiceImpl taskReminderService;
 
+    @BeforeEach
+    void setUp() {
+        taskReminderService = new TaskReminderServiceImpl(taskRepository, reminderSender,
+                Runnable::run);
+        ReflectionTestUtils.setField(taskReminderService, "pageSize", 2);
+        ReflectionTestUtils.setField(taskReminderService, "retentionDays", 30);
+    }
+
     @Test
     @DisplayName("""
             sendTaskReminders | verify that method do nothing
@@ -40,84 +53,92 @@ public class TaskReminderServiceTest {
             """)
     void sendTaskReminders_noTasks() {
         // given
-        LocalDate tomorrow = LocalDate.of(2024, 1, 2);
-
         try (MockedStatic<LocalDate> mockedDate = mockStatic(LocalDate.class)) {
-            mockedDate.when(LocalDate::now).thenReturn(tomorrow.minusDays(1));
+            mockedDate.when(LocalDate::now).thenReturn(TOMORROW.minusDays(1));
 
-            when(taskRepository.findByDueDate(tomorrow)).thenReturn(List.of());
+            when(taskRepository.findDueWithAssigneeAfter(eq(TOMORROW), eq(0L),
+                    any(Pageable.class))).thenReturn(List.of());
 
             // when
             taskReminderService.sendTaskReminders();
 
             // then
-            verify(taskRepository).findByDueDate(tomorrow);
-            verifyNoInteractions(emailService);
+            verify(reminderSender, never()).send(any(Task.class));
+            verify(reminderSender).purgeDeliveriesBefore(TOMORROW.minusDays(31));
         }
     }
 
     @Test
     @DisplayName("""
-            sendTaskReminders | verify that method send reminder for each task with assignee
+            sendTaskReminders | verify that tasks are read in keyset pages
+             and a reminder is sent for each of them
             """)
     void sendTaskReminders_success() {
         // given
-        LocalDate tomorrow = LocalDate.of(2024, 1, 2);
-
-        User user = new User();
-        user.setEmail("test@example.com");
-
-        User assignee = new User();
-        assignee.setEmail("assignee@example.com");
-
-        Task task = new Task();
-        task.setName("Task A");
-        task.setAssignee(user);
-
-        Task task2 = new Task();
-        task2.setName("Task B");
-        task2.setAssignee(assignee);
-
-        List<Task> tasks = List.of(task, task2);
+        Task task1 = task(1L);
+        Task task2 = task(2L);
+        Task task3 = task(3L);
 
         try (MockedStatic<LocalDate> mockedDate = mockStatic(LocalDate.class)) {
-            mockedDate.when(LocalDate::now).thenReturn(tomorrow.minusDays(1));
+            mockedDate.when(LocalDate::now).thenReturn(TOMORROW.minusDays(1));
 
-            when(taskRepository.findByDueDate(tomorrow)).thenReturn(tasks);
+            when(taskRepository.findDueWithAssigneeAfter(eq(TOMORROW), eq(0L),
+                    any(Pageable.class))).thenReturn(List.of(task1, task2));
+            when(taskRepository.findDueWithAssigneeAfter(eq(TOMORROW), eq(2L),
+                    any(Pageable.class))).thenReturn(List.of(task3));
+            when(reminderSender.send(any(Task.class))).thenReturn(true);
 
             // when
             taskReminderService.sendTaskReminders();
 
             // then
-            verify(taskRepository).findByDueDate(tomorrow);
-            verify(emailService, times(2))
-                    .sendTaskReminder(any(User.class), any(Task.class));
+            verify(reminderSender).send(task1);
+            verify(reminderSender).send(task2);
+            verify(reminderSender).send(task3);
+            verify(taskRepository, times(2))
+                    .findDueWithAssigneeAfter(eq(TOMORROW), any(), any(Pageable.class));
         }
     }
 
     @Test
     @DisplayName("""
-            sendTaskReminders | verify that method skip tasks without assignee
+            sendTaskReminders | verify that a failing task does not stop
+             reminders for the remaining tasks
             """)
-    void sendTaskReminders_noAssignee() {
+    void sendTaskReminders_failure_continues() {
         // given
-        LocalDate tomorrow = LocalDate.of(2024, 1, 2);
-
-        Task t1 = new Task();
-        t1.setName("Task A");
-        t1.setAssignee(null);
+        Task task1 = task(1L);
+        Task task2 = task(2L);
 
         try (MockedStatic<LocalDate> mockedDate = mockStatic(LocalDate.class)) {
-            mockedDate.when(LocalDate::now).thenReturn(tomorrow.minusDays(1));
+            mockedDate.when(LocalDate::now).thenReturn(TOMORROW.minusDays(1));
 
-            when(taskRepository.findByDueDate(tomorrow)).thenReturn(List.of(t1));
+            when(taskRepository.findDueWithAssigneeAfter(eq(TOMORROW), eq(0L),
+                    any(Pageable.class))).thenReturn(List.of(task1, task2));
+            when(taskRepository.findDueWithAssigneeAfter(eq(TOMORROW), eq(2L),
+                    any(Pageable.class))).thenReturn(List.of());
+            when(reminderSender.send(task1)).thenThrow(new IllegalStateException("db down"));
+            when(reminderSender.send(task2)).thenReturn(false);
 
             // when
             taskReminderService.sendTaskReminders();
 
             // then
-            verify(taskRepository).findByDueDate(tomorrow);
-            verifyNoInteractions(emailService);
+            verify(reminderSender).send(task1);
+            verify(reminderSender).send(task2);
+            verify(reminderSender).purgeDeliveriesBefore(TOMORROW.minusDays(31));
         }
     }
+
+    private Task task(Long id) {
+        User assignee = new User();
+        assignee.setEmail("assignee" + id + "@example.com");
+
+        Task task = new Task();
+        task.setId(id);
+        task.setName("Task " + id);
+        task.setDueDate(TOMORROW);
+        task.setAssignee(assignee);
+        return task;
+    }
 }
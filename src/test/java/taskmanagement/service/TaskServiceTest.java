@@ -18,6 +18,7 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
@@ -31,11 +32,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import taskmanagement.dto.task.TaskMoveRequestDto;
 import taskmanagement.dto.task.TaskPatchRequestDto;
 import taskmanagement.dto.task.TaskRequestDto;
 import taskmanagement.dto.task.TaskResponseDto;
 import taskmanagement.exceptions.AccessDeniedException;
 import taskmanagement.exceptions.EntityNotFoundException;
+import taskmanagement.exceptions.InvalidRequestException;
 import taskmanagement.mapper.TaskMapper;
 import taskmanagement.mapper.impl.TaskMapperImpl;
 import taskmanagement.model.Label;
@@ -43,12 +46,19 @@ import taskmanagement.model.Project;
 import taskmanagement.model.ProjectMember;
 import taskmanagement.model.Task;
 import taskmanagement.model.User;
+import taskmanagement.repository.AttachmentRepository;
 import taskmanagement.repository.LabelRepository;
 import taskmanagement.repository.ProjectRepository;
 import taskmanagement.repository.TaskRepository;
 import taskmanagement.repository.UserRepository;
 import taskmanagement.security.PermissionValidator;
 import taskmanagement.service.impl.TaskServiceImpl;
+import taskmanagement.service.markdown.MarkdownCache;
+import taskmanagement.service.markdown.MarkdownRenderer;
+import taskmanagement.service.rank.LexoRank;
+import taskmanagement.service.rank.TaskRankRebalancer;
+import taskmanagement.service.storage.AttachmentBlobStore;
+import taskmanagement.service.storage.StorageDeletionQueue;
 
 @ExtendWith(MockitoExtension.class)
 public class TaskServiceTest {
@@ -63,7 +73,8 @@ public class TaskServiceTest {
     private UserRepository userRepository;
 
     @Spy
-    private TaskMapper taskMapper = new TaskMapperImpl();
+    private TaskMapper taskMapper =
+            new TaskMapperImpl(new MarkdownCache(new MarkdownRenderer()));
 
     @Mock
     private PermissionValidator permissionValidator;
@@ -74,6 +85,27 @@ public class TaskServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private SyncService syncService;
+
+    @Mock
+    private MarkdownCache markdownCache;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentBlobStore blobStore;
+
+    @Mock
+    private StorageDeletionQueue deletionQueue;
+
+    @Spy
+    private LexoRank lexoRank = new LexoRank();
+
+    @Mock
+    private TaskRankRebalancer rankRebalancer;
+
     @InjectMocks
     private TaskServiceImpl taskServiceImpl;
 
@@ -131,7 +163,10 @@ public class TaskServiceTest {
                 savedTask.getDueDate(),
                 savedTask.getProject().getName(),
                 savedTask.getAssignee().getEmail(),
-                expectedLabels
+                expectedLabels,
+                0,
+                0,
+                null
         );
 
         String email = "manager@example.com";
@@ -326,7 +361,10 @@ public class TaskServiceTest {
                 null,
                 project.getName(),
                 null,
-                Set.of()
+                Set.of(),
+                0,
+                0,
+                null
         );
 
         TaskResponseDto dto2 = new TaskResponseDto(
@@ -338,7 +376,10 @@ public class TaskServiceTest {
                 null,
                 project.getName(),
                 null,
-                Set.of()
+                Set.of(),
+                0,
+                0,
+                null
         );
 
         String email = "viewer@example.com";
@@ -410,7 +451,10 @@ public class TaskServiceTest {
                 null,
                 null,
                 null,
-                Set.of()
+                Set.of(),
+                0,
+                0,
+                null
         );
 
         String email = "viewer@example.com";
@@ -481,7 +525,10 @@ public class TaskServiceTest {
                 null,
                 project.getName(),
                 null,
-                Set.of());
+                Set.of(),
+                0,
+                0,
+                null);
 
         String email = "manager@mail.com";
 
@@ -514,6 +561,7 @@ public class TaskServiceTest {
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
         verify(taskMapper).updateFromPatch(requestPatchDto, task);
         verify(taskRepository).save(task);
+        verify(markdownCache).evictTask(taskId);
     }
 
     @Test
@@ -553,7 +601,10 @@ public class TaskServiceTest {
                 null,
                 project.getName(),
                 task.getAssignee().getUsernameField(),
-                Set.of()
+                Set.of(),
+                0,
+                0,
+                null
         );
 
         TaskPatchRequestDto requestPatchDto = new TaskPatchRequestDto(
@@ -783,6 +834,136 @@ public class TaskServiceTest {
         verify(taskRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("""
+            moveTask | verify that method place task between neighbours
+            and write only the moved task
+            """)
+    void moveTask_betweenNeighbours_success() {
+        // given
+        Long taskId = 3L;
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(taskId);
+        task.setProject(project);
+        task.setStatus(Task.Status.NOT_STARTED);
+        task.setRank("z");
+
+        String email = "manager@example.com";
+
+        when(taskRepository.findByIdWithRelations(taskId)).thenReturn(Optional.of(task));
+        doNothing().when(permissionValidator)
+                .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
+        when(taskRepository.findRankInColumn(1L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("a"));
+        when(taskRepository.findRankInColumn(2L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("b"));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        TaskMoveRequestDto request = new TaskMoveRequestDto(
+                Task.Status.IN_PROGRESS,
+                1L,
+                2L
+        );
+
+        // when
+        taskServiceImpl.moveTask(taskId, request, email);
+
+        // then
+        assertThat(task.getStatus()).isEqualTo(Task.Status.IN_PROGRESS);
+        assertThat(task.getRank()).isGreaterThan("a").isLessThan("b");
+        verify(taskRepository).save(task);
+        verify(taskRepository, never()).findMaxRankInColumn(any(), any());
+        verify(taskRepository, never()).saveAll(any());
+        verify(projectRepository).lockById(project.getId());
+        verify(rankRebalancer, never()).rebalanceColumn(any(), any());
+    }
+
+    @Test
+    @DisplayName("""
+            moveTask | verify that colliding neighbour ranks rebalance the column
+            and the move is retried
+            """)
+    void moveTask_rankCollision_rebalancesAndRetries() {
+        // given
+        Long taskId = 3L;
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(taskId);
+        task.setProject(project);
+        task.setStatus(Task.Status.NOT_STARTED);
+
+        String email = "manager@example.com";
+
+        when(taskRepository.findByIdWithRelations(taskId)).thenReturn(Optional.of(task));
+        doNothing().when(permissionValidator)
+                .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
+        when(taskRepository.findRankInColumn(1L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("a"), Optional.of("i"));
+        when(taskRepository.findRankInColumn(2L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("a"), Optional.of("r"));
+        when(taskRepository.save(task)).thenReturn(task);
+
+        TaskMoveRequestDto request = new TaskMoveRequestDto(
+                Task.Status.IN_PROGRESS,
+                1L,
+                2L
+        );
+
+        // when
+        taskServiceImpl.moveTask(taskId, request, email);
+
+        // then
+        assertThat(task.getRank()).isGreaterThan("i").isLessThan("r");
+        verify(rankRebalancer).rebalanceColumn(project.getId(), Task.Status.IN_PROGRESS);
+        verify(taskRepository).save(task);
+    }
+
+    @Test
+    @DisplayName("""
+            moveTask | verify that method throw InvalidRequestException
+            when neighbours are given in reverse order
+            """)
+    void moveTask_reversedNeighbours_throwsException() {
+        // given
+        Long taskId = 3L;
+
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(taskId);
+        task.setProject(project);
+
+        String email = "manager@example.com";
+
+        when(taskRepository.findByIdWithRelations(taskId)).thenReturn(Optional.of(task));
+        doNothing().when(permissionValidator)
+                .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
+        when(taskRepository.findRankInColumn(1L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("b"));
+        when(taskRepository.findRankInColumn(2L, project.getId(), Task.Status.IN_PROGRESS))
+                .thenReturn(Optional.of("a"));
+
+        TaskMoveRequestDto request = new TaskMoveRequestDto(
+                Task.Status.IN_PROGRESS,
+                1L,
+                2L
+        );
+
+        // when + then
+        assertThrows(InvalidRequestException.class,
+                () -> taskServiceImpl.moveTask(taskId, request, email));
+        verify(rankRebalancer, never()).rebalanceColumn(any(), any());
+        verify(taskRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("""
             deleteTask | verify that method delete task when User has access
@@ -811,7 +992,36 @@ public class TaskServiceTest {
         verify(taskRepository).findById(taskId);
         verify(permissionValidator)
                 .validateAccess(email, project.getId(), ProjectMember.Role.MANAGER);
+        verify(syncService).recordTaskDeleted(taskId, project.getId());
+        verify(taskRepository).delete(task);
+    }
+
+    @Test
+    @DisplayName("""
+            deleteTask | attachment files should be queued for deletion and blobs released
+            """)
+    void deleteTask_withAttachments_releasesStorage() {
+        // given
+        Project project = new Project();
+        project.setId(1L);
+
+        Task task = new Task();
+        task.setId(1L);
+        task.setProject(project);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(attachmentRepository.findTaskIdsWithLegacyAttachments(List.of(1L)))
+                .thenReturn(List.of(1L));
+        when(attachmentRepository.findContentHashesByTaskIdsForUpdate(List.of(1L)))
+                .thenReturn(List.of("hash-a", "hash-a", "hash-b"));
+
+        // when
+        taskServiceImpl.deleteTask(1L, "manager@example.com");
+
+        // then
         verify(taskRepository).delete(task);
+        verify(deletionQueue).enqueue(List.of("/tasks/1"));
+        verify(blobStore).release(Map.of("hash-a", 2L, "hash-b", 1L));
     }
 
     @Test
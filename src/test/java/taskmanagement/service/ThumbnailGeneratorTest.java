@@ -0,0 +1,104 @@
+package taskmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import taskmanagement.model.AttachmentThumbnail;
+import taskmanagement.service.thumbnail.ThumbnailGenerator;
+
+class ThumbnailGeneratorTest {
+
+    private ThumbnailGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new ThumbnailGenerator();
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 100_000_000L);
+    }
+
+    @Test
+    @DisplayName("""
+            generate | every size should be produced as a JPEG keeping the aspect ratio
+            """)
+    void generate_landscapeImage_allSizesScaled() throws IOException {
+        // given
+        byte[] png = png(2000, 1000);
+
+        // when
+        List<ThumbnailGenerator.Thumbnail> thumbnails =
+                generator.generate(new ByteArrayInputStream(png));
+
+        // then
+        assertEquals(3, thumbnails.size());
+        for (ThumbnailGenerator.Thumbnail thumbnail : thumbnails) {
+            int box = thumbnail.size().getPixels();
+            assertEquals(box, thumbnail.width());
+            assertEquals(box / 2, thumbnail.height());
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.data()));
+            assertEquals(box, decoded.getWidth());
+        }
+    }
+
+    @Test
+    @DisplayName("""
+            generate | images smaller than a size should not be upscaled
+            """)
+    void generate_smallImage_notUpscaled() throws IOException {
+        // when
+        List<ThumbnailGenerator.Thumbnail> thumbnails =
+                generator.generate(new ByteArrayInputStream(png(200, 100)));
+
+        // then
+        ThumbnailGenerator.Thumbnail large = thumbnails.stream()
+                .filter(thumbnail -> thumbnail.size() == AttachmentThumbnail.Size.LARGE)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(200, large.width());
+        assertEquals(100, large.height());
+    }
+
+    @Test
+    @DisplayName("""
+            generate | images above the pixel limit and non-images should be skipped
+            """)
+    void generate_oversizedOrUnreadable_empty() throws IOException {
+        // given
+        ReflectionTestUtils.setField(generator, "maxSourcePixels", 1000L);
+
+        // when + then
+        assertTrue(generator.generate(new ByteArrayInputStream(png(100, 100))).isEmpty());
+        assertTrue(generator.generate(new ByteArrayInputStream(
+                "plain text".getBytes(StandardCharsets.UTF_8))).isEmpty());
+    }
+
+    @Test
+    @DisplayName("""
+            supports | only files with an image extension should be accepted
+            """)
+    void supports_byExtension() {
+        assertTrue(generator.supports("photo.PNG"));
+        assertTrue(generator.supports("scan.jpeg"));
+        assertFalse(generator.supports("report.pdf"));
+        assertFalse(generator.supports("README"));
+        assertFalse(generator.supports(null));
+    }
+
+    private byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}